@@ -0,0 +1,59 @@
+package org.websoso.s3.benchmark;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 입력으로 사용할 이미지를 메모리에서 생성합니다.
+ * <p>
+ * {@code ImageType}의 형식 중 JDK {@link ImageIO}로 인코딩할 수 있는 형식만 생성하며,
+ * 압축률이 지나치게 높아지지 않도록 그라데이션에 잡음을 섞습니다. 같은 인자에는 항상 같은 바이트를 반환합니다.
+ * </p>
+ */
+public final class BenchmarkImages {
+
+    /**
+     * 생성할 수 있는 형식 ({@link ImageIO} 형식 이름)
+     */
+    public static final String[] FORMATS = {"jpeg", "png", "gif", "bmp", "tiff"};
+
+    private BenchmarkImages() {
+
+    }
+
+    public static byte[] generate(String format, int dimension) {
+        BufferedImage image = new BufferedImage(dimension, dimension, BufferedImage.TYPE_INT_RGB);
+        SplittableRandom random = new SplittableRandom(dimension);
+        for (int y = 0; y < dimension; y++) {
+            for (int x = 0; x < dimension; x++) {
+                int noise = random.nextInt(32);
+                int r = (x * 255 / dimension + noise) & 0xFF;
+                int g = (y * 255 / dimension + noise) & 0xFF;
+                int b = ((x + y) * 127 / dimension + noise) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            if (!ImageIO.write(image, format, out)) {
+                throw new IllegalArgumentException("No ImageIO writer for format: " + format);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static String mimeType(String format) {
+        return "image/" + format;
+    }
+
+    public static String extension(String format) {
+        return "jpeg".equals(format) ? ".jpg" : "." + format;
+    }
+}
@@ -0,0 +1,54 @@
+package org.websoso.s3.benchmark;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 네트워크 없이 업로드 경로를 측정하기 위한 프로세스 내 {@link S3Client}입니다.
+ * <p>
+ * PUT 요청 본문을 끝까지 읽어 버리고 성공 응답을 반환하므로, 요청 구성과 본문 읽기 비용은 포함되고 네트워크 비용은 제외됩니다.
+ * </p>
+ */
+public final class FakeS3Client implements S3Client {
+
+    private static final PutObjectResponse RESPONSE = (PutObjectResponse) PutObjectResponse.builder()
+            .eTag("\"benchmark\"")
+            .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+            .build();
+
+    private final S3Utilities utilities = S3Utilities.builder().region(Region.AP_NORTHEAST_2).build();
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+        try (InputStream content = requestBody.contentStreamProvider().newStream()) {
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return RESPONSE;
+    }
+
+    @Override
+    public S3Utilities utilities() {
+        return utilities;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
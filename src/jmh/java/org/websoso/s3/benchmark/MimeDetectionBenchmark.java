@@ -0,0 +1,46 @@
+package org.websoso.s3.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.websoso.s3.config.S3DetectionProperties;
+import org.websoso.s3.config.S3DetectionProperties.MimeDetection;
+import org.websoso.s3.core.strategy.MimeTypeDetectionStrategy;
+import org.websoso.s3.factory.MimeTypeDetectionStrategyFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 감지 전략별, 이미지 형식별, 크기별 MIME 타입 감지 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class MimeDetectionBenchmark {
+
+    @Param({"FAST", "SIGNATURE", "PRECISE"})
+    private MimeDetection mode;
+
+    @Param({"jpeg", "png", "gif", "bmp", "tiff"})
+    private String format;
+
+    @Param({"64", "512", "2048"})
+    private int dimension;
+
+    private MimeTypeDetectionStrategy strategy;
+    private byte[] image;
+
+    @Setup
+    public void setUp() {
+        S3DetectionProperties properties = new S3DetectionProperties();
+        properties.setMimeDetection(mode);
+        strategy = MimeTypeDetectionStrategyFactory.from(properties);
+        image = BenchmarkImages.generate(format, dimension);
+    }
+
+    @Benchmark
+    public String detect() throws IOException {
+        return strategy.detect(new ByteArrayInputStream(image));
+    }
+}
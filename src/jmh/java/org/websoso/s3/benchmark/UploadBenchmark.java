@@ -0,0 +1,62 @@
+package org.websoso.s3.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.websoso.s3.config.S3DetectionProperties;
+import org.websoso.s3.config.S3DetectionProperties.MimeDetection;
+import org.websoso.s3.core.S3DefaultService;
+import org.websoso.s3.core.S3FileService;
+import org.websoso.s3.core.S3ImageService;
+import org.websoso.s3.factory.MimeTypeDetectionStrategyFactory;
+import org.websoso.s3.modle.S3UploadResult;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * {@link FakeS3Client}를 사용해 서비스의 업로드 호출 전체(검증, 감지, 스풀, 요청 구성, 본문 읽기, URL 생성) 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class UploadBenchmark {
+
+    /**
+     * {@code FILE}은 {@link S3FileService}, 나머지는 해당 감지 방식의 {@link S3ImageService}입니다.
+     */
+    @Param({"FILE", "FAST", "SIGNATURE", "PRECISE"})
+    private String service;
+
+    @Param({"jpeg", "png"})
+    private String format;
+
+    @Param({"64", "512", "2048"})
+    private int dimension;
+
+    private S3DefaultService uploadService;
+    private byte[] image;
+    private String contentType;
+    private String key;
+
+    @Setup
+    public void setUp() {
+        FakeS3Client s3Client = new FakeS3Client();
+        if ("FILE".equals(service)) {
+            uploadService = new S3FileService(s3Client, "benchmark-bucket");
+        } else {
+            S3DetectionProperties properties = new S3DetectionProperties();
+            properties.setMimeDetection(MimeDetection.valueOf(service));
+            uploadService = new S3ImageService(s3Client, "benchmark-bucket",
+                    MimeTypeDetectionStrategyFactory.from(properties));
+        }
+
+        image = BenchmarkImages.generate(format, dimension);
+        contentType = BenchmarkImages.mimeType(format);
+        key = "benchmark/image" + BenchmarkImages.extension(format);
+    }
+
+    @Benchmark
+    public S3UploadResult upload() {
+        return uploadService.upload(key, new ByteArrayInputStream(image), contentType, image.length);
+    }
+}
@@ -0,0 +1,61 @@
+package org.websoso.s3.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.websoso.s3.benchmark.BenchmarkImages;
+import org.websoso.s3.config.S3DetectionProperties;
+import org.websoso.s3.config.S3DetectionProperties.MimeDetection;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.factory.MimeTypeDetectionStrategyFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * {@link S3ImageService}가 InputStream 업로드 전에 수행하는 검증 과정(요청 검증, 스풀, MIME 타입 검증)만 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class ImageValidationBenchmark {
+
+    @Param({"FAST", "SIGNATURE", "PRECISE"})
+    private MimeDetection mode;
+
+    @Param({"jpeg", "png"})
+    private String format;
+
+    @Param({"64", "512", "2048"})
+    private int dimension;
+
+    private ImageValidator validator;
+    private long spoolMemoryThreshold;
+    private byte[] image;
+    private String contentType;
+
+    @Setup
+    public void setUp() {
+        S3DetectionProperties properties = new S3DetectionProperties();
+        properties.setMimeDetection(mode);
+        validator = new ImageValidator(MimeTypeDetectionStrategyFactory.from(properties));
+        spoolMemoryThreshold = new S3UploadProperties().getSpoolMemoryThreshold();
+        image = BenchmarkImages.generate(format, dimension);
+        contentType = BenchmarkImages.mimeType(format);
+    }
+
+    @Benchmark
+    public long validate() throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(image);
+
+        validator.validateKey("benchmark/image");
+        validator.validateInputStream(inputStream);
+        validator.validateContentType(contentType);
+        validator.validateContentLength(image.length);
+
+        try (StreamSpool spool = StreamSpool.spool(inputStream, image.length, spoolMemoryThreshold)) {
+            validator.validateImage(spool);
+            return spool.length();
+        }
+    }
+}
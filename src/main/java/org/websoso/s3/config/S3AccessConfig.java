@@ -18,6 +18,7 @@ import software.amazon.awssdk.regions.Region;
  * <ul>
  *   <li><b>리전(Region)</b> - 기본값은 {@code ap-northeast-2 (서울)}</li>
  *   <li><b>액세스 키 및 시크릿 키</b> - 명시하지 않으면 {@link software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider}를 사용합니다</li>
+ *   <li><b>전송 프로필</b> - HTTP 클라이언트 구현, 연결 풀, 타임아웃 설정. 기본값은 {@link S3TransportProfile#defaults()}</li>
  * </ul>
  * </p>
  *
@@ -31,6 +32,7 @@ public class S3AccessConfig {
     private String secretKey;
     private Region region = Region.AP_NORTHEAST_2;
     private AwsCredentialsProvider credentialsProvider;
+    private S3TransportProfile transportProfile = S3TransportProfile.defaults();
 
     private S3AccessConfig() {
 
@@ -54,6 +56,7 @@ public class S3AccessConfig {
      *   <li><b>리전(Region)</b> - 명시하지 않으면 기본값으로 {@code ap-northeast-2 (서울)}을 사용합니다.</li>
      *   <li><b>액세스 키 & 시크릿 키</b> - 명시하지 않으면 환경 변수, 시스템 프로퍼티 등에서 값을 가져오는
      *       {@link software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider}를 사용합니다.</li>
+     *   <li><b>전송 프로필</b> - 명시하지 않으면 {@link S3TransportProfile#defaults()}를 사용합니다.</li>
      * </ul>
      * </p>
      *
@@ -112,6 +115,25 @@ public class S3AccessConfig {
             return this;
         }
 
+        /**
+         * HTTP 전송 프로필을 설정합니다.
+         * <p>
+         * 기본값은 {@link S3TransportProfile#defaults()}입니다.
+         * </p>
+         *
+         * @param transportProfile HTTP 클라이언트 구현, 연결 풀, 타임아웃 설정
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 전송 프로필이 null인 경우
+         */
+        public Builder withTransportProfile(S3TransportProfile transportProfile) {
+            if (transportProfile == null) {
+                throw new IllegalArgumentException("Transport profile must not be null");
+            }
+
+            config.transportProfile = transportProfile;
+            return this;
+        }
+
         /**
          * 설정된 정보로 {@link S3AccessConfig} 객체를 생성합니다.
          * <p>
@@ -169,4 +191,8 @@ public class S3AccessConfig {
     public AwsCredentialsProvider getCredentialsProvider() {
         return credentialsProvider;
     }
+
+    public S3TransportProfile getTransportProfile() {
+        return transportProfile;
+    }
 }
\ No newline at end of file
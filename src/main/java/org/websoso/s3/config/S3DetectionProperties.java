@@ -1,9 +1,12 @@
 package org.websoso.s3.config;
 
+import java.time.Duration;
+
 /**
  * S3 이미지 처리 시 MIME 타입 감지 전략을 지정하기 위한 설정 클래스입니다.
  * <p>
- * {@link MimeDetection} 전략에 따라 빠른 감지(확장자 기반) 또는 정밀 감지(Tika 분석 기반)를 선택할 수 있습니다.
+ * {@link MimeDetection} 전략에 따라 빠른 감지(확장자 기반), 정밀 감지(Tika 분석 기반)
+ * 또는 시그니처 감지(매직 바이트 기반)를 선택할 수 있습니다.
  * </p>
  */
 public class S3DetectionProperties {
@@ -13,7 +16,11 @@ public class S3DetectionProperties {
      */
     public enum MimeDetection {
         FAST,
-        PRECISE
+        PRECISE,
+        /**
+         * 이미지 형식의 매직 바이트만 비교하며, 알 수 없는 입력에 한해 Tika로 감지합니다.
+         */
+        SIGNATURE
     }
 
     /**
@@ -21,6 +28,16 @@ public class S3DetectionProperties {
      */
     private MimeDetection mimeDetection = MimeDetection.FAST;
 
+    /**
+     * 정밀 감지 시 파싱에 사용할 최대 바이트 수. 기본값은 16 MiB 입니다.
+     */
+    private long preciseByteBudget = 16L * 1024 * 1024;
+
+    /**
+     * 정밀 감지 시 파싱에 사용할 최대 시간. 기본값은 2초 입니다.
+     */
+    private Duration preciseTimeBudget = Duration.ofSeconds(2);
+
     /**
      * MIME 감지 전략을 반환합니다.
      *
@@ -38,4 +55,50 @@ public class S3DetectionProperties {
     public void setMimeDetection(MimeDetection mimeDetection) {
         this.mimeDetection = (mimeDetection != null) ? mimeDetection : MimeDetection.FAST;
     }
-}
\ No newline at end of file
+
+    /**
+     * 정밀 감지 시 파싱에 사용할 최대 바이트 수를 반환합니다.
+     *
+     * @return 바이트 예산
+     */
+    public long getPreciseByteBudget() {
+        return preciseByteBudget;
+    }
+
+    /**
+     * 정밀 감지 시 파싱에 사용할 최대 바이트 수를 설정합니다.
+     * 예산만큼 읽은 뒤에는 그때까지 확인된 구조로 타입을 판단합니다.
+     *
+     * @param preciseByteBudget 바이트 예산
+     * @throws IllegalArgumentException 값이 0 이하인 경우
+     */
+    public void setPreciseByteBudget(long preciseByteBudget) {
+        if (preciseByteBudget <= 0) {
+            throw new IllegalArgumentException("Precise byte budget must be greater than 0");
+        }
+        this.preciseByteBudget = preciseByteBudget;
+    }
+
+    /**
+     * 정밀 감지 시 파싱에 사용할 최대 시간을 반환합니다.
+     *
+     * @return 시간 예산
+     */
+    public Duration getPreciseTimeBudget() {
+        return preciseTimeBudget;
+    }
+
+    /**
+     * 정밀 감지 시 파싱에 사용할 최대 시간을 설정합니다.
+     * 시간을 넘기면 파싱이 끝나기를 기다리지 않고 {@link org.websoso.s3.exception.MimeDetectionTimeoutException}으로 검증에 실패합니다.
+     *
+     * @param preciseTimeBudget 시간 예산
+     * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+     */
+    public void setPreciseTimeBudget(Duration preciseTimeBudget) {
+        if (preciseTimeBudget == null || preciseTimeBudget.isNegative() || preciseTimeBudget.isZero()) {
+            throw new IllegalArgumentException("Precise time budget must be greater than 0");
+        }
+        this.preciseTimeBudget = preciseTimeBudget;
+    }
+}
@@ -0,0 +1,270 @@
+package org.websoso.s3.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 객체 URL의 생성 방식과 객체 읽기 동작을 지정하기 위한 설정 클래스입니다.
+ * <p>
+ * 기본적으로 버킷의 S3 엔드포인트 URL을 사용하며,
+ * {@link #setCdnBaseUrl(String) CDN 기본 URL}을 지정하면 CloudFront 등 CDN 주소 뒤에 객체 키를 붙인 URL을 반환합니다.
+ * 비공개 버킷을 위한 presigned GET URL의 유효 시간과, 생성한 URL을 재사용하는 캐시의 크기 및 갱신 시점도 지정합니다.
+ * </p>
+ * <p>
+ * {@link #setDiskCacheDirectory(Path) 디스크 캐시 디렉터리}를 지정하면 객체 전체를 내려받을 때 로컬 디스크에 캐시하고,
+ * 이후 요청은 ETag로 재검증한 뒤 디스크에서 제공합니다.
+ * 큰 객체를 여러 범위로 나누어 동시에 받는 병렬 다운로드의 범위 크기와 동시성도 지정합니다.
+ * </p>
+ */
+public class S3ReadProperties {
+
+    /**
+     * 객체 URL의 기본 주소로 사용할 CDN URL. 기본값은 null(S3 엔드포인트 사용) 입니다.
+     */
+    private String cdnBaseUrl;
+
+    /**
+     * presigned URL의 유효 시간. 기본값은 15분 입니다.
+     */
+    private Duration presignTtl = Duration.ofMinutes(15);
+
+    /**
+     * 캐시된 presigned URL을 만료 전에 미리 갱신할 여유 시간. 기본값은 1분 입니다.
+     */
+    private Duration presignRefreshMargin = Duration.ofMinutes(1);
+
+    /**
+     * 캐시할 presigned URL의 최대 개수. 기본값은 10,000 입니다.
+     */
+    private int presignCacheSize = 10_000;
+
+    /**
+     * 내려받은 객체를 캐시할 디렉터리. 기본값은 null(캐시하지 않음) 입니다.
+     */
+    private Path diskCacheDirectory;
+
+    /**
+     * 디스크 캐시의 최대 크기(바이트). 기본값은 512 MiB 입니다.
+     */
+    private long diskCacheMaxBytes = 512L * 1024 * 1024;
+
+    /**
+     * 캐시된 객체를 ETag로 재검증하지 않고 제공하는 시간. 기본값은 1분 입니다.
+     */
+    private Duration diskCacheRevalidateAfter = Duration.ofMinutes(1);
+
+    /**
+     * 병렬 다운로드 시 범위 하나의 크기(바이트). 기본값은 8 MiB 입니다.
+     */
+    private long rangedDownloadPartSize = 8L * 1024 * 1024;
+
+    /**
+     * 병렬 다운로드 시 동시에 받을 최대 범위 수. 기본값은 8 입니다.
+     */
+    private int rangedDownloadConcurrency = 8;
+
+    /**
+     * CDN 기본 URL을 반환합니다.
+     *
+     * @return CDN 기본 URL, 지정하지 않았으면 null
+     */
+    public String getCdnBaseUrl() {
+        return cdnBaseUrl;
+    }
+
+    /**
+     * CDN 기본 URL을 설정합니다. 예: {@code https://d111111abcdef8.cloudfront.net/images}
+     * <p>
+     * 반환되는 URL은 {@code cdnBaseUrl + "/" + 인코딩된 객체 키} 형태이며, 끝의 {@code /}는 생략해도 됩니다.
+     * null을 지정하면 S3 엔드포인트 URL을 사용합니다.
+     * </p>
+     *
+     * @param cdnBaseUrl CDN 기본 URL
+     * @throws IllegalArgumentException http 또는 https URL이 아닌 경우
+     */
+    public void setCdnBaseUrl(String cdnBaseUrl) {
+        if (cdnBaseUrl != null && !cdnBaseUrl.startsWith("https://") && !cdnBaseUrl.startsWith("http://")) {
+            throw new IllegalArgumentException("CDN base URL must start with http:// or https://");
+        }
+        this.cdnBaseUrl = cdnBaseUrl;
+    }
+
+    /**
+     * presigned URL의 유효 시간을 반환합니다.
+     *
+     * @return presigned URL 유효 시간
+     */
+    public Duration getPresignTtl() {
+        return presignTtl;
+    }
+
+    /**
+     * presigned URL의 유효 시간을 설정합니다. SigV4 서명의 최대 유효 시간인 7일을 넘을 수 없습니다.
+     *
+     * @param presignTtl presigned URL 유효 시간
+     * @throws IllegalArgumentException 값이 null이거나 1초 미만 또는 7일 초과인 경우
+     */
+    public void setPresignTtl(Duration presignTtl) {
+        if (presignTtl == null || presignTtl.getSeconds() < 1 || presignTtl.compareTo(Duration.ofDays(7)) > 0) {
+            throw new IllegalArgumentException("Presign TTL must be between 1 second and 7 days");
+        }
+        this.presignTtl = presignTtl;
+    }
+
+    /**
+     * 캐시된 presigned URL을 미리 갱신할 여유 시간을 반환합니다.
+     *
+     * @return 갱신 여유 시간
+     */
+    public Duration getPresignRefreshMargin() {
+        return presignRefreshMargin;
+    }
+
+    /**
+     * 캐시된 presigned URL을 미리 갱신할 여유 시간을 설정합니다.
+     * 남은 유효 시간이 이 값보다 짧아진 URL은 캐시에서 반환하지 않고 새로 서명합니다.
+     * 유효 시간의 절반을 넘는 값은 유효 시간의 절반으로 간주합니다.
+     *
+     * @param presignRefreshMargin 갱신 여유 시간
+     * @throws IllegalArgumentException 값이 null이거나 음수인 경우
+     */
+    public void setPresignRefreshMargin(Duration presignRefreshMargin) {
+        if (presignRefreshMargin == null || presignRefreshMargin.isNegative()) {
+            throw new IllegalArgumentException("Presign refresh margin must not be null or negative");
+        }
+        this.presignRefreshMargin = presignRefreshMargin;
+    }
+
+    /**
+     * 캐시할 presigned URL의 최대 개수를 반환합니다.
+     *
+     * @return presigned URL 캐시 크기
+     */
+    public int getPresignCacheSize() {
+        return presignCacheSize;
+    }
+
+    /**
+     * 캐시할 presigned URL의 최대 개수를 설정합니다. 가득 차면 가장 오래 사용되지 않은 URL부터 제거하며, 0이면 캐시하지 않습니다.
+     *
+     * @param presignCacheSize presigned URL 캐시 크기
+     * @throws IllegalArgumentException 값이 0보다 작은 경우
+     */
+    public void setPresignCacheSize(int presignCacheSize) {
+        if (presignCacheSize < 0) {
+            throw new IllegalArgumentException("Presign cache size must not be negative");
+        }
+        this.presignCacheSize = presignCacheSize;
+    }
+
+    /**
+     * 디스크 캐시 디렉터리를 반환합니다.
+     *
+     * @return 디스크 캐시 디렉터리, 지정하지 않았으면 null
+     */
+    public Path getDiskCacheDirectory() {
+        return diskCacheDirectory;
+    }
+
+    /**
+     * 디스크 캐시 디렉터리를 설정합니다. 디렉터리가 없으면 생성하며, null을 지정하면 캐시하지 않습니다.
+     * 디렉터리는 캐시 전용으로 사용해야 합니다. 같은 디렉터리를 지정한 {@code S3Reader}와 서비스는 하나의 캐시와 크기 제한을 공유하므로,
+     * 모두 같은 최대 크기와 재검증 주기를 사용해야 합니다.
+     *
+     * @param diskCacheDirectory 디스크 캐시 디렉터리
+     */
+    public void setDiskCacheDirectory(Path diskCacheDirectory) {
+        this.diskCacheDirectory = diskCacheDirectory;
+    }
+
+    /**
+     * 디스크 캐시의 최대 크기를 반환합니다.
+     *
+     * @return 디스크 캐시 최대 크기 (바이트)
+     */
+    public long getDiskCacheMaxBytes() {
+        return diskCacheMaxBytes;
+    }
+
+    /**
+     * 디스크 캐시의 최대 크기를 설정합니다. 넘으면 가장 오래 사용되지 않은 객체부터 삭제하며,
+     * 이보다 큰 객체는 캐시하지 않고 바로 내려받습니다.
+     * 삭제된 객체를 아직 내려주고 있는 요청이 있으면, 그 요청이 끝날 때까지는 파일이 차지한 공간이 남습니다.
+     *
+     * @param diskCacheMaxBytes 디스크 캐시 최대 크기 (바이트)
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setDiskCacheMaxBytes(long diskCacheMaxBytes) {
+        if (diskCacheMaxBytes < 1) {
+            throw new IllegalArgumentException("Disk cache max bytes must be greater than 0");
+        }
+        this.diskCacheMaxBytes = diskCacheMaxBytes;
+    }
+
+    /**
+     * 캐시된 객체를 재검증 없이 제공하는 시간을 반환합니다.
+     *
+     * @return 재검증 주기
+     */
+    public Duration getDiskCacheRevalidateAfter() {
+        return diskCacheRevalidateAfter;
+    }
+
+    /**
+     * 캐시된 객체를 재검증 없이 제공하는 시간을 설정합니다.
+     * 이 시간이 지난 객체는 If-None-Match 조건부 GET으로 재검증하며, 0이면 매번 재검증합니다.
+     *
+     * @param diskCacheRevalidateAfter 재검증 주기
+     * @throws IllegalArgumentException 값이 null이거나 음수인 경우
+     */
+    public void setDiskCacheRevalidateAfter(Duration diskCacheRevalidateAfter) {
+        if (diskCacheRevalidateAfter == null || diskCacheRevalidateAfter.isNegative()) {
+            throw new IllegalArgumentException("Disk cache revalidate interval must not be null or negative");
+        }
+        this.diskCacheRevalidateAfter = diskCacheRevalidateAfter;
+    }
+
+    /**
+     * 병렬 다운로드 시 범위 하나의 크기를 반환합니다.
+     *
+     * @return 범위 크기 (바이트)
+     */
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * 병렬 다운로드 시 범위 하나의 크기를 설정합니다. 객체가 이 크기 이하이면 범위를 나누지 않고 한 번에 받습니다.
+     *
+     * @param rangedDownloadPartSize 범위 크기 (바이트)
+     * @throws IllegalArgumentException 값이 1 MiB보다 작은 경우
+     */
+    public void setRangedDownloadPartSize(long rangedDownloadPartSize) {
+        if (rangedDownloadPartSize < 1024 * 1024) {
+            throw new IllegalArgumentException("Ranged download part size must be at least 1 MiB");
+        }
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
+    /**
+     * 병렬 다운로드 시 동시에 받을 최대 범위 수를 반환합니다.
+     *
+     * @return 동시 다운로드 범위 수
+     */
+    public int getRangedDownloadConcurrency() {
+        return rangedDownloadConcurrency;
+    }
+
+    /**
+     * 병렬 다운로드 시 동시에 받을 최대 범위 수를 설정합니다.
+     *
+     * @param rangedDownloadConcurrency 동시 다운로드 범위 수
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setRangedDownloadConcurrency(int rangedDownloadConcurrency) {
+        if (rangedDownloadConcurrency < 1) {
+            throw new IllegalArgumentException("Ranged download concurrency must be greater than 0");
+        }
+        this.rangedDownloadConcurrency = rangedDownloadConcurrency;
+    }
+}
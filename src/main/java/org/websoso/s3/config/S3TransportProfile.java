@@ -0,0 +1,376 @@
+package org.websoso.s3.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * S3 클라이언트가 사용할 HTTP 전송 계층 설정입니다.
+ * <p>
+ * HTTP 클라이언트 구현({@link HttpClientType})과 연결 풀 크기, 각종 타임아웃, 유휴 연결 정리 여부, SDK 재시도 횟수를 지정합니다.
+ * 이 클래스는 {@link Builder}를 통해 생성하며, 자주 쓰는 조합은 {@link #defaults()}, {@link #lowLatency()},
+ * {@link #highThroughput()} 프리셋으로 제공합니다.
+ * </p>
+ * <p>
+ * 모든 항목이 같은 두 프로필은 같은 것으로 취급되므로, {@code S3ClientFactory}는 같은 프로필에 대해 클라이언트를 재사용합니다.
+ * </p>
+ *
+ * @see S3AccessConfig.Builder#withTransportProfile(S3TransportProfile)
+ */
+public final class S3TransportProfile {
+
+    /**
+     * HTTP 클라이언트 구현
+     */
+    public enum HttpClientType {
+        /**
+         * Apache HttpClient (기본값). 비동기 클라이언트는 Netty를 사용합니다.
+         */
+        APACHE,
+        /**
+         * JDK {@code HttpURLConnection}. 의존성이 가장 적지만 연결 풀 설정을 지원하지 않습니다.
+         * {@code software.amazon.awssdk:url-connection-client} 의존성이 필요하며, 비동기 클라이언트는 Netty를 사용합니다.
+         */
+        URL_CONNECTION,
+        /**
+         * AWS Common Runtime. 동기 클라이언트는 {@code software.amazon.awssdk:aws-crt-client},
+         * 비동기 클라이언트는 {@code software.amazon.awssdk.crt:aws-crt} 의존성이 필요합니다.
+         * <p>
+         * CRT가 지원하지 않는 항목은 무시됩니다.
+         * 동기 클라이언트는 소켓 타임아웃과 유휴 연결 정리 여부를 무시하며, 유휴 연결은 유지 시간이 지나면 항상 정리됩니다.
+         * TCP keep-alive를 켜면 60초 주기, 10초 타임아웃으로 설정됩니다.
+         * 비동기 클라이언트는 최대 연결 수(최대 동시 요청 수), 연결 타임아웃, 최대 시도 횟수만 적용하고
+         * 연결 획득 타임아웃, 소켓 타임아웃, 유휴 연결 유지 시간과 정리 여부, TCP keep-alive를 무시합니다.
+         * </p>
+         */
+        CRT
+    }
+
+    private static final S3TransportProfile DEFAULTS = builder().build();
+
+    private static final S3TransportProfile LOW_LATENCY = builder()
+            .withMaxConnections(200)
+            .withConnectionTimeout(Duration.ofMillis(500))
+            .withConnectionAcquisitionTimeout(Duration.ofSeconds(1))
+            .withSocketTimeout(Duration.ofSeconds(5))
+            .withConnectionMaxIdleTime(Duration.ofSeconds(30))
+            .withTcpKeepAlive(true)
+            .build();
+
+    private static final S3TransportProfile HIGH_THROUGHPUT = builder()
+            .withMaxConnections(500)
+            .withConnectionTimeout(Duration.ofSeconds(3))
+            .withConnectionAcquisitionTimeout(Duration.ofSeconds(60))
+            .withSocketTimeout(Duration.ofSeconds(120))
+            .withConnectionMaxIdleTime(Duration.ofMinutes(2))
+            .withTcpKeepAlive(true)
+            .build();
+
+    private HttpClientType httpClientType = HttpClientType.APACHE;
+    private int maxConnections = 50;
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+    private Duration connectionAcquisitionTimeout = Duration.ofSeconds(10);
+    private Duration socketTimeout = Duration.ofSeconds(30);
+    private Duration connectionMaxIdleTime = Duration.ofSeconds(60);
+    private boolean reapIdleConnections = true;
+    private boolean tcpKeepAlive = false;
+    private Integer maxAttempts;
+
+    private S3TransportProfile() {
+
+    }
+
+    /**
+     * AWS SDK 기본값과 같은 설정입니다. (Apache, 최대 연결 50개, 연결 타임아웃 2초, 소켓 타임아웃 30초)
+     *
+     * @return 기본 프로필
+     */
+    public static S3TransportProfile defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 작은 객체를 자주 주고받는 경우를 위한 설정입니다.
+     * 타임아웃을 짧게 잡아 느린 연결을 빨리 포기하고, 연결을 오래 유지하여 재연결 비용을 줄입니다.
+     *
+     * @return 저지연 프로필
+     */
+    public static S3TransportProfile lowLatency() {
+        return LOW_LATENCY;
+    }
+
+    /**
+     * 큰 객체나 멀티파트 업로드를 많이 동시에 처리하는 경우를 위한 설정입니다.
+     * 연결 풀을 크게 잡고, 연결 획득과 소켓 타임아웃을 넉넉하게 둡니다.
+     *
+     * @return 고처리량 프로필
+     */
+    public static S3TransportProfile highThroughput() {
+        return HIGH_THROUGHPUT;
+    }
+
+    /**
+     * {@link Builder} 인스턴스를 생성합니다.
+     *
+     * @return {@link Builder} 인스턴스
+     */
+    public static Builder builder() {
+        return new Builder(new S3TransportProfile());
+    }
+
+    /**
+     * 이 프로필의 설정으로 시작하는 {@link Builder}를 생성합니다. 프리셋의 일부 항목만 바꿀 때 사용합니다.
+     *
+     * @return {@link Builder} 인스턴스
+     */
+    public Builder toBuilder() {
+        return new Builder(copy());
+    }
+
+    /**
+     * {@code S3TransportProfile}을 구성하기 위한 빌더 클래스입니다.
+     *
+     * <p>예시 사용법:</p>
+     *  <pre>{@code
+     *  S3TransportProfile profile = S3TransportProfile.highThroughput().toBuilder()
+     *      .withHttpClientType(HttpClientType.CRT)
+     *      .withMaxConnections(1000)
+     *      .build();
+     *  }</pre>
+     */
+    public static class Builder {
+
+        private final S3TransportProfile profile;
+
+        private Builder(S3TransportProfile profile) {
+            this.profile = profile;
+        }
+
+        /**
+         * HTTP 클라이언트 구현을 설정합니다. 기본값은 {@link HttpClientType#APACHE}입니다.
+         *
+         * @param httpClientType HTTP 클라이언트 구현
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 null인 경우
+         */
+        public Builder withHttpClientType(HttpClientType httpClientType) {
+            if (httpClientType == null) {
+                throw new IllegalArgumentException("HTTP client type must not be null");
+            }
+            profile.httpClientType = httpClientType;
+            return this;
+        }
+
+        /**
+         * 연결 풀의 최대 연결 수를 설정합니다. 비동기 클라이언트에서는 최대 동시 요청 수로 사용됩니다.
+         *
+         * @param maxConnections 최대 연결 수
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 1보다 작은 경우
+         */
+        public Builder withMaxConnections(int maxConnections) {
+            if (maxConnections < 1) {
+                throw new IllegalArgumentException("Max connections must be at least 1");
+            }
+            profile.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * 연결을 맺을 때까지 기다리는 최대 시간을 설정합니다.
+         *
+         * @param connectionTimeout 연결 타임아웃
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+         */
+        public Builder withConnectionTimeout(Duration connectionTimeout) {
+            profile.connectionTimeout = requirePositive(connectionTimeout, "Connection timeout");
+            return this;
+        }
+
+        /**
+         * 연결 풀에서 연결을 얻을 때까지 기다리는 최대 시간을 설정합니다.
+         *
+         * @param connectionAcquisitionTimeout 연결 획득 타임아웃
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+         */
+        public Builder withConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            profile.connectionAcquisitionTimeout = requirePositive(connectionAcquisitionTimeout, "Connection acquisition timeout");
+            return this;
+        }
+
+        /**
+         * 응답 데이터를 기다리는 최대 시간을 설정합니다. Netty에서는 읽기/쓰기 타임아웃으로 사용됩니다.
+         *
+         * @param socketTimeout 소켓 타임아웃
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+         */
+        public Builder withSocketTimeout(Duration socketTimeout) {
+            profile.socketTimeout = requirePositive(socketTimeout, "Socket timeout");
+            return this;
+        }
+
+        /**
+         * 유휴 연결을 풀에 유지하는 최대 시간을 설정합니다.
+         *
+         * @param connectionMaxIdleTime 유휴 연결 유지 시간
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+         */
+        public Builder withConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            profile.connectionMaxIdleTime = requirePositive(connectionMaxIdleTime, "Connection max idle time");
+            return this;
+        }
+
+        /**
+         * 유휴 시간이 지난 연결을 백그라운드에서 정리할지 설정합니다. 기본값은 {@code true}입니다.
+         *
+         * @param reapIdleConnections 유휴 연결 정리 여부
+         * @return Builder 인스턴스
+         */
+        public Builder withReapIdleConnections(boolean reapIdleConnections) {
+            profile.reapIdleConnections = reapIdleConnections;
+            return this;
+        }
+
+        /**
+         * TCP keep-alive 사용 여부를 설정합니다. 기본값은 {@code false}입니다.
+         *
+         * @param tcpKeepAlive TCP keep-alive 사용 여부
+         * @return Builder 인스턴스
+         */
+        public Builder withTcpKeepAlive(boolean tcpKeepAlive) {
+            profile.tcpKeepAlive = tcpKeepAlive;
+            return this;
+        }
+
+        /**
+         * SDK가 요청 하나에 보내는 최대 시도 횟수(첫 요청 포함)를 설정합니다. 지정하지 않으면 SDK 기본 재시도 정책을 사용합니다.
+         * <p>
+         * 1이면 SDK가 재시도하지 않습니다. {@link S3UploadProperties#setPutMaxAttempts(int)}로 업로더가 직접 재시도할 때는
+         * 두 재시도가 곱해지지 않도록 1로 지정합니다.
+         * </p>
+         *
+         * @param maxAttempts 최대 시도 횟수
+         * @return Builder 인스턴스
+         * @throws IllegalArgumentException 값이 1보다 작은 경우
+         */
+        public Builder withMaxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1");
+            }
+            profile.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * 설정된 정보로 {@link S3TransportProfile} 객체를 생성합니다.
+         *
+         * @return 구성된 {@link S3TransportProfile} 인스턴스
+         */
+        public S3TransportProfile build() {
+            return profile.copy();
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            if (value == null || value.isZero() || value.isNegative()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+    }
+
+    private S3TransportProfile copy() {
+        S3TransportProfile copy = new S3TransportProfile();
+        copy.httpClientType = httpClientType;
+        copy.maxConnections = maxConnections;
+        copy.connectionTimeout = connectionTimeout;
+        copy.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+        copy.socketTimeout = socketTimeout;
+        copy.connectionMaxIdleTime = connectionMaxIdleTime;
+        copy.reapIdleConnections = reapIdleConnections;
+        copy.tcpKeepAlive = tcpKeepAlive;
+        copy.maxAttempts = maxAttempts;
+        return copy;
+    }
+
+    public HttpClientType getHttpClientType() {
+        return httpClientType;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public Duration getConnectionAcquisitionTimeout() {
+        return connectionAcquisitionTimeout;
+    }
+
+    public Duration getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public Duration getConnectionMaxIdleTime() {
+        return connectionMaxIdleTime;
+    }
+
+    public boolean isReapIdleConnections() {
+        return reapIdleConnections;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    /**
+     * @return SDK 최대 시도 횟수, SDK 기본 재시도 정책을 사용하면 null
+     */
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof S3TransportProfile that)) {
+            return false;
+        }
+        return maxConnections == that.maxConnections
+                && reapIdleConnections == that.reapIdleConnections
+                && tcpKeepAlive == that.tcpKeepAlive
+                && httpClientType == that.httpClientType
+                && connectionTimeout.equals(that.connectionTimeout)
+                && connectionAcquisitionTimeout.equals(that.connectionAcquisitionTimeout)
+                && socketTimeout.equals(that.socketTimeout)
+                && connectionMaxIdleTime.equals(that.connectionMaxIdleTime)
+                && Objects.equals(maxAttempts, that.maxAttempts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(httpClientType, maxConnections, connectionTimeout, connectionAcquisitionTimeout,
+                socketTimeout, connectionMaxIdleTime, reapIdleConnections, tcpKeepAlive, maxAttempts);
+    }
+
+    @Override
+    public String toString() {
+        return "S3TransportProfile{" +
+                "httpClientType=" + httpClientType +
+                ", maxConnections=" + maxConnections +
+                ", connectionTimeout=" + connectionTimeout +
+                ", connectionAcquisitionTimeout=" + connectionAcquisitionTimeout +
+                ", socketTimeout=" + socketTimeout +
+                ", connectionMaxIdleTime=" + connectionMaxIdleTime +
+                ", reapIdleConnections=" + reapIdleConnections +
+                ", tcpKeepAlive=" + tcpKeepAlive +
+                ", maxAttempts=" + maxAttempts +
+                '}';
+    }
+}
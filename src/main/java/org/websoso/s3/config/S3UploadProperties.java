@@ -0,0 +1,1010 @@
+package org.websoso.s3.config;
+
+import java.time.Duration;
+
+/**
+ * S3 업로드 동작을 조정하기 위한 설정 클래스입니다.
+ * <p>
+ * 파일 크기가 {@link #getMultipartThreshold() 멀티파트 임계값} 이상이면
+ * 단일 PUT 대신 멀티파트 업로드(CreateMultipartUpload / UploadPart / CompleteMultipartUpload)를 사용하며,
+ * 파트 크기와 동시 업로드 수, 파트별 재시도 횟수를 지정할 수 있습니다.
+ * 또한 {@code uploadAll}로 여러 객체를 한 번에 업로드할 때의 최대 동시 업로드 수와,
+ * 이미지 InputStream을 검증하기 위해 한 번 읽어 보관(spool)할 때 힙 메모리를 사용할 크기 기준을 지정합니다.
+ * 길이를 알 수 없는 스트림 업로드의 파트 버퍼는 같은 {@code S3Client}를 쓰는 업로더끼리 공유하는
+ * {@code S3BufferPool}에서 빌리며, 풀의 크기와 여유가 없을 때의 동작도 여기서 지정합니다.
+ * </p>
+ * <p>
+ * 단일 PUT의 재시도 횟수와, 최근 PUT 지연 시간의 백분위수를 넘긴 요청에 같은 요청을 한 번 더 보내는 헤징(hedging)도 지정합니다.
+ * 재시도 간격은 지터를 섞은 지수 백오프이며, 503 SlowDown 응답을 받으면 늘어나고 성공하면 다시 줄어듭니다.
+ * </p>
+ * <p>
+ * 같은 버킷에 동시에 보내는 업로드 요청 수를 응답에 따라 조절하는 동시성 제한도 지정합니다.
+ * </p>
+ * <p>
+ * 서비스가 객체 키를 그대로 사용할지, 해시 접두사를 붙여 여러 접두사로 분산할지도 여기서 지정합니다.
+ * </p>
+ * <p>
+ * 서비스의 존재 확인과 메타데이터 조회, 컨텐츠 주소 업로드가 사용하는 HEAD 결과 캐시의 크기와 유효 시간도 지정합니다.
+ * </p>
+ */
+public class S3UploadProperties {
+
+    /**
+     * 파트 버퍼 풀에 여유가 없을 때의 동작
+     */
+    public enum BufferPoolExhaustion {
+        /**
+         * 다른 업로드가 버퍼를 반환할 때까지 최대 {@link #getBufferPoolMaxWait()}만큼 기다립니다.
+         */
+        BLOCK,
+        /**
+         * 기다리지 않고 즉시 실패합니다.
+         */
+        FAIL_FAST
+    }
+
+    /**
+     * 동시성 제한을 넘은 요청의 처리 방식
+     */
+    public enum ConcurrencyLimitExceeded {
+        /**
+         * 다른 요청이 끝날 때까지 최대 {@link #getConcurrencyQueueMaxWait()}만큼 기다립니다.
+         */
+        QUEUE,
+        /**
+         * 기다리지 않고 즉시 실패합니다.
+         */
+        REJECT
+    }
+
+    /**
+     * 서비스가 객체를 저장할 키의 배치 방식
+     */
+    public enum KeyLayout {
+        /**
+         * 호출자가 지정한 키를 그대로 사용합니다.
+         */
+        PLAIN,
+        /**
+         * 키의 해시로 만든 {@link #getKeyHashPrefixLength()}자리 16진수 접두사를 붙여 저장합니다. (예: {@code 3f/profile/a.png})
+         */
+        HASH_PREFIX
+    }
+
+    /**
+     * S3가 허용하는 최소 파트 크기(마지막 파트 제외)인 5 MiB
+     */
+    public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * S3가 허용하는 최대 객체 크기인 5 TiB
+     */
+    public static final long MAX_OBJECT_SIZE = 5L * 1024 * 1024 * 1024 * 1024;
+
+    /**
+     * S3가 단일 PUT으로 허용하는 최대 크기인 5 GiB
+     */
+    public static final long MAX_PUT_SIZE = 5L * 1024 * 1024 * 1024;
+
+    private static final long DEFAULT_MULTIPART_THRESHOLD = 16L * 1024 * 1024;
+    private static final long DEFAULT_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_MULTIPART_PARALLELISM = 4;
+    private static final int DEFAULT_PART_MAX_ATTEMPTS = 3;
+    private static final int DEFAULT_BULK_CONCURRENCY = 16;
+    private static final long DEFAULT_SPOOL_MEMORY_THRESHOLD = 2L * 1024 * 1024;
+    private static final long DEFAULT_BUFFER_POOL_CAPACITY = 256L * 1024 * 1024;
+    private static final Duration DEFAULT_BUFFER_POOL_MAX_WAIT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_PRESIGNED_UPLOAD_TTL = Duration.ofMinutes(10);
+    private static final long DEFAULT_PRESIGNED_UPLOAD_MAX_SIZE = 10L * 1024 * 1024;
+    private static final int DEFAULT_PRESIGNED_CONFIRM_BYTES = 64 * 1024;
+    private static final int DEFAULT_PUT_MAX_ATTEMPTS = 1;
+    private static final Duration DEFAULT_RETRY_BASE_DELAY = Duration.ofMillis(200);
+    private static final Duration DEFAULT_RETRY_MAX_DELAY = Duration.ofSeconds(10);
+    private static final double DEFAULT_HEDGE_PERCENTILE = 0.95;
+    private static final long DEFAULT_HEDGE_MAX_SIZE = 1024 * 1024;
+    private static final Duration DEFAULT_HEDGE_MIN_DELAY = Duration.ofMillis(20);
+    private static final int DEFAULT_CONCURRENCY_LIMIT_INITIAL = 32;
+    private static final int DEFAULT_CONCURRENCY_LIMIT_MIN = 1;
+    private static final int DEFAULT_CONCURRENCY_LIMIT_MAX = 256;
+    private static final Duration DEFAULT_CONCURRENCY_QUEUE_MAX_WAIT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_CONCURRENCY_LATENCY_THRESHOLD = Duration.ofSeconds(5);
+    private static final int DEFAULT_KEY_HASH_PREFIX_LENGTH = 2;
+    private static final int DEFAULT_EXISTENCE_CACHE_SIZE = 10_000;
+    private static final Duration DEFAULT_EXISTENCE_CACHE_TTL = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_EXISTENCE_CACHE_NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    /**
+     * 멀티파트 업로드로 전환하는 파일 크기 기준(바이트). 기본값은 16 MiB 입니다.
+     */
+    private long multipartThreshold = DEFAULT_MULTIPART_THRESHOLD;
+
+    /**
+     * 멀티파트 업로드의 파트 크기(바이트). 기본값은 8 MiB 입니다.
+     */
+    private long partSize = DEFAULT_PART_SIZE;
+
+    /**
+     * 동시에 업로드할 최대 파트 수. 기본값은 4 입니다.
+     */
+    private int multipartParallelism = DEFAULT_MULTIPART_PARALLELISM;
+
+    /**
+     * 파트 하나당 최대 시도 횟수. 기본값은 3 입니다.
+     */
+    private int partMaxAttempts = DEFAULT_PART_MAX_ATTEMPTS;
+
+    /**
+     * 일괄 업로드 시 동시에 처리할 최대 항목 수. 기본값은 16 입니다.
+     */
+    private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+    /**
+     * 이미지 InputStream 업로드 시 힙 메모리에 보관할 최대 크기(바이트). 기본값은 2 MiB 입니다.
+     */
+    private long spoolMemoryThreshold = DEFAULT_SPOOL_MEMORY_THRESHOLD;
+
+    /**
+     * 길이를 모르는 이미지 InputStream을 보관할 최대 크기(바이트). 기본값은 S3 최대 객체 크기인 5 TiB 입니다.
+     */
+    private long spoolMaxSize = MAX_OBJECT_SIZE;
+
+    /**
+     * 클라이언트별 파트 버퍼 풀의 최대 크기(바이트). 기본값은 256 MiB 입니다.
+     */
+    private long bufferPoolCapacity = DEFAULT_BUFFER_POOL_CAPACITY;
+
+    /**
+     * 파트 버퍼 풀에 여유가 없을 때의 동작. 기본값은 {@link BufferPoolExhaustion#BLOCK} 입니다.
+     */
+    private BufferPoolExhaustion bufferPoolExhaustionPolicy = BufferPoolExhaustion.BLOCK;
+
+    /**
+     * 파트 버퍼를 기다리는 최대 시간. 기본값은 30초 입니다.
+     */
+    private Duration bufferPoolMaxWait = DEFAULT_BUFFER_POOL_MAX_WAIT;
+
+    /**
+     * 직접 업로드용 presigned PUT URL의 유효 시간. 기본값은 10분 입니다.
+     */
+    private Duration presignedUploadTtl = DEFAULT_PRESIGNED_UPLOAD_TTL;
+
+    /**
+     * 직접 업로드로 허용할 최대 크기(바이트). 기본값은 10 MiB 입니다.
+     */
+    private long presignedUploadMaxSize = DEFAULT_PRESIGNED_UPLOAD_MAX_SIZE;
+
+    /**
+     * 직접 업로드 확인 시 MIME 타입 감지를 위해 읽을 객체 앞부분의 크기(바이트). 기본값은 64 KiB 입니다.
+     */
+    private int presignedConfirmBytes = DEFAULT_PRESIGNED_CONFIRM_BYTES;
+
+    /**
+     * 단일 PUT 하나당 최대 시도 횟수. 기본값은 1 로, 직접 지정하지 않으면 재시도하지 않습니다. (SDK 클라이언트의 재시도 위에 추가로 적용됩니다)
+     */
+    private int putMaxAttempts = DEFAULT_PUT_MAX_ATTEMPTS;
+
+    /**
+     * 첫 번째 재시도 전 대기 시간의 기준값. 기본값은 200ms 입니다.
+     */
+    private Duration retryBaseDelay = DEFAULT_RETRY_BASE_DELAY;
+
+    /**
+     * 재시도 전 대기 시간의 최댓값. 기본값은 10초 입니다.
+     */
+    private Duration retryMaxDelay = DEFAULT_RETRY_MAX_DELAY;
+
+    /**
+     * 단일 PUT 헤징 사용 여부. 기본값은 {@code false} 입니다.
+     */
+    private boolean hedgingEnabled = false;
+
+    /**
+     * 헤징 요청을 보내는 기준이 되는 최근 PUT 지연 시간의 백분위수. 기본값은 0.95 입니다.
+     */
+    private double hedgePercentile = DEFAULT_HEDGE_PERCENTILE;
+
+    /**
+     * 헤징할 최대 객체 크기(바이트). 기본값은 1 MiB 입니다.
+     */
+    private long hedgeMaxSize = DEFAULT_HEDGE_MAX_SIZE;
+
+    /**
+     * 헤징 요청을 보내기 전 최소 대기 시간. 기본값은 20ms 입니다.
+     */
+    private Duration hedgeMinDelay = DEFAULT_HEDGE_MIN_DELAY;
+
+    /**
+     * 버킷별 동시성 제한 사용 여부. 기본값은 {@code false} 입니다.
+     */
+    private boolean concurrencyLimitEnabled = false;
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 초기값. 기본값은 32 입니다.
+     */
+    private int concurrencyLimitInitial = DEFAULT_CONCURRENCY_LIMIT_INITIAL;
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 최솟값. 기본값은 1 입니다.
+     */
+    private int concurrencyLimitMin = DEFAULT_CONCURRENCY_LIMIT_MIN;
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 최댓값. 기본값은 256 입니다.
+     */
+    private int concurrencyLimitMax = DEFAULT_CONCURRENCY_LIMIT_MAX;
+
+    /**
+     * 동시성 제한을 넘은 요청의 처리 방식. 기본값은 {@link ConcurrencyLimitExceeded#QUEUE} 입니다.
+     */
+    private ConcurrencyLimitExceeded concurrencyLimitPolicy = ConcurrencyLimitExceeded.QUEUE;
+
+    /**
+     * 동시성 제한을 넘은 요청이 기다리는 최대 시간. 기본값은 1초 입니다.
+     */
+    private Duration concurrencyQueueMaxWait = DEFAULT_CONCURRENCY_QUEUE_MAX_WAIT;
+
+    /**
+     * 동시성 제한을 늘릴 수 있는 요청 지연 시간의 상한. 기본값은 5초 입니다.
+     */
+    private Duration concurrencyLatencyThreshold = DEFAULT_CONCURRENCY_LATENCY_THRESHOLD;
+
+    /**
+     * 객체 키 배치 방식. 기본값은 {@link KeyLayout#PLAIN} 입니다.
+     */
+    private KeyLayout keyLayout = KeyLayout.PLAIN;
+
+    /**
+     * 해시 접두사의 16진수 자릿수. 기본값은 2 입니다.
+     */
+    private int keyHashPrefixLength = DEFAULT_KEY_HASH_PREFIX_LENGTH;
+
+    /**
+     * 객체 HEAD 결과를 기억하는 캐시의 최대 항목 수. 기본값은 10,000 입니다.
+     */
+    private int existenceCacheSize = DEFAULT_EXISTENCE_CACHE_SIZE;
+
+    /**
+     * 존재가 확인된 객체의 메타데이터를 기억하는 시간. 기본값은 10분 입니다.
+     */
+    private Duration existenceCacheTtl = DEFAULT_EXISTENCE_CACHE_TTL;
+
+    /**
+     * 객체가 없다는 결과를 기억하는 시간. 기본값은 10초 입니다.
+     */
+    private Duration existenceCacheNegativeTtl = DEFAULT_EXISTENCE_CACHE_NEGATIVE_TTL;
+
+    /**
+     * 멀티파트 업로드 전환 기준을 반환합니다.
+     *
+     * @return 멀티파트 업로드 전환 기준 (바이트)
+     */
+    public long getMultipartThreshold() {
+        return multipartThreshold;
+    }
+
+    /**
+     * 멀티파트 업로드 전환 기준을 설정합니다.
+     *
+     * @param multipartThreshold 멀티파트 업로드 전환 기준 (바이트)
+     * @throws IllegalArgumentException 값이 {@link #MIN_PART_SIZE}보다 작은 경우
+     */
+    public void setMultipartThreshold(long multipartThreshold) {
+        if (multipartThreshold < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Multipart threshold must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    /**
+     * 멀티파트 업로드의 파트 크기를 반환합니다.
+     *
+     * @return 파트 크기 (바이트)
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * 멀티파트 업로드의 파트 크기를 설정합니다.
+     *
+     * @param partSize 파트 크기 (바이트)
+     * @throws IllegalArgumentException 값이 {@link #MIN_PART_SIZE}보다 작은 경우
+     */
+    public void setPartSize(long partSize) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Part size must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        this.partSize = partSize;
+    }
+
+    /**
+     * 동시에 업로드할 최대 파트 수를 반환합니다.
+     *
+     * @return 동시 업로드 파트 수
+     */
+    public int getMultipartParallelism() {
+        return multipartParallelism;
+    }
+
+    /**
+     * 동시에 업로드할 최대 파트 수를 설정합니다.
+     *
+     * @param multipartParallelism 동시 업로드 파트 수
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setMultipartParallelism(int multipartParallelism) {
+        if (multipartParallelism < 1) {
+            throw new IllegalArgumentException("Multipart parallelism must be greater than 0");
+        }
+        this.multipartParallelism = multipartParallelism;
+    }
+
+    /**
+     * 파트 하나당 최대 시도 횟수를 반환합니다.
+     *
+     * @return 파트별 최대 시도 횟수
+     */
+    public int getPartMaxAttempts() {
+        return partMaxAttempts;
+    }
+
+    /**
+     * 파트 하나당 최대 시도 횟수를 설정합니다. 실패한 파트만 이 횟수까지 다시 전송됩니다.
+     *
+     * @param partMaxAttempts 파트별 최대 시도 횟수
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setPartMaxAttempts(int partMaxAttempts) {
+        if (partMaxAttempts < 1) {
+            throw new IllegalArgumentException("Part max attempts must be greater than 0");
+        }
+        this.partMaxAttempts = partMaxAttempts;
+    }
+
+    /**
+     * 일괄 업로드 시 동시에 처리할 최대 항목 수를 반환합니다.
+     *
+     * @return 일괄 업로드 동시 처리 수
+     */
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    /**
+     * 일괄 업로드 시 동시에 처리할 최대 항목 수를 설정합니다.
+     * 검증, MIME 타입 감지, 업로드를 포함한 항목 단위 작업이 이 수만큼 동시에 실행됩니다.
+     *
+     * @param bulkConcurrency 일괄 업로드 동시 처리 수
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setBulkConcurrency(int bulkConcurrency) {
+        if (bulkConcurrency < 1) {
+            throw new IllegalArgumentException("Bulk concurrency must be greater than 0");
+        }
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
+    /**
+     * 이미지 InputStream을 힙 메모리에 보관할 최대 크기를 반환합니다.
+     *
+     * @return 힙 메모리 보관 기준 (바이트)
+     */
+    public long getSpoolMemoryThreshold() {
+        return spoolMemoryThreshold;
+    }
+
+    /**
+     * 이미지 InputStream을 힙 메모리에 보관할 최대 크기를 설정합니다.
+     * 스트림이 이 크기를 넘으면 임시 파일에 보관하며, MIME 타입 감지와 업로드 모두 그 보관본을 읽습니다.
+     *
+     * @param spoolMemoryThreshold 힙 메모리 보관 기준 (바이트)
+     * @throws IllegalArgumentException 값이 0보다 작거나 {@link Integer#MAX_VALUE}보다 큰 경우
+     */
+    public void setSpoolMemoryThreshold(long spoolMemoryThreshold) {
+        if (spoolMemoryThreshold < 0 || spoolMemoryThreshold >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Spool memory threshold must be between 0 and " + (Integer.MAX_VALUE - 1));
+        }
+        this.spoolMemoryThreshold = spoolMemoryThreshold;
+    }
+
+    /**
+     * 길이를 모르는 이미지 InputStream을 보관할 최대 크기를 반환합니다.
+     *
+     * @return 보관 최대 크기 (바이트)
+     */
+    public long getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    /**
+     * 길이를 모르는 이미지 InputStream을 보관할 최대 크기를 설정합니다.
+     * 이미지 서비스는 검증을 위해 스트림 전체를 임시 파일에 보관하므로, 이 값으로 요청 하나가 사용하는 디스크 공간을 제한합니다.
+     * 이 크기를 넘는 스트림은 업로드하지 않고 거부합니다.
+     *
+     * @param spoolMaxSize 보관 최대 크기 (바이트)
+     * @throws IllegalArgumentException 값이 1보다 작거나 {@link #MAX_OBJECT_SIZE}보다 큰 경우
+     */
+    public void setSpoolMaxSize(long spoolMaxSize) {
+        if (spoolMaxSize < 1 || spoolMaxSize > MAX_OBJECT_SIZE) {
+            throw new IllegalArgumentException("Spool max size must be between 1 and " + MAX_OBJECT_SIZE);
+        }
+        this.spoolMaxSize = spoolMaxSize;
+    }
+
+    /**
+     * 파트 버퍼 풀의 최대 크기를 반환합니다.
+     *
+     * @return 버퍼 풀 최대 크기 (바이트)
+     */
+    public long getBufferPoolCapacity() {
+        return bufferPoolCapacity;
+    }
+
+    /**
+     * 파트 버퍼 풀의 최대 크기를 설정합니다.
+     * 풀은 {@code S3Client}마다 처음 생성될 때의 설정을 사용하므로, 같은 클라이언트를 쓰는 업로더끼리는 값을 맞춰야 합니다.
+     *
+     * @param bufferPoolCapacity 버퍼 풀 최대 크기 (바이트)
+     * @throws IllegalArgumentException 값이 {@link #MIN_PART_SIZE}보다 작은 경우
+     */
+    public void setBufferPoolCapacity(long bufferPoolCapacity) {
+        if (bufferPoolCapacity < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Buffer pool capacity must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        this.bufferPoolCapacity = bufferPoolCapacity;
+    }
+
+    /**
+     * 파트 버퍼 풀에 여유가 없을 때의 동작을 반환합니다.
+     *
+     * @return 버퍼 풀 소진 시 동작
+     */
+    public BufferPoolExhaustion getBufferPoolExhaustionPolicy() {
+        return bufferPoolExhaustionPolicy;
+    }
+
+    /**
+     * 파트 버퍼 풀에 여유가 없을 때의 동작을 설정합니다.
+     *
+     * @param bufferPoolExhaustionPolicy 버퍼 풀 소진 시 동작
+     * @throws IllegalArgumentException 값이 null인 경우
+     */
+    public void setBufferPoolExhaustionPolicy(BufferPoolExhaustion bufferPoolExhaustionPolicy) {
+        if (bufferPoolExhaustionPolicy == null) {
+            throw new IllegalArgumentException("Buffer pool exhaustion policy must not be null");
+        }
+        this.bufferPoolExhaustionPolicy = bufferPoolExhaustionPolicy;
+    }
+
+    /**
+     * 파트 버퍼를 기다리는 최대 시간을 반환합니다.
+     *
+     * @return 버퍼 대기 시간
+     */
+    public Duration getBufferPoolMaxWait() {
+        return bufferPoolMaxWait;
+    }
+
+    /**
+     * 파트 버퍼를 기다리는 최대 시간을 설정합니다. {@link BufferPoolExhaustion#BLOCK}일 때만 사용됩니다.
+     *
+     * @param bufferPoolMaxWait 버퍼 대기 시간
+     * @throws IllegalArgumentException 값이 null이거나 음수인 경우
+     */
+    public void setBufferPoolMaxWait(Duration bufferPoolMaxWait) {
+        if (bufferPoolMaxWait == null || bufferPoolMaxWait.isNegative()) {
+            throw new IllegalArgumentException("Buffer pool max wait must not be null or negative");
+        }
+        this.bufferPoolMaxWait = bufferPoolMaxWait;
+    }
+
+    /**
+     * 직접 업로드용 presigned PUT URL의 유효 시간을 반환합니다.
+     *
+     * @return presigned PUT URL 유효 시간
+     */
+    public Duration getPresignedUploadTtl() {
+        return presignedUploadTtl;
+    }
+
+    /**
+     * 직접 업로드용 presigned PUT URL의 유효 시간을 설정합니다.
+     *
+     * @param presignedUploadTtl presigned PUT URL 유효 시간
+     * @throws IllegalArgumentException 값이 null이거나 1초 미만 또는 7일 초과인 경우
+     */
+    public void setPresignedUploadTtl(Duration presignedUploadTtl) {
+        if (presignedUploadTtl == null || presignedUploadTtl.getSeconds() < 1
+                || presignedUploadTtl.compareTo(Duration.ofDays(7)) > 0) {
+            throw new IllegalArgumentException("Presigned upload TTL must be between 1 second and 7 days");
+        }
+        this.presignedUploadTtl = presignedUploadTtl;
+    }
+
+    /**
+     * 직접 업로드로 허용할 최대 크기를 반환합니다.
+     *
+     * @return 직접 업로드 최대 크기 (바이트)
+     */
+    public long getPresignedUploadMaxSize() {
+        return presignedUploadMaxSize;
+    }
+
+    /**
+     * 직접 업로드로 허용할 최대 크기를 설정합니다. 이보다 큰 컨텐츠 길이로는 presigned PUT URL을 발급하지 않습니다.
+     *
+     * @param presignedUploadMaxSize 직접 업로드 최대 크기 (바이트)
+     * @throws IllegalArgumentException 값이 1보다 작거나 단일 PUT 최대 크기(5 GiB)를 넘는 경우
+     */
+    public void setPresignedUploadMaxSize(long presignedUploadMaxSize) {
+        if (presignedUploadMaxSize < 1 || presignedUploadMaxSize > MAX_PUT_SIZE) {
+            throw new IllegalArgumentException("Presigned upload max size must be between 1 byte and 5 GiB");
+        }
+        this.presignedUploadMaxSize = presignedUploadMaxSize;
+    }
+
+    /**
+     * 직접 업로드 확인 시 읽을 객체 앞부분의 크기를 반환합니다.
+     *
+     * @return 확인용으로 읽을 크기 (바이트)
+     */
+    public int getPresignedConfirmBytes() {
+        return presignedConfirmBytes;
+    }
+
+    /**
+     * 직접 업로드 확인 시 읽을 객체 앞부분의 크기를 설정합니다.
+     * 정밀 감지처럼 파일 구조를 파싱하는 전략은 이 크기 안에서 타입을 확인할 수 있어야 하므로 너무 작게 잡지 않아야 합니다.
+     *
+     * @param presignedConfirmBytes 확인용으로 읽을 크기 (바이트)
+     * @throws IllegalArgumentException 값이 64보다 작은 경우
+     */
+    public void setPresignedConfirmBytes(int presignedConfirmBytes) {
+        if (presignedConfirmBytes < 64) {
+            throw new IllegalArgumentException("Presigned confirm bytes must be at least 64");
+        }
+        this.presignedConfirmBytes = presignedConfirmBytes;
+    }
+
+    /**
+     * 단일 PUT 하나당 최대 시도 횟수를 반환합니다.
+     *
+     * @return 단일 PUT 최대 시도 횟수
+     */
+    public int getPutMaxAttempts() {
+        return putMaxAttempts;
+    }
+
+    /**
+     * 단일 PUT 하나당 최대 시도 횟수를 설정합니다.
+     * File, 버퍼처럼 다시 읽을 수 있는 본문만 재시도하며, 4xx 응답(408, 429 제외)은 재시도하지 않습니다.
+     * 기본값 1에서는 재시도와 SlowDown 백오프가 동작하지 않으므로, 사용하려면 2 이상을 지정해야 합니다.
+     * SDK 클라이언트도 자체 재시도를 수행하므로 최대 요청 수는 두 시도 횟수의 곱이 됩니다.
+     * 함께 사용할 때는 {@link S3TransportProfile.Builder#withMaxAttempts(int)}를 1로 지정해 SDK 클라이언트의 재시도를 끄는 것을 권장합니다.
+     *
+     * @param putMaxAttempts 단일 PUT 최대 시도 횟수
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setPutMaxAttempts(int putMaxAttempts) {
+        if (putMaxAttempts < 1) {
+            throw new IllegalArgumentException("Put max attempts must be greater than 0");
+        }
+        this.putMaxAttempts = putMaxAttempts;
+    }
+
+    /**
+     * 첫 번째 재시도 전 대기 시간의 기준값을 반환합니다.
+     *
+     * @return 재시도 대기 기준값
+     */
+    public Duration getRetryBaseDelay() {
+        return retryBaseDelay;
+    }
+
+    /**
+     * 첫 번째 재시도 전 대기 시간의 기준값을 설정합니다. 단일 PUT과 멀티파트 파트 재시도에 함께 사용됩니다.
+     * n번째 재시도는 기준값의 2^(n-1)배를 상한으로, 상한의 절반에서 상한 사이의 임의 시간만큼 기다립니다.
+     * 503 SlowDown 응답이 이어지면 상한을 최대 32배까지 늘립니다.
+     *
+     * @param retryBaseDelay 재시도 대기 기준값
+     * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+     */
+    public void setRetryBaseDelay(Duration retryBaseDelay) {
+        if (retryBaseDelay == null || retryBaseDelay.isZero() || retryBaseDelay.isNegative()) {
+            throw new IllegalArgumentException("Retry base delay must be positive");
+        }
+        this.retryBaseDelay = retryBaseDelay;
+    }
+
+    /**
+     * 재시도 전 대기 시간의 최댓값을 반환합니다.
+     *
+     * @return 재시도 대기 최댓값
+     */
+    public Duration getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    /**
+     * 재시도 전 대기 시간의 최댓값을 설정합니다.
+     *
+     * @param retryMaxDelay 재시도 대기 최댓값
+     * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+     */
+    public void setRetryMaxDelay(Duration retryMaxDelay) {
+        if (retryMaxDelay == null || retryMaxDelay.isZero() || retryMaxDelay.isNegative()) {
+            throw new IllegalArgumentException("Retry max delay must be positive");
+        }
+        this.retryMaxDelay = retryMaxDelay;
+    }
+
+    /**
+     * 단일 PUT 헤징 사용 여부를 반환합니다.
+     *
+     * @return 헤징 사용 여부
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * 단일 PUT 헤징 사용 여부를 설정합니다.
+     * <p>
+     * 사용하면 {@link #getHedgeMaxSize()} 이하의 File, 버퍼 PUT이 최근 지연 시간의 {@link #getHedgePercentile()} 백분위수를
+     * 넘기도록 끝나지 않을 때 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용합니다. 늦은 요청은 인터럽트하여 중단합니다.
+     * 헤징할 PUT은 업로더마다 최대 64개의 스레드를 가진 풀에서 보내며, 풀이 가득 차면 헤징 없이 호출한 스레드에서 보냅니다.
+     * 헤징 요청은 전체 PUT의 약 10%로 제한되며, 503 SlowDown 응답으로 재시도 간격이 늘어난 동안에는 보내지 않습니다.
+     * </p>
+     * <p>
+     * 늦게 끝난 요청이 같은 키에 이어서 올린 다른 내용을 덮어쓸 수 있으므로, 키마다 한 번만 쓰는 경우(예: 고유한 이미지 키)에 사용해야 합니다.
+     * </p>
+     *
+     * @param hedgingEnabled 헤징 사용 여부
+     */
+    public void setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+    }
+
+    /**
+     * 헤징 요청을 보내는 기준 백분위수를 반환합니다.
+     *
+     * @return 헤징 기준 백분위수
+     */
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    /**
+     * 헤징 요청을 보내는 기준 백분위수를 설정합니다. 최근 PUT 지연 시간이 충분히 모이기 전에는 헤징하지 않습니다.
+     *
+     * @param hedgePercentile 헤징 기준 백분위수 (예: 0.95)
+     * @throws IllegalArgumentException 값이 0.5 미만이거나 1 이상인 경우
+     */
+    public void setHedgePercentile(double hedgePercentile) {
+        if (!(hedgePercentile >= 0.5 && hedgePercentile < 1)) {
+            throw new IllegalArgumentException("Hedge percentile must be at least 0.5 and less than 1");
+        }
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    /**
+     * 헤징할 최대 객체 크기를 반환합니다.
+     *
+     * @return 헤징 최대 크기 (바이트)
+     */
+    public long getHedgeMaxSize() {
+        return hedgeMaxSize;
+    }
+
+    /**
+     * 헤징할 최대 객체 크기를 설정합니다. 중복 요청의 비용이 작은 작은 객체만 헤징하도록 합니다.
+     *
+     * @param hedgeMaxSize 헤징 최대 크기 (바이트)
+     * @throws IllegalArgumentException 값이 0보다 작은 경우
+     */
+    public void setHedgeMaxSize(long hedgeMaxSize) {
+        if (hedgeMaxSize < 0) {
+            throw new IllegalArgumentException("Hedge max size must not be negative");
+        }
+        this.hedgeMaxSize = hedgeMaxSize;
+    }
+
+    /**
+     * 헤징 요청을 보내기 전 최소 대기 시간을 반환합니다.
+     *
+     * @return 헤징 최소 대기 시간
+     */
+    public Duration getHedgeMinDelay() {
+        return hedgeMinDelay;
+    }
+
+    /**
+     * 헤징 요청을 보내기 전 최소 대기 시간을 설정합니다. 백분위수가 이보다 작아도 이 시간만큼은 기다립니다.
+     *
+     * @param hedgeMinDelay 헤징 최소 대기 시간
+     * @throws IllegalArgumentException 값이 null이거나 음수인 경우
+     */
+    public void setHedgeMinDelay(Duration hedgeMinDelay) {
+        if (hedgeMinDelay == null || hedgeMinDelay.isNegative()) {
+            throw new IllegalArgumentException("Hedge min delay must not be null or negative");
+        }
+        this.hedgeMinDelay = hedgeMinDelay;
+    }
+
+    /**
+     * 버킷별 동시성 제한 사용 여부를 반환합니다.
+     *
+     * @return 동시성 제한 사용 여부
+     */
+    public boolean isConcurrencyLimitEnabled() {
+        return concurrencyLimitEnabled;
+    }
+
+    /**
+     * 버킷별 동시성 제한 사용 여부를 설정합니다.
+     * <p>
+     * 사용하면 같은 {@code S3Client}와 버킷을 쓰는 업로더, 삭제, GET, 범위 다운로드가 하나의 제한을 공유하여,
+     * 단일 PUT, 멀티파트 파트, 삭제, GET 요청을 제한 수만큼만 동시에 보냅니다. 요청이 {@link #getConcurrencyLatencyThreshold()} 안에 성공하면 제한을 조금씩 늘리고(가산 증가),
+     * 503 SlowDown, 스로틀링, 타임아웃으로 실패하면 절반으로 줄입니다(승산 감소).
+     * 제한은 클라이언트와 버킷마다 처음 생성될 때의 설정을 사용하므로, 같은 버킷을 쓰는 업로더끼리는 값을 맞춰야 합니다.
+     * </p>
+     *
+     * @param concurrencyLimitEnabled 동시성 제한 사용 여부
+     */
+    public void setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+        this.concurrencyLimitEnabled = concurrencyLimitEnabled;
+    }
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 초기값을 반환합니다.
+     *
+     * @return 동시성 제한 초기값
+     */
+    public int getConcurrencyLimitInitial() {
+        return concurrencyLimitInitial;
+    }
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 초기값을 설정합니다. 최솟값과 최댓값 사이여야 합니다.
+     *
+     * @param concurrencyLimitInitial 동시성 제한 초기값
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setConcurrencyLimitInitial(int concurrencyLimitInitial) {
+        if (concurrencyLimitInitial < 1) {
+            throw new IllegalArgumentException("Concurrency limit initial must be greater than 0");
+        }
+        this.concurrencyLimitInitial = concurrencyLimitInitial;
+    }
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 최솟값을 반환합니다.
+     *
+     * @return 동시성 제한 최솟값
+     */
+    public int getConcurrencyLimitMin() {
+        return concurrencyLimitMin;
+    }
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 최솟값을 설정합니다. 실패가 이어져도 제한은 이 값 아래로 줄지 않습니다.
+     *
+     * @param concurrencyLimitMin 동시성 제한 최솟값
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setConcurrencyLimitMin(int concurrencyLimitMin) {
+        if (concurrencyLimitMin < 1) {
+            throw new IllegalArgumentException("Concurrency limit min must be greater than 0");
+        }
+        this.concurrencyLimitMin = concurrencyLimitMin;
+    }
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 최댓값을 반환합니다.
+     *
+     * @return 동시성 제한 최댓값
+     */
+    public int getConcurrencyLimitMax() {
+        return concurrencyLimitMax;
+    }
+
+    /**
+     * 동시에 보낼 수 있는 업로드 요청 수의 최댓값을 설정합니다. HTTP 클라이언트의 최대 연결 수보다 크게 잡을 필요는 없습니다.
+     *
+     * @param concurrencyLimitMax 동시성 제한 최댓값
+     * @throws IllegalArgumentException 값이 1보다 작은 경우
+     */
+    public void setConcurrencyLimitMax(int concurrencyLimitMax) {
+        if (concurrencyLimitMax < 1) {
+            throw new IllegalArgumentException("Concurrency limit max must be greater than 0");
+        }
+        this.concurrencyLimitMax = concurrencyLimitMax;
+    }
+
+    /**
+     * 동시성 제한을 넘은 요청의 처리 방식을 반환합니다.
+     *
+     * @return 제한 초과 시 처리 방식
+     */
+    public ConcurrencyLimitExceeded getConcurrencyLimitPolicy() {
+        return concurrencyLimitPolicy;
+    }
+
+    /**
+     * 동시성 제한을 넘은 요청의 처리 방식을 설정합니다.
+     *
+     * @param concurrencyLimitPolicy 제한 초과 시 처리 방식
+     * @throws IllegalArgumentException 값이 null인 경우
+     */
+    public void setConcurrencyLimitPolicy(ConcurrencyLimitExceeded concurrencyLimitPolicy) {
+        if (concurrencyLimitPolicy == null) {
+            throw new IllegalArgumentException("Concurrency limit policy must not be null");
+        }
+        this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+    }
+
+    /**
+     * 동시성 제한을 넘은 요청이 기다리는 최대 시간을 반환합니다.
+     *
+     * @return 대기 최대 시간
+     */
+    public Duration getConcurrencyQueueMaxWait() {
+        return concurrencyQueueMaxWait;
+    }
+
+    /**
+     * 동시성 제한을 넘은 요청이 기다리는 최대 시간을 설정합니다. {@link ConcurrencyLimitExceeded#QUEUE}일 때만 사용됩니다.
+     *
+     * @param concurrencyQueueMaxWait 대기 최대 시간
+     * @throws IllegalArgumentException 값이 null이거나 음수인 경우
+     */
+    public void setConcurrencyQueueMaxWait(Duration concurrencyQueueMaxWait) {
+        if (concurrencyQueueMaxWait == null || concurrencyQueueMaxWait.isNegative()) {
+            throw new IllegalArgumentException("Concurrency queue max wait must not be null or negative");
+        }
+        this.concurrencyQueueMaxWait = concurrencyQueueMaxWait;
+    }
+
+    /**
+     * 동시성 제한을 늘릴 수 있는 요청 지연 시간의 상한을 반환합니다.
+     *
+     * @return 지연 시간 상한
+     */
+    public Duration getConcurrencyLatencyThreshold() {
+        return concurrencyLatencyThreshold;
+    }
+
+    /**
+     * 동시성 제한을 늘릴 수 있는 요청 지연 시간의 상한을 설정합니다.
+     * 이보다 오래 걸린 요청은 성공해도 제한을 늘리지 않으므로, 평소 파트 하나를 올리는 시간보다 크게 잡아야 합니다.
+     *
+     * @param concurrencyLatencyThreshold 지연 시간 상한
+     * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+     */
+    public void setConcurrencyLatencyThreshold(Duration concurrencyLatencyThreshold) {
+        if (concurrencyLatencyThreshold == null || concurrencyLatencyThreshold.isZero()
+                || concurrencyLatencyThreshold.isNegative()) {
+            throw new IllegalArgumentException("Concurrency latency threshold must be positive");
+        }
+        this.concurrencyLatencyThreshold = concurrencyLatencyThreshold;
+    }
+
+    /**
+     * 객체 키 배치 방식을 반환합니다.
+     *
+     * @return 키 배치 방식
+     */
+    public KeyLayout getKeyLayout() {
+        return keyLayout;
+    }
+
+    /**
+     * 객체 키 배치 방식을 설정합니다.
+     * <p>
+     * {@link KeyLayout#HASH_PREFIX}를 사용하면 서비스의 업로드, 삭제, URL 생성이 모두 같은 물리 키를 사용하며,
+     * 업로드 결과의 {@code key}로 실제 저장된 키를 확인할 수 있습니다. 이미 저장된 객체의 키는 바뀌지 않으므로,
+     * 운영 중인 버킷에서 배치 방식을 바꾸면 기존 객체를 새 키로 옮겨야 합니다.
+     * </p>
+     *
+     * @param keyLayout 키 배치 방식
+     * @throws IllegalArgumentException 값이 null인 경우
+     */
+    public void setKeyLayout(KeyLayout keyLayout) {
+        if (keyLayout == null) {
+            throw new IllegalArgumentException("Key layout must not be null");
+        }
+        this.keyLayout = keyLayout;
+    }
+
+    /**
+     * 해시 접두사의 16진수 자릿수를 반환합니다.
+     *
+     * @return 해시 접두사 자릿수
+     */
+    public int getKeyHashPrefixLength() {
+        return keyHashPrefixLength;
+    }
+
+    /**
+     * 해시 접두사의 16진수 자릿수를 설정합니다. 자릿수가 n이면 객체가 16^n개의 접두사로 분산됩니다.
+     *
+     * @param keyHashPrefixLength 해시 접두사 자릿수
+     * @throws IllegalArgumentException 값이 1보다 작거나 8보다 큰 경우
+     */
+    public void setKeyHashPrefixLength(int keyHashPrefixLength) {
+        if (keyHashPrefixLength < 1 || keyHashPrefixLength > 8) {
+            throw new IllegalArgumentException("Key hash prefix length must be between 1 and 8");
+        }
+        this.keyHashPrefixLength = keyHashPrefixLength;
+    }
+
+    /**
+     * 객체 HEAD 결과를 기억하는 캐시의 최대 항목 수를 반환합니다.
+     *
+     * @return 존재 확인 캐시 크기
+     */
+    public int getExistenceCacheSize() {
+        return existenceCacheSize;
+    }
+
+    /**
+     * 객체 HEAD 결과를 기억하는 캐시의 최대 항목 수를 설정합니다. 0이면 매번 저장소에 확인합니다.
+     *
+     * @param existenceCacheSize 존재 확인 캐시 크기
+     * @throws IllegalArgumentException 값이 0보다 작은 경우
+     */
+    public void setExistenceCacheSize(int existenceCacheSize) {
+        if (existenceCacheSize < 0) {
+            throw new IllegalArgumentException("Existence cache size must not be negative");
+        }
+        this.existenceCacheSize = existenceCacheSize;
+    }
+
+    /**
+     * 존재가 확인된 객체의 메타데이터를 기억하는 시간을 반환합니다.
+     *
+     * @return 존재 확인 캐시 유효 시간
+     */
+    public Duration getExistenceCacheTtl() {
+        return existenceCacheTtl;
+    }
+
+    /**
+     * 존재가 확인된 객체의 메타데이터를 기억하는 시간을 설정합니다.
+     * 같은 서비스로 업로드하거나 삭제한 객체는 캐시에서 바로 제거되지만,
+     * 다른 곳에서 바꾸거나 삭제한 객체는 이 시간 동안 이전 메타데이터로 응답합니다.
+     *
+     * @param existenceCacheTtl 존재 확인 캐시 유효 시간
+     * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+     */
+    public void setExistenceCacheTtl(Duration existenceCacheTtl) {
+        if (existenceCacheTtl == null || existenceCacheTtl.isZero() || existenceCacheTtl.isNegative()) {
+            throw new IllegalArgumentException("Existence cache TTL must be positive");
+        }
+        this.existenceCacheTtl = existenceCacheTtl;
+    }
+
+    /**
+     * 객체가 없다는 결과를 기억하는 시간을 반환합니다.
+     *
+     * @return 부재 결과 캐시 유효 시간
+     */
+    public Duration getExistenceCacheNegativeTtl() {
+        return existenceCacheNegativeTtl;
+    }
+
+    /**
+     * 객체가 없다는 결과를 기억하는 시간을 설정합니다.
+     * 다른 곳에서 곧 업로드될 수 있는 키를 반복해서 확인한다면 짧게 잡아야 합니다.
+     *
+     * @param existenceCacheNegativeTtl 부재 결과 캐시 유효 시간
+     * @throws IllegalArgumentException 값이 null이거나 0 이하인 경우
+     */
+    public void setExistenceCacheNegativeTtl(Duration existenceCacheNegativeTtl) {
+        if (existenceCacheNegativeTtl == null || existenceCacheNegativeTtl.isZero()
+                || existenceCacheNegativeTtl.isNegative()) {
+            throw new IllegalArgumentException("Existence cache negative TTL must be positive");
+        }
+        this.existenceCacheNegativeTtl = existenceCacheNegativeTtl;
+    }
+}
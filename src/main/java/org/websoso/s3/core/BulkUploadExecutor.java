@@ -0,0 +1,73 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.modle.S3UploadResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 여러 항목의 업로드를 동시에 실행하는 클래스입니다.
+ * <p>
+ * 항목마다 검증, MIME 타입 감지, 업로드를 하나의 작업으로 실행하며, 동시에 실행되는 작업 수는
+ * 서비스 인스턴스 단위로 {@code concurrency}개로 제한됩니다.
+ * 가상 스레드를 지원하는 런타임(Java 21 이상)에서는 가상 스레드를, 그렇지 않으면 데몬 플랫폼 스레드를 사용합니다.
+ * 한 항목의 실패는 해당 항목의 결과에만 반영되며, 결과는 입력 순서대로 반환됩니다.
+ * </p>
+ */
+class BulkUploadExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkUploadExecutor.class);
+
+    private static final ExecutorService TASK_EXECUTOR = createTaskExecutor();
+
+    private final Semaphore permits;
+
+    BulkUploadExecutor(int concurrency) {
+        this.permits = new Semaphore(concurrency);
+    }
+
+    <T> List<S3UploadResult> uploadAll(List<T> items, Function<T, S3UploadResult> task) {
+        List<CompletableFuture<S3UploadResult>> futures = new ArrayList<>(items.size());
+
+        for (T item : items) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.add(CompletableFuture.completedFuture(S3UploadResult.fail("Bulk upload interrupted")));
+                continue;
+            }
+
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.apply(item);
+                } catch (RuntimeException e) {
+                    log.warn("Bulk upload item failed: {}", e.getMessage());
+                    return S3UploadResult.fail(e.getMessage());
+                } finally {
+                    permits.release();
+                }
+            }, TASK_EXECUTOR));
+        }
+
+        List<S3UploadResult> results = new ArrayList<>(futures.size());
+        futures.forEach(future -> results.add(future.join()));
+        return results;
+    }
+
+    private static ExecutorService createTaskExecutor() {
+        try {
+            // Java 21 이상에서는 가상 스레드 실행기를 사용합니다. (컴파일 대상이 Java 17이므로 리플렉션으로 조회)
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(new DaemonThreadFactory("s3-bulk-upload-"));
+        }
+    }
+}
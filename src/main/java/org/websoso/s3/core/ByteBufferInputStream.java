@@ -0,0 +1,64 @@
+package org.websoso.s3.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ByteBuffer}의 남은 영역을 복사 없이 읽는 {@link InputStream}입니다.
+ * <p>
+ * 전달받은 버퍼의 position을 직접 움직이므로, 재사용이 필요한 경우 {@link ByteBuffer#duplicate()}를 넘겨야 합니다.
+ * 읽는 스레드가 인터럽트되면 {@link InterruptedIOException}을 던져, 헤징에서 진 요청의 본문 전송을 멈춥니다.
+ * </p>
+ */
+class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkInterrupted();
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        checkInterrupted();
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Body read interrupted");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.websoso.s3.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 컨텐츠 주소 키를 만들기 위해 내용의 SHA-256 해시를 계산하는 클래스입니다.
+ */
+final class ContentDigest {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private ContentDigest() {
+        // prevent instantiation
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시를 16진수 문자열로 반환합니다. 파일은 힙에 올리지 않고 고정 크기 버퍼로 나누어 읽습니다.
+     */
+    static String sha256Hex(File file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,27 @@
+package org.websoso.s3.core;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라이브러리 내부 실행기에서 사용하는 데몬 스레드 팩토리입니다.
+ * <p>
+ * 라이브러리가 만든 스레드가 애플리케이션 종료를 막지 않도록 모든 스레드를 데몬으로 생성합니다.
+ * </p>
+ */
+class DaemonThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
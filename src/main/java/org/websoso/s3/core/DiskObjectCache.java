@@ -0,0 +1,387 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내려받은 객체를 로컬 디스크에 보관하는 read-through 캐시입니다.
+ * <p>
+ * 캐시 전체 크기는 바이트 단위로 제한되며, 넘으면 가장 오래 사용되지 않은 객체부터 삭제합니다.
+ * 재검증 주기가 지난 객체는 If-None-Match 조건부 GET으로 확인하여, 304 응답이면 디스크의 내용을 그대로 제공합니다.
+ * 같은 키에 대한 동시 요청은 하나의 GET으로 합쳐지며, 캐시된 내용은 요청마다 파일 채널을 열어 제공합니다.
+ * 캐시할 수 없을 만큼 큰 객체는 이미 받은 GET 응답을 호출자에게 그대로 넘겨, 같은 객체를 다시 요청하지 않게 합니다.
+ * </p>
+ * <p>
+ * 캐시는 {@link #forDirectory}로 디렉터리마다 하나만 만들어 같은 프로세스의 모든 {@link S3Reader}가 공유하므로,
+ * 크기 제한도 디렉터리 단위로 적용됩니다. 캐시 파일은 프로세스마다 잠금 파일을 둔 하위 디렉터리에 만들며,
+ * 시작할 때는 잠금이 풀린(종료된 프로세스의) 하위 디렉터리만 삭제합니다.
+ * </p>
+ */
+final class DiskObjectCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskObjectCache.class);
+
+    private static final String DIRECTORY_PREFIX = "s3-cache-";
+    private static final String LOCK_FILE = ".lock";
+    private static final String FILE_PREFIX = "object-";
+    private static final String FILE_SUFFIX = ".bin";
+    private static final int NOT_MODIFIED = 304;
+
+    private static final Map<Path, DiskObjectCache> SHARED = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 객체의 내용을 읽을 파일 채널과 메타데이터. 사용한 뒤에는 닫아야 합니다.
+     * 채널을 연 뒤에 객체가 캐시에서 제거되어도 닫을 때까지는 내용을 읽을 수 있습니다.
+     */
+    record CachedObject(FileChannel content, long size, S3ObjectMetadata metadata) implements Closeable {
+
+        /**
+         * 캐시된 내용 전체를 채널에 씁니다.
+         */
+        void transferTo(WritableByteChannel target) throws IOException {
+            long position = 0;
+            while (position < size) {
+                long transferred = content.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    throw new IOException("Cached file ended before expected size: " + size);
+                }
+                position += transferred;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            content.close();
+        }
+    }
+
+    /**
+     * 캐시 조회 결과. 둘 중 하나만 값이 있거나, 둘 다 null입니다.
+     *
+     * @param cached   캐시된 객체, 사용한 뒤에는 닫아야 합니다
+     * @param response 캐시할 수 없을 만큼 커서 넘겨받은 GET 응답, 끝까지 읽고 닫거나 중단해야 합니다
+     */
+    record Lookup(CachedObject cached, ResponseInputStream<GetObjectResponse> response) {
+
+        private static final Lookup NONE = new Lookup(null, null);
+    }
+
+    /**
+     * @param entry    캐시에 저장한 항목, 캐시하지 않았으면 null
+     * @param response 캐시하지 않은 GET 응답
+     */
+    private record Fetched(Entry entry, ResponseInputStream<GetObjectResponse> response) {
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final Duration revalidateAfter;
+    private final long revalidateAfterNanos;
+    @SuppressWarnings("unused") // 프로세스가 끝날 때까지 하위 디렉터리의 잠금을 유지합니다.
+    private final FileLock directoryLock;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    DiskObjectCache(Path root, long maxBytes, Duration revalidateAfter) {
+        this.maxBytes = maxBytes;
+        this.revalidateAfter = revalidateAfter;
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
+
+        try {
+            Files.createDirectories(root);
+            deleteAbandonedDirectories(root);
+            this.directory = Files.createTempDirectory(root, DIRECTORY_PREFIX);
+            FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            this.directoryLock = lockChannel.lock();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot use disk cache directory: " + root, e);
+        }
+    }
+
+    /**
+     * 디렉터리의 공유 캐시를 반환합니다. 없으면 새로 생성합니다.
+     *
+     * @throws IllegalArgumentException 디렉터리를 사용할 수 없거나, 같은 디렉터리를 다른 크기 또는 재검증 주기로 사용 중인 경우
+     */
+    static DiskObjectCache forDirectory(Path directory, long maxBytes, Duration revalidateAfter) {
+        DiskObjectCache cache = SHARED.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                root -> new DiskObjectCache(root, maxBytes, revalidateAfter));
+        if (cache.maxBytes != maxBytes || !cache.revalidateAfter.equals(revalidateAfter)) {
+            throw new IllegalArgumentException("Disk cache directory is already in use with different settings: "
+                    + directory);
+        }
+        return cache;
+    }
+
+    /**
+     * 객체를 캐시에서 찾거나 내려받아 캐시한 뒤 반환합니다.
+     * 객체가 캐시할 수 없을 만큼 크면 이 호출이 받은 GET 응답을 넘기며, 다른 요청이 받은 응답을 기다린 경우에는 둘 다 비어 있습니다.
+     *
+     * @return 캐시 조회 결과
+     * @throws S3ReaderException 객체를 읽는 중 오류가 발생한 경우
+     */
+    Lookup get(S3Client s3Client, String bucket, String key) {
+        return get(s3Client, null, bucket, key);
+    }
+
+    /**
+     * 캐시에 없거나 다시 확인해야 하는 객체의 GET을 주어진 동시성 제한 안에서 보내는 것 외에는 {@link #get(S3Client, String, String)}과 같습니다.
+     *
+     * @param concurrencyLimiter GET 요청을 보낼 동시성 제한, 제한하지 않으면 null
+     */
+    Lookup get(S3Client s3Client, S3ConcurrencyLimiter concurrencyLimiter, String bucket, String key) {
+        // 버킷 이름에는 '/'가 들어갈 수 없으므로 버킷과 키를 구분할 수 있습니다.
+        String cacheKey = bucket + "/" + key;
+
+        Entry cached = lookup(cacheKey);
+        if (cached != null && !cached.needsRevalidation(revalidateAfterNanos)) {
+            CachedObject object = open(cached);
+            if (object != null) {
+                return new Lookup(object, null);
+            }
+            cached = null;
+        }
+
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            CachedObject object = open(join(existing));
+            return object != null ? new Lookup(object, null) : Lookup.NONE;
+        }
+
+        try {
+            Fetched fetched = fetch(s3Client, concurrencyLimiter, bucket, key, cacheKey, cached);
+            future.complete(fetched.entry());
+            if (fetched.response() != null) {
+                return new Lookup(null, fetched.response());
+            }
+            CachedObject object = open(fetched.entry());
+            return object != null ? new Lookup(object, null) : Lookup.NONE;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, future);
+        }
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    private Fetched fetch(S3Client s3Client, S3ConcurrencyLimiter concurrencyLimiter, String bucket, String key,
+                          String cacheKey, Entry cached) {
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key);
+        if (cached != null) {
+            request.ifNoneMatch(cached.metadata.eTag());
+        }
+
+        ResponseInputStream<GetObjectResponse> in;
+        try {
+            in = S3ConcurrencyLimiter.limited(concurrencyLimiter, () -> s3Client.getObject(request.build()));
+        } catch (S3Exception e) {
+            if (cached != null && e.statusCode() == NOT_MODIFIED) {
+                log.debug("Cached object not modified: bucket={}, key={}", bucket, key);
+                cached.markValidated();
+                return new Fetched(cached, null);
+            }
+            throw new S3ReaderException("Failed to get object: " + key, e);
+        } catch (SdkException e) {
+            throw new S3ReaderException("Failed to get object: " + key, e);
+        }
+
+        Long contentLength = in.response().contentLength();
+        if (contentLength == null || contentLength > maxBytes) {
+            remove(cacheKey);
+            log.debug("Object too large to cache, streaming response: bucket={}, key={}, size={}", bucket, key, contentLength);
+            return new Fetched(null, in);
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+            long size;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                size = S3Reader.transferTo(in, channel, 0);
+            }
+            in.close();
+
+            Entry entry = new Entry(cacheKey, file, size, S3ObjectMetadata.from(key, in.response()));
+            put(entry);
+
+            log.debug("Cached object on disk: bucket={}, key={}, size={}", bucket, key, size);
+
+            return new Fetched(entry, null);
+        } catch (IOException | SdkException e) {
+            S3Reader.abortQuietly(in);
+            deleteQuietly(file);
+            throw new S3ReaderException("Failed to cache object: " + key, e);
+        }
+    }
+
+    /**
+     * 캐시 파일을 읽기 위해 엽니다. 파일 삭제는 모두 이 객체의 잠금 안에서 일어나므로, 열린 채널은 삭제된 뒤에도 유효합니다.
+     *
+     * @return 열린 캐시 객체, 그 사이에 제거되어 파일이 없으면 null
+     */
+    private synchronized CachedObject open(Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return new CachedObject(FileChannel.open(entry.file, StandardOpenOption.READ), entry.size, entry.metadata);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new S3ReaderException("Failed to open cached object: " + entry.metadata.key(), e);
+        }
+    }
+
+    private synchronized Entry lookup(String cacheKey) {
+        return entries.get(cacheKey);
+    }
+
+    private synchronized void put(Entry entry) {
+        Entry previous = entries.put(entry.cacheKey, entry);
+        if (previous != null) {
+            totalBytes -= previous.size;
+            deleteQuietly(previous.file);
+        }
+        totalBytes += entry.size;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (eldest == entry) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.size;
+            // 이미 열린 채널은 닫힐 때까지 파일 내용을 읽을 수 있으며, 그동안만 디스크 공간이 남습니다.
+            deleteQuietly(eldest.file);
+        }
+    }
+
+    private synchronized void remove(String cacheKey) {
+        Entry removed = entries.remove(cacheKey);
+        if (removed != null) {
+            totalBytes -= removed.size;
+            deleteQuietly(removed.file);
+        }
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 잠금 파일의 잠금을 얻을 수 있는, 즉 만든 프로세스가 종료된 하위 디렉터리를 삭제합니다.
+     * 다른 프로세스가 사용 중이거나 잠금 파일이 아직 없는 디렉터리는 그대로 둡니다.
+     */
+    private static void deleteAbandonedDirectories(Path root) throws IOException {
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(root, DIRECTORY_PREFIX + "*")) {
+            for (Path candidate : directories) {
+                Path lockFile = candidate.resolve(LOCK_FILE);
+                if (!Files.isDirectory(candidate) || !Files.exists(lockFile)) {
+                    continue;
+                }
+                try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.WRITE);
+                     FileLock lock = lockChannel.tryLock()) {
+                    if (lock != null) {
+                        deleteDirectory(candidate);
+                    }
+                } catch (OverlappingFileLockException | IOException e) {
+                    log.debug("Skipping disk cache directory in use: {}", candidate, e);
+                }
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        }
+        deleteQuietly(directory);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached file: {}", file, e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String cacheKey;
+        private final Path file;
+        private final long size;
+        private final S3ObjectMetadata metadata;
+        private volatile long validatedAtNanos;
+
+        private Entry(String cacheKey, Path file, long size, S3ObjectMetadata metadata) {
+            this.cacheKey = cacheKey;
+            this.file = file;
+            this.size = size;
+            this.metadata = metadata;
+            this.validatedAtNanos = System.nanoTime();
+        }
+
+        private boolean needsRevalidation(long revalidateAfterNanos) {
+            return System.nanoTime() - validatedAtNanos >= revalidateAfterNanos;
+        }
+
+        private void markValidated() {
+            validatedAtNanos = System.nanoTime();
+        }
+    }
+}
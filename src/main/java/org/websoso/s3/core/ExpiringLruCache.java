@@ -0,0 +1,62 @@
+package org.websoso.s3.core;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 항목마다 만료 시각을 함께 보관하는 크기 제한 LRU 캐시입니다.
+ * <p>
+ * 만료 시각이 지난 항목은 반환하지 않고 제거하며, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 최대 개수가 0이면 아무것도 보관하지 않습니다.
+ * </p>
+ *
+ * @param <V> 보관할 값의 타입, null도 보관할 수 있습니다
+ */
+final class ExpiringLruCache<V> {
+
+    private final int maxSize;
+    private final Map<String, Entry<V>> entries;
+
+    ExpiringLruCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시된 항목, 없거나 만료 시각이 지났으면 null
+     */
+    synchronized Entry<V> get(String key, Instant now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!now.isBefore(entry.expiresAt())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    synchronized void put(String key, V value, Instant expiresAt) {
+        if (maxSize > 0) {
+            entries.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    record Entry<V>(V value, Instant expiresAt) {
+    }
+}
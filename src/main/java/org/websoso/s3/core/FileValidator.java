@@ -0,0 +1,61 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.exception.InvalidFileException;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collection;
+
+/**
+ * 파일 업로드 요청의 유효성을 검증하는 클래스입니다.
+ * <p>
+ * {@link S3FileService}와 {@link S3AsyncFileService}가 동일한 검증 규칙을 공유합니다.
+ * </p>
+ */
+final class FileValidator {
+
+    private FileValidator() {
+        // prevent instantiation
+    }
+
+    static void validateKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Object key must not be null or empty");
+        }
+    }
+
+    static void validateKeys(Collection<String> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Object keys must not be null");
+        }
+        keys.forEach(FileValidator::validateKey);
+    }
+
+    static void validateFile(File file) {
+        if (file == null || !file.exists() || !file.isFile()) {
+            throw new InvalidFileException("File must exist and be a valid file");
+        }
+
+        if (file.length() <= 0) {
+            throw new InvalidFileException("File size must be greater than 0");
+        }
+    }
+
+    static void validateInputStream(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("InputStream must not be null or empty");
+        }
+    }
+
+    static void validateContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new InvalidFileException("Content type must not be null or empty");
+        }
+    }
+
+    static void validateContentLength(long contentLength) {
+        if (contentLength <= 0) {
+            throw new InvalidFileException("Content length must be greater than 0");
+        }
+    }
+}
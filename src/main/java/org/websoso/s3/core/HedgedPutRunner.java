@@ -0,0 +1,204 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.exception.S3UploaderException;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 다시 읽을 수 있는 본문의 단일 PUT을 재시도하고, 느린 요청을 헤징하는 클래스입니다.
+ * <p>
+ * 재시도할 수 있는 실패는 {@link RetryBackoff}의 대기 시간만큼 기다린 뒤 {@link S3UploadProperties#getPutMaxAttempts()}회까지 다시 보냅니다.
+ * 헤징을 사용하면 첫 요청이 최근 PUT 지연 시간의 백분위수 안에 끝나지 않을 때 같은 요청을 한 번 더 보내고,
+ * 둘 중 먼저 성공한 응답을 반환합니다. 헤징 요청 수는 토큰으로 제한하여, PUT마다 {@value #HEDGE_TOKENS_PER_PUT}개씩 쌓인 토큰을
+ * 헤징 요청마다 하나씩 사용합니다.
+ * </p>
+ * <p>
+ * 헤징할 PUT은 최대 {@value #MAX_HEDGE_THREADS}개의 스레드를 가진 풀에서 실행하며, 풀이 가득 차면 헤징 없이 호출한 스레드에서 보냅니다.
+ * 한쪽 요청이 끝나면 다른 요청은 인터럽트하여 중단합니다.
+ * </p>
+ */
+final class HedgedPutRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgedPutRunner.class);
+
+    private static final int LATENCY_WINDOW = 256;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final double HEDGE_TOKENS_PER_PUT = 0.1;
+    private static final double MAX_HEDGE_TOKENS = 10;
+    private static final int MAX_HEDGE_THREADS = 64;
+
+    private final int maxAttempts;
+    private final RetryBackoff backoff;
+    private final boolean hedgingEnabled;
+    private final long hedgeMaxSize;
+    private final double hedgePercentile;
+    private final long hedgeMinDelayNanos;
+    private final LatencyTracker latencies = new LatencyTracker(LATENCY_WINDOW);
+    private final ExecutorService hedgeExecutor;
+    private double hedgeTokens;
+
+    HedgedPutRunner(S3UploadProperties properties, RetryBackoff backoff) {
+        this.maxAttempts = properties.getPutMaxAttempts();
+        this.backoff = backoff;
+        this.hedgingEnabled = properties.isHedgingEnabled();
+        this.hedgeMaxSize = properties.getHedgeMaxSize();
+        this.hedgePercentile = properties.getHedgePercentile();
+        this.hedgeMinDelayNanos = properties.getHedgeMinDelay().toNanos();
+        this.hedgeExecutor = hedgingEnabled
+                ? new ThreadPoolExecutor(0, MAX_HEDGE_THREADS, 60, TimeUnit.SECONDS,
+                        new SynchronousQueue<>(), new DaemonThreadFactory("s3-hedged-put-"))
+                : null;
+    }
+
+    /**
+     * PUT 요청을 실행합니다. {@code attempt}는 호출할 때마다 같은 요청을 새로 보내야 하며, 동시에 두 번 호출될 수 있습니다.
+     *
+     * @param key           로그에 남길 객체 키
+     * @param contentLength 본문 크기, 헤징 여부를 정할 때 사용합니다
+     * @param attempt       요청을 한 번 보내는 작업
+     * @return 먼저 성공한 요청의 응답
+     */
+    <T> T run(String key, long contentLength, Supplier<T> attempt) {
+        boolean hedgeable = hedgingEnabled && contentLength <= hedgeMaxSize;
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                T response = hedgeable ? runHedged(key, attempt) : attempt.get();
+                backoff.onSuccess();
+                return response;
+
+            } catch (RuntimeException e) {
+                backoff.onFailure(e);
+                if (attemptNumber >= maxAttempts || !RetryBackoff.isRetryable(e)) {
+                    throw e;
+                }
+
+                log.warn("Retrying put: key={}, attempt={}", key, attemptNumber, e);
+                backoff.sleep(attemptNumber);
+            }
+        }
+    }
+
+    private <T> T runHedged(String key, Supplier<T> attempt) {
+        long hedgeDelay = hedgeDelayNanos();
+        if (hedgeDelay < 0) {
+            return timed(attempt).get();
+        }
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(hedgeExecutor);
+        Future<T> primary;
+        try {
+            primary = completion.submit(() -> timed(attempt).get());
+        } catch (RejectedExecutionException e) {
+            // 헤징 스레드가 모두 사용 중이면 헤징 없이 호출한 스레드에서 보냅니다.
+            return timed(attempt).get();
+        }
+
+        Future<T> hedge = null;
+        try {
+            Future<T> done = completion.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+            if (done == null) {
+                hedge = submitHedge(key, hedgeDelay, completion, attempt);
+                done = completion.take();
+            }
+
+            try {
+                return done.get();
+            } catch (ExecutionException e) {
+                if (hedge == null) {
+                    throw e;
+                }
+                return completion.take().get();
+            }
+
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new S3UploaderException("Interrupted while waiting for put", e);
+        } finally {
+            // 진 요청은 인터럽트로 중단합니다. 이미 끝난 요청에는 영향이 없습니다.
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private <T> Future<T> submitHedge(String key, long hedgeDelay, CompletionService<T> completion, Supplier<T> attempt) {
+        if (!tryAcquireHedgeToken()) {
+            return null;
+        }
+        try {
+            Future<T> hedge = completion.submit(() -> timed(attempt).get());
+            log.debug("Sending hedged put: key={}, delayMillis={}", key, TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            releaseHedgeToken();
+            return null;
+        }
+    }
+
+    /**
+     * 헤징 요청을 보내기 전 기다릴 시간을 반환합니다. 지연 시간 표본이 부족하거나 SlowDown으로 대기 시간이 늘어난 동안에는 -1을 반환합니다.
+     */
+    private long hedgeDelayNanos() {
+        earnHedgeToken();
+        if (backoff.isSlowingDown()) {
+            return -1;
+        }
+        long percentile = latencies.percentile(hedgePercentile, MIN_LATENCY_SAMPLES);
+        return percentile < 0 ? -1 : Math.max(percentile, hedgeMinDelayNanos);
+    }
+
+    private synchronized void earnHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + HEDGE_TOKENS_PER_PUT);
+    }
+
+    private synchronized boolean tryAcquireHedgeToken() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens--;
+        return true;
+    }
+
+    private synchronized void releaseHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + 1);
+    }
+
+    /**
+     * 성공한 요청의 지연 시간을 기록합니다. 헤징에서 져서 중단된 요청은 기록되지 않습니다.
+     */
+    private <T> Supplier<T> timed(Supplier<T> attempt) {
+        return () -> {
+            long start = System.nanoTime();
+            T response = attempt.get();
+            latencies.record(System.nanoTime() - start);
+            return response;
+        };
+    }
+
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new S3UploaderException("Put failed: " + cause.getMessage(), cause);
+    }
+}
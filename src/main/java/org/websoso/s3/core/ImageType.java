@@ -40,6 +40,20 @@ enum ImageType {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * MIME 타입에 해당하는 확장자를 반환합니다. 같은 MIME 타입의 확장자가 여럿이면 먼저 선언된 것을 사용합니다.
+     *
+     * @return 확장자, 지원하지 않는 MIME 타입이면 null
+     */
+    static String extensionOf(String mimeType) {
+        for (ImageType imageType : values()) {
+            if (imageType.mimeType.equalsIgnoreCase(mimeType)) {
+                return imageType.extension;
+            }
+        }
+        return null;
+    }
+
     static Set<String> getAllowedExtensions() {
         return Arrays.stream(values())
                 .map(imageType -> "." + imageType.getExtension().toLowerCase())
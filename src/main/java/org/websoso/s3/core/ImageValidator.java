@@ -0,0 +1,165 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.core.strategy.MimeTypeDetectionStrategy;
+import org.websoso.s3.exception.InvalidImageException;
+import org.websoso.s3.metrics.S3Operation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 이미지 업로드 요청의 유효성을 검증하는 클래스입니다.
+ * <p>
+ * {@link S3ImageService}와 {@link S3AsyncImageService}가 동일한 검증 규칙을 공유하도록
+ * 키, 확장자, 컨텐츠 타입, 실제 MIME 타입 검증을 한 곳에 모아 둡니다.
+ * </p>
+ */
+class ImageValidator {
+
+    private static final Set<String> ALLOWED_IMAGE_MIME_TYPES = ImageType.getAllowedMimeTypes();
+    private static final Set<String> ALLOWED_IMAGE_EXTENSIONS = ImageType.getAllowedExtensions();
+
+    private final MimeTypeDetectionStrategy mimeDetector;
+    private final MetricsRecorder metrics;
+
+    ImageValidator(MimeTypeDetectionStrategy mimeDetector) {
+        this(mimeDetector, MetricsRecorder.NOOP);
+    }
+
+    ImageValidator(MimeTypeDetectionStrategy mimeDetector, MetricsRecorder metrics) {
+        this.mimeDetector = mimeDetector;
+        this.metrics = metrics;
+    }
+
+    void validateKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Object key must not be null or empty");
+        }
+    }
+
+    void validateKeys(Collection<String> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Object keys must not be null");
+        }
+        keys.forEach(this::validateKey);
+    }
+
+    /**
+     * 파일의 확장자와 실제 MIME 타입을 검증합니다.
+     *
+     * @return 감지된 MIME 타입
+     */
+    String validateImage(File file) {
+        if (file == null || !file.exists() || !file.isFile()) {
+            throw new InvalidImageException("Image File must exist and be a valid file");
+        }
+
+        if (file.length() <= 0) {
+            throw new InvalidImageException("Image File size must be greater than 0");
+        }
+
+        String extension = getFileExtension(file);
+        boolean extensionAllowed = ALLOWED_IMAGE_EXTENSIONS.contains(extension);
+        if (!extensionAllowed) {
+            throw new InvalidImageException("Image File type not allowed: extension " + extension);
+        }
+
+        String detectedMimeType;
+        try {
+            detectedMimeType = metrics.record(S3Operation.DETECTION, () -> mimeDetector.detect(file));
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to detect MIME type", e);
+        }
+        boolean mimeAllowed = ALLOWED_IMAGE_MIME_TYPES.contains(detectedMimeType);
+        if (!mimeAllowed) {
+            throw new InvalidImageException("Image File type not allowed: MIME type " + detectedMimeType);
+        }
+        return detectedMimeType;
+    }
+
+    void validateInputStream(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("InputStream must not be null");
+        }
+    }
+
+    void validateContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new InvalidImageException("Content type must not be null or empty");
+        }
+
+        if (!ALLOWED_IMAGE_MIME_TYPES.contains(contentType.toLowerCase())) {
+            throw new InvalidImageException("Image File type not allowed: MIME type " + contentType);
+        }
+    }
+
+    void validateContentLength(long contentLength) {
+        if (contentLength <= 0) {
+            throw new InvalidImageException("Content length must be greater than 0");
+        }
+    }
+
+    String validateImage(InputStream inputStream) {
+        try {
+            String detectedMimeType = metrics.record(S3Operation.DETECTION, () -> mimeDetector.detect(inputStream));
+            validateDetectedMimeType(detectedMimeType);
+            return detectedMimeType;
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to detect MIME type from InputStream", e);
+        }
+    }
+
+    /**
+     * 한 번 읽어 보관한 스트림의 MIME 타입을 검증합니다.
+     * 원본 스트림이 아닌 보관본을 읽으므로, 감지 전략이 스트림을 소비하거나 닫아도 업로드에 영향이 없습니다.
+     *
+     * @return 감지된 MIME 타입
+     */
+    String validateImage(StreamSpool spool) {
+        if (spool.isInMemory()) {
+            return validateImage(spool.newInputStream());
+        }
+
+        try {
+            String detectedMimeType = metrics.record(S3Operation.DETECTION, () -> mimeDetector.detect(spool.file()));
+            validateDetectedMimeType(detectedMimeType);
+            return detectedMimeType;
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to detect MIME type from InputStream", e);
+        }
+    }
+
+    /**
+     * 객체 앞부분의 바이트로 MIME 타입을 검증합니다.
+     *
+     * @param header    객체 앞부분의 바이트
+     * @param truncated 객체가 {@code header}보다 길 수 있는지 여부
+     */
+    void validateImageHeader(byte[] header, boolean truncated) {
+        try {
+            String detectedMimeType = metrics.record(S3Operation.DETECTION,
+                    () -> mimeDetector.detectHeader(header, truncated));
+            validateDetectedMimeType(detectedMimeType);
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to detect MIME type from object header", e);
+        }
+    }
+
+    private void validateDetectedMimeType(String detectedMimeType) {
+        if (!ALLOWED_IMAGE_MIME_TYPES.contains(detectedMimeType)) {
+            throw new InvalidImageException("Image File type not allowed: detected MIME type " + detectedMimeType);
+        }
+    }
+
+    private String getFileExtension(File file) {
+        String fileName = file.getName();
+        int index = fileName.lastIndexOf('.');
+        if (index == -1) {
+            throw new InvalidImageException("Image File has no extension: " + fileName);
+        }
+        return fileName.substring(index).toLowerCase();
+    }
+}
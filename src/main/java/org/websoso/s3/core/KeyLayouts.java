@@ -0,0 +1,41 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.core.strategy.KeyLayoutStrategy;
+import org.websoso.s3.core.strategy.PlainKeyLayoutStrategy;
+import org.websoso.s3.modle.S3DeleteResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 서비스가 {@link KeyLayoutStrategy}로 바꾼 물리 키를 사용할 때 필요한 보조 메서드를 모은 클래스입니다.
+ */
+final class KeyLayouts {
+
+    private KeyLayouts() {
+        // prevent instantiation
+    }
+
+    /**
+     * 논리 키들을 물리 키로 바꾸어 삭제하고, 결과의 키를 호출자가 지정한 논리 키로 되돌립니다.
+     * 저장소의 {@link ObjectStore#deleteAll(Collection)}은 입력 순서대로 키마다 하나의 결과를 반환합니다.
+     */
+    static List<S3DeleteResult> deleteAll(ObjectStore store, KeyLayoutStrategy keyLayout, Collection<String> keys) {
+        if (keyLayout == PlainKeyLayoutStrategy.INSTANCE) {
+            return store.deleteAll(keys);
+        }
+
+        List<String> logicalKeys = new ArrayList<>(keys);
+        List<String> physicalKeys = new ArrayList<>(logicalKeys.size());
+        logicalKeys.forEach(key -> physicalKeys.add(keyLayout.physicalKey(key)));
+
+        List<S3DeleteResult> results = store.deleteAll(physicalKeys);
+        List<S3DeleteResult> logicalResults = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            S3DeleteResult result = results.get(i);
+            logicalResults.add(new S3DeleteResult(logicalKeys.get(i), result.isSuccess(), result.message()));
+        }
+        return logicalResults;
+    }
+}
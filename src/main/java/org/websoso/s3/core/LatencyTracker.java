@@ -0,0 +1,48 @@
+package org.websoso.s3.core;
+
+import java.util.Arrays;
+
+/**
+ * 최근 요청의 지연 시간을 고정 크기 창에 보관하고 백분위수를 계산하는 클래스입니다.
+ * <p>
+ * 창이 가득 차면 가장 오래된 값부터 덮어쓰므로, 백분위수는 최근 {@code capacity}개 요청만 반영합니다.
+ * </p>
+ */
+final class LatencyTracker {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * 최근 지연 시간의 백분위수를 반환합니다.
+     *
+     * @param percentile 백분위수 (0 초과 1 미만)
+     * @param minSamples 계산에 필요한 최소 표본 수
+     * @return 백분위수 지연 시간 (나노초), 표본이 부족하면 -1
+     */
+    long percentile(double percentile, int minSamples) {
+        long[] sorted;
+        synchronized (this) {
+            if (count < minSamples) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
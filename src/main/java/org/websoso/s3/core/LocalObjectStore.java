@@ -0,0 +1,323 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectHeader;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3UploadResponse;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 파일 시스템의 디렉터리를 사용하는 {@link ObjectStore} 구현체입니다.
+ * <p>
+ * 객체 키는 루트 디렉터리 아래의 상대 경로로 저장됩니다. 쓰기는 같은 디렉터리의 임시 파일에
+ * {@link FileChannel#transferFrom}으로 기록한 뒤 원자적 이름 변경으로 교체하므로, 읽는 쪽에서는 쓰다 만 파일이 보이지 않습니다.
+ * 읽기는 {@link FileChannel#transferTo}로 채널에 바로 보내므로, 대상이 소켓이나 파일 채널이면 내용을 힙에 복사하지 않습니다.
+ * </p>
+ * <p>
+ * 네트워크 없이 개발, 사내 설치 환경, 부하 테스트에서 서비스를 실행하거나 엣지 캐시로 사용할 수 있습니다.
+ * 컨텐츠 타입은 저장하지 않으며, ETag는 MD5가 아닌 파일 크기와 수정 시각으로 만든 값입니다.
+ * 비정상 종료 시 남은 임시 파일({@code .*.part})은 정리되지 않습니다.
+ * </p>
+ */
+public class LocalObjectStore implements ObjectStore {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalObjectStore.class);
+
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private final Path root;
+    private final S3UrlTemplate urlTemplate;
+
+    /**
+     * 객체 URL로 {@code file:} URI를 반환하는 저장소를 생성합니다. 디렉터리가 없으면 만듭니다.
+     *
+     * @param root 객체를 저장할 루트 디렉터리
+     */
+    public LocalObjectStore(Path root) {
+        this(root, null);
+    }
+
+    /**
+     * 객체 URL을 {@code baseUrl} 아래 키 경로로 반환하는 저장소를 생성합니다. 디렉터리가 없으면 만듭니다.
+     *
+     * @param root    객체를 저장할 루트 디렉터리
+     * @param baseUrl 루트 디렉터리를 서빙하는 URL (예: {@code http://localhost:8080/static}), null이면 {@code file:} URI
+     * @throws IllegalArgumentException 루트 디렉터리가 null인 경우
+     * @throws UncheckedIOException     루트 디렉터리를 만들 수 없는 경우
+     */
+    public LocalObjectStore(Path root, String baseUrl) {
+        if (root == null) {
+            throw new IllegalArgumentException("Root directory must not be null");
+        }
+
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create root directory: " + this.root, e);
+        }
+        this.urlTemplate = S3UrlTemplate.ofBaseUrl(baseUrl != null ? baseUrl : this.root.toUri().toString());
+    }
+
+    @Override
+    public S3UploadResponse put(String key, File file, String contentType) {
+        return write(key, target -> {
+            try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long size = source.size();
+                long written = transferFrom(source, target, size);
+                if (written != size) {
+                    throw new IOException("File ended early: expected " + size + ", actual " + written);
+                }
+            }
+        });
+    }
+
+    @Override
+    public S3UploadResponse put(String key, ByteBuffer buffer, String contentType) {
+        return write(key, target -> {
+            ByteBuffer content = buffer.duplicate();
+            while (content.hasRemaining()) {
+                target.write(content);
+            }
+        });
+    }
+
+    @Override
+    public S3UploadResponse put(String key, InputStream inputStream, String contentType, long contentLength) {
+        return write(key, target -> {
+            long written = transferFrom(channelOf(inputStream), target, contentLength);
+            if (written != contentLength) {
+                throw new IOException("InputStream ended before content length: expected "
+                        + contentLength + ", actual " + written);
+            }
+        });
+    }
+
+    @Override
+    public S3UploadResponse put(String key, InputStream inputStream, String contentType) {
+        return write(key, target -> transferFrom(channelOf(inputStream), target, Long.MAX_VALUE));
+    }
+
+    @Override
+    public boolean delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            log.info("Successfully deleted local object: root={}, key={}", root, key);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to delete local object: root={}, key={}", root, key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public List<S3DeleteResult> deleteAll(Collection<String> keys) {
+        List<S3DeleteResult> results = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+                results.add(S3DeleteResult.success(key));
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to delete local object: root={}, key={}", root, key, e);
+                results.add(S3DeleteResult.fail(key, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public S3ObjectMetadata read(String key, WritableByteChannel target, S3ByteRange range) {
+        Path path = resolveForRead(key);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (range != null && range.start() >= size) {
+                throw new S3ReaderException("Range not satisfiable: " + range.toHeaderValue() + ", size " + size);
+            }
+
+            long start = range == null ? 0 : range.start();
+            long end = range == null || range.end() == -1 ? size - 1 : Math.min(range.end(), size - 1);
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, Math.min(end + 1 - position, TRANSFER_CHUNK_SIZE), target);
+                if (transferred <= 0) {
+                    throw new IOException("Target channel accepted no bytes at position " + position);
+                }
+                position += transferred;
+            }
+
+            FileTime lastModified = Files.getLastModifiedTime(path);
+            String contentRange = range == null ? null : "bytes " + start + "-" + end + "/" + size;
+            return new S3ObjectMetadata(key, end + 1 - start, null, eTag(size, lastModified),
+                    lastModified.toInstant(), contentRange);
+
+        } catch (NoSuchFileException e) {
+            throw new S3ReaderException("Object not found: " + key, e);
+        } catch (IOException e) {
+            throw new S3ReaderException("Failed to read object: " + key, e);
+        }
+    }
+
+    @Override
+    public S3ObjectHeader readHeader(String key, int length) {
+        Path path = resolveForRead(key);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, size));
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 요청한 길이나 파일 끝까지 읽습니다.
+            }
+
+            int read = buffer.position();
+            FileTime lastModified = Files.getLastModifiedTime(path);
+            S3ObjectMetadata metadata = new S3ObjectMetadata(key, read, null, eTag(size, lastModified),
+                    lastModified.toInstant(), read == 0 ? null : "bytes 0-" + (read - 1) + "/" + size);
+            byte[] bytes = read == buffer.capacity() ? buffer.array() : Arrays.copyOf(buffer.array(), read);
+            return new S3ObjectHeader(metadata, bytes);
+
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new S3ReaderException("Failed to read object header: " + key, e);
+        }
+    }
+
+    @Override
+    public S3ObjectMetadata head(String key) {
+        Path path = resolveForRead(key);
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new S3ObjectMetadata(key, attributes.size(), null, eTag(attributes.size(), attributes.lastModifiedTime()),
+                    attributes.lastModifiedTime().toInstant(), null);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new S3ReaderException("Failed to read object metadata: " + key, e);
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return urlTemplate.getUrl(key);
+    }
+
+    private S3UploadResponse write(String key, ContentWriter writer) {
+
+        log.debug("Storing object in local store: root={}, key={}", root, key);
+
+        Path temp = null;
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+
+            // 원자적 이름 변경이 가능하도록 같은 디렉터리에 임시 파일을 만듭니다.
+            temp = target.resolveSibling("." + target.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".part");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+            }
+
+            String eTag = eTag(Files.size(temp), Files.getLastModifiedTime(temp));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("Successfully stored object in local store: root={}, key={}", root, key);
+
+            return S3UploadResponse.success(eTag);
+
+        } catch (IOException | RuntimeException e) {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException deleteException) {
+                    e.addSuppressed(deleteException);
+                }
+            }
+            throw new S3UploaderException("Local store upload failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 키를 루트 디렉터리 아래 경로로 바꿉니다. {@code ..} 등으로 루트 밖을 가리키는 키는 거부합니다.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Key resolves outside of the root directory: " + key);
+        }
+        return path;
+    }
+
+    private Path resolveForRead(String key) {
+        try {
+            return resolve(key);
+        } catch (IllegalArgumentException e) {
+            throw new S3ReaderException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 원본 채널의 내용을 대상 파일 채널의 현재 위치부터 최대 {@code maxLength}바이트까지 씁니다.
+     *
+     * @return 쓴 바이트 수
+     */
+    private static long transferFrom(ReadableByteChannel source, FileChannel target, long maxLength) throws IOException {
+        long written = 0;
+        while (written < maxLength) {
+            long transferred = target.transferFrom(source, written, Math.min(maxLength - written, TRANSFER_CHUNK_SIZE));
+            if (transferred <= 0) {
+                break;
+            }
+            written += transferred;
+        }
+        return written;
+    }
+
+    /**
+     * 파일 스트림은 파일 채널을 그대로 사용하여 커널 안에서 복사되도록 합니다. 반환한 채널은 닫지 않아야 합니다.
+     */
+    private static ReadableByteChannel channelOf(InputStream inputStream) {
+        if (inputStream instanceof FileInputStream fileInputStream) {
+            return fileInputStream.getChannel();
+        }
+        return Channels.newChannel(inputStream);
+    }
+
+    private static String eTag(long size, FileTime lastModified) {
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified.to(TimeUnit.MICROSECONDS)) + "\"";
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(FileChannel target) throws IOException;
+    }
+}
@@ -0,0 +1,108 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectHeader;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3UploadResponse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 서비스에 직접 전달된 {@link ObjectStore}의 업로드, 삭제, URL 생성 지표를 기록하는 클래스입니다.
+ * <p>
+ * 서비스가 내부에서 만드는 {@link S3ObjectStore}는 {@link S3Uploader} 등이 직접 지표를 기록하므로 감싸지 않습니다.
+ * </p>
+ */
+final class MeteredObjectStore implements ObjectStore {
+
+    private final ObjectStore delegate;
+    private final MetricsRecorder metrics;
+
+    private MeteredObjectStore(ObjectStore delegate, MetricsRecorder metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 지표가 비활성화되어 있으면 저장소를 그대로 반환합니다.
+     *
+     * @throws IllegalArgumentException 저장소가 null인 경우
+     */
+    static ObjectStore of(ObjectStore store, MetricsRecorder metrics) {
+        if (store == null) {
+            throw new IllegalArgumentException("Object store must not be null");
+        }
+        return metrics.isEnabled() ? new MeteredObjectStore(store, metrics) : store;
+    }
+
+    @Override
+    public S3UploadResponse put(String key, File file, String contentType) {
+        return put(file.length(), () -> delegate.put(key, file, contentType));
+    }
+
+    @Override
+    public S3UploadResponse put(String key, ByteBuffer buffer, String contentType) {
+        return put(buffer.remaining(), () -> delegate.put(key, buffer, contentType));
+    }
+
+    @Override
+    public S3UploadResponse put(String key, InputStream inputStream, String contentType, long contentLength) {
+        return put(contentLength, () -> delegate.put(key, inputStream, contentType, contentLength));
+    }
+
+    @Override
+    public S3UploadResponse put(String key, InputStream inputStream, String contentType) {
+        CountingInputStream countingStream = new CountingInputStream(inputStream);
+        S3UploadResponse response = metrics.record(S3Operation.PUT,
+                () -> delegate.put(key, countingStream, contentType));
+        if (response.isSuccess()) {
+            metrics.recordBytes(S3Operation.PUT, countingStream.count());
+        }
+        return response;
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return metrics.record(S3Operation.DELETE, () -> delegate.delete(key));
+    }
+
+    @Override
+    public List<S3DeleteResult> deleteAll(Collection<String> keys) {
+        return metrics.record(S3Operation.DELETE, () -> delegate.deleteAll(keys));
+    }
+
+    @Override
+    public S3ObjectMetadata read(String key, WritableByteChannel target, S3ByteRange range) {
+        return delegate.read(key, target, range);
+    }
+
+    @Override
+    public S3ObjectHeader readHeader(String key, int length) {
+        return delegate.readHeader(key, length);
+    }
+
+    @Override
+    public S3ObjectMetadata head(String key) {
+        return delegate.head(key);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return metrics.record(S3Operation.URL_GENERATION, () -> delegate.getUrl(key));
+    }
+
+    private S3UploadResponse put(long contentLength, MetricsRecorder.Action<S3UploadResponse, RuntimeException> upload) {
+        S3UploadResponse response = metrics.record(S3Operation.PUT, upload);
+        if (response.isSuccess()) {
+            metrics.recordBytes(S3Operation.PUT, contentLength);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,127 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.core.strategy.MimeTypeDetectionStrategy;
+import org.websoso.s3.metrics.S3MetricTags;
+import org.websoso.s3.metrics.S3Metrics;
+import org.websoso.s3.metrics.S3Operation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 서비스 하나의 집계 기준({@link S3MetricTags})을 묶어 {@link S3Metrics}에 작업 지표를 기록하는 클래스입니다.
+ * <p>
+ * 작업의 소요 시간, 진행 중인 작업 수, 실패한 예외를 함께 기록합니다.
+ * no-op 지표를 사용하면 시간 측정 없이 작업만 실행합니다.
+ * </p>
+ */
+final class MetricsRecorder {
+
+    static final MetricsRecorder NOOP = new MetricsRecorder(S3Metrics.noop(),
+            new S3MetricTags("none", S3MetricTags.NO_DETECTION));
+
+    @FunctionalInterface
+    interface Action<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    @FunctionalInterface
+    interface VoidAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    private final S3Metrics metrics;
+    private final S3MetricTags tags;
+    private final boolean enabled;
+
+    private MetricsRecorder(S3Metrics metrics, S3MetricTags tags) {
+        this.metrics = metrics;
+        this.tags = tags;
+        this.enabled = metrics != S3Metrics.noop();
+    }
+
+    static MetricsRecorder of(S3Metrics metrics, String serviceType) {
+        return of(metrics, serviceType, S3MetricTags.NO_DETECTION);
+    }
+
+    static MetricsRecorder of(S3Metrics metrics, String serviceType, MimeTypeDetectionStrategy mimeDetector) {
+        return of(metrics, serviceType, mimeDetector.mode());
+    }
+
+    private static MetricsRecorder of(S3Metrics metrics, String serviceType, String detectionMode) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics must not be null");
+        }
+        if (metrics == S3Metrics.noop()) {
+            return NOOP;
+        }
+        return new MetricsRecorder(metrics, new S3MetricTags(serviceType, detectionMode));
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    <T, E extends Exception> T record(S3Operation operation, Action<T, E> action) throws E {
+        if (!enabled) {
+            return action.run();
+        }
+
+        metrics.recordInFlight(operation, tags, 1);
+        long start = System.nanoTime();
+        try {
+            return action.run();
+        } catch (Exception | Error e) {
+            metrics.recordError(operation, tags, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(operation, tags, System.nanoTime() - start);
+            metrics.recordInFlight(operation, tags, -1);
+        }
+    }
+
+    <E extends Exception> void run(S3Operation operation, VoidAction<E> action) throws E {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 비동기 작업의 시작부터 {@link CompletableFuture} 완료까지를 기록합니다.
+     */
+    <T> CompletableFuture<T> recordAsync(S3Operation operation, Action<CompletableFuture<T>, RuntimeException> action) {
+        if (!enabled) {
+            return action.run();
+        }
+
+        metrics.recordInFlight(operation, tags, 1);
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = action.run();
+        } catch (RuntimeException | Error e) {
+            metrics.recordError(operation, tags, e);
+            metrics.recordLatency(operation, tags, System.nanoTime() - start);
+            metrics.recordInFlight(operation, tags, -1);
+            throw e;
+        }
+
+        return future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null)
+                        ? throwable.getCause()
+                        : throwable;
+                metrics.recordError(operation, tags, cause);
+            }
+            metrics.recordLatency(operation, tags, System.nanoTime() - start);
+            metrics.recordInFlight(operation, tags, -1);
+        });
+    }
+
+    void recordBytes(S3Operation operation, long bytes) {
+        if (enabled) {
+            metrics.recordBytes(operation, tags, bytes);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.modle.S3ObjectMetadata;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 저장소의 HEAD 조회 결과를 객체 키별로 보관하는 LRU 캐시입니다.
+ * <p>
+ * 객체가 있으면 메타데이터를 {@code ttl} 동안, 없으면 없다는 사실을 {@code negativeTtl} 동안 보관하며,
+ * 만료 시각이 지난 항목은 반환하지 않고 다시 조회합니다. 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 같은 서비스로 업로드하거나 삭제한 키는 {@link #invalidate(String)}로 바로 제거하거나, 업로드 응답으로 만든 메타데이터를
+ * {@link #update(String, S3ObjectMetadata)}로 보관해야 합니다.
+ * </p>
+ */
+final class ObjectMetadataCache {
+
+    private final ObjectStore store;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Clock clock;
+    /**
+     * 객체가 없다는 결과는 null 메타데이터로 보관합니다.
+     */
+    private final ExpiringLruCache<S3ObjectMetadata> entries;
+    /**
+     * HEAD가 진행 중인 키별 상태입니다. 진행 중인 조회가 모두 끝나면 제거되므로, 크기는 동시에 조회 중인 키 수를 넘지 않습니다.
+     */
+    private final Map<String, Lookup> lookups = new HashMap<>();
+
+    ObjectMetadataCache(ObjectStore store, int maxSize, Duration ttl, Duration negativeTtl, Clock clock) {
+        this.store = store;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.clock = clock;
+        this.entries = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없거나 만료되었으면 저장소에 HEAD로 조회한 뒤 결과를 보관합니다.
+     * 조회는 잠금 밖에서 수행하므로, 같은 키를 동시에 조회하면 HEAD 요청이 겹칠 수 있습니다.
+     * 조회하는 동안 같은 키가 무효화되면 조회 결과가 이미 오래되었을 수 있으므로 보관하지 않습니다. 다른 키의 무효화는 영향을 주지 않습니다.
+     *
+     * @return 객체 메타데이터, 객체가 없으면 null
+     */
+    S3ObjectMetadata metadata(String key) {
+        Lookup lookup;
+        long generation;
+        synchronized (this) {
+            ExpiringLruCache.Entry<S3ObjectMetadata> cached = entries.get(key, clock.instant());
+            if (cached != null) {
+                return cached.value();
+            }
+            lookup = lookups.computeIfAbsent(key, k -> new Lookup());
+            lookup.inFlight++;
+            generation = lookup.generation;
+        }
+
+        S3ObjectMetadata metadata = null;
+        boolean completed = false;
+        try {
+            metadata = store.head(key);
+            completed = true;
+            return metadata;
+        } finally {
+            complete(key, lookup, generation, metadata, completed);
+        }
+    }
+
+    synchronized void invalidate(String key) {
+        staleLookups(key);
+        entries.remove(key);
+    }
+
+    /**
+     * 업로드한 객체의 메타데이터를 HEAD 없이 보관합니다. 무효화와 같이, 같은 키에 진행 중이던 HEAD의 결과는 보관하지 않습니다.
+     */
+    synchronized void update(String key, S3ObjectMetadata metadata) {
+        staleLookups(key);
+        entries.put(key, metadata, expiresAt(metadata));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void staleLookups(String key) {
+        Lookup lookup = lookups.get(key);
+        if (lookup != null) {
+            lookup.generation++;
+        }
+    }
+
+    private synchronized void complete(String key, Lookup lookup, long generation, S3ObjectMetadata metadata,
+                                       boolean completed) {
+        if (completed && lookup.generation == generation) {
+            entries.put(key, metadata, expiresAt(metadata));
+        }
+        if (--lookup.inFlight == 0) {
+            lookups.remove(key);
+        }
+    }
+
+    private Instant expiresAt(S3ObjectMetadata metadata) {
+        return clock.instant().plus(metadata != null ? ttl : negativeTtl);
+    }
+
+    /**
+     * 한 키에 진행 중인 HEAD 수와, 조회 시작 이후 무효화되었는지 확인하기 위한 세대입니다.
+     */
+    private static final class Lookup {
+        private int inFlight;
+        private long generation;
+    }
+}
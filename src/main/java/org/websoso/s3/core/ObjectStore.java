@@ -0,0 +1,103 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectHeader;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3UploadResponse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 서비스가 객체를 저장하고 읽는 저장소 인터페이스입니다.
+ * <p>
+ * {@link S3FileService}와 {@link S3ImageService}는 검증을 마친 뒤 이 인터페이스로만 객체를 다루므로,
+ * 구현체를 바꾸어 같은 서비스를 S3({@link S3ObjectStore}) 또는 로컬 파일 시스템({@link LocalObjectStore}) 위에서 실행할 수 있습니다.
+ * 키 검증은 서비스가 수행하며, 구현체는 검증된 키를 받는다고 가정합니다.
+ * </p>
+ */
+public interface ObjectStore {
+
+    /**
+     * 파일을 저장합니다.
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param file        저장할 파일
+     * @param contentType 컨텐츠 타입, 지정하지 않으려면 null
+     * @return 저장 결과
+     * @throws S3UploaderException 저장 중 오류가 발생한 경우
+     */
+    S3UploadResponse put(String key, File file, String contentType);
+
+    /**
+     * 버퍼의 남은 영역을 저장합니다. 버퍼의 위치는 바꾸지 않습니다.
+     *
+     * @throws S3UploaderException 저장 중 오류가 발생한 경우
+     */
+    S3UploadResponse put(String key, ByteBuffer buffer, String contentType);
+
+    /**
+     * 입력 스트림에서 {@code contentLength}바이트를 읽어 저장합니다.
+     *
+     * @throws S3UploaderException 저장 중 오류가 발생하거나 스트림이 컨텐츠 길이보다 짧은 경우
+     */
+    S3UploadResponse put(String key, InputStream inputStream, String contentType, long contentLength);
+
+    /**
+     * 길이를 모르는 입력 스트림을 끝까지 읽어 저장합니다.
+     *
+     * @throws S3UploaderException 저장 중 오류가 발생한 경우
+     */
+    S3UploadResponse put(String key, InputStream inputStream, String contentType);
+
+    /**
+     * 객체를 삭제합니다. 객체가 없어도 성공으로 취급합니다.
+     *
+     * @return 삭제 성공 여부
+     */
+    boolean delete(String key);
+
+    /**
+     * 여러 객체를 삭제합니다.
+     *
+     * @return 입력 순서대로 정렬된 키별 삭제 결과
+     */
+    List<S3DeleteResult> deleteAll(Collection<String> keys);
+
+    /**
+     * 객체를 채널로 읽습니다. 채널은 닫지 않습니다.
+     *
+     * @param key    객체 키 (경로 포함)
+     * @param target 내용을 쓸 채널
+     * @param range  읽을 범위, 전체를 읽으려면 null
+     * @return 객체 메타데이터
+     * @throws S3ReaderException 객체가 없거나 읽는 중 오류가 발생한 경우
+     */
+    S3ObjectMetadata read(String key, WritableByteChannel target, S3ByteRange range);
+
+    /**
+     * 객체의 앞부분을 최대 {@code length}바이트까지 읽습니다. 객체가 더 짧으면 전체를 반환합니다.
+     *
+     * @return 읽은 내용과 메타데이터, 객체가 없으면 null
+     */
+    S3ObjectHeader readHeader(String key, int length);
+
+    /**
+     * 내용을 읽지 않고 객체의 메타데이터만 조회합니다. (S3의 HeadObject)
+     *
+     * @return 객체 메타데이터, 객체가 없으면 null
+     */
+    S3ObjectMetadata head(String key);
+
+    /**
+     * 객체의 URL을 반환합니다.
+     */
+    String getUrl(String key);
+}
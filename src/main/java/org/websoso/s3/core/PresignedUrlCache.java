@@ -0,0 +1,35 @@
+package org.websoso.s3.core;
+
+import java.time.Instant;
+
+/**
+ * presigned URL을 객체 키별로 보관하는 LRU 캐시입니다.
+ * <p>
+ * 항목마다 갱신 시각을 함께 저장하며, 갱신 시각이 지난 항목은 반환하지 않고 제거합니다.
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * </p>
+ */
+final class PresignedUrlCache {
+
+    private final ExpiringLruCache<String> entries;
+
+    PresignedUrlCache(int maxSize) {
+        this.entries = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * @return 캐시된 URL, 없거나 갱신 시각이 지났으면 null
+     */
+    String get(String key, Instant now) {
+        ExpiringLruCache.Entry<String> entry = entries.get(key, now);
+        return entry == null ? null : entry.value();
+    }
+
+    void put(String key, String url, Instant refreshAt) {
+        entries.put(key, url, refreshAt);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
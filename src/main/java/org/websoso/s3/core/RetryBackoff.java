@@ -0,0 +1,102 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.exception.ConcurrencyLimitExceededException;
+import org.websoso.s3.exception.S3UploaderException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 재시도 사이의 대기 시간을 정하는 클래스입니다.
+ * <p>
+ * n번째 재시도는 기준값의 2^(n-1)배를 상한으로 하여, 상한의 절반에서 상한 사이의 임의 시간만큼 기다립니다.
+ * 503 SlowDown 또는 스로틀링 응답을 받을 때마다 상한에 곱하는 배수를 두 배로(최대 {@value #MAX_SLOW_DOWN_FACTOR}배) 늘리고,
+ * 요청이 성공할 때마다 절반으로 줄여, 같은 업로더를 쓰는 요청들이 함께 속도를 늦추도록 합니다.
+ * </p>
+ */
+final class RetryBackoff {
+
+    private static final int MAX_SLOW_DOWN_FACTOR = 32;
+
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final AtomicInteger slowDownFactor = new AtomicInteger(1);
+
+    RetryBackoff(S3UploadProperties properties) {
+        this.baseDelayNanos = properties.getRetryBaseDelay().toNanos();
+        this.maxDelayNanos = properties.getRetryMaxDelay().toNanos();
+    }
+
+    /**
+     * 요청이 성공했음을 알립니다. SlowDown 배수를 절반으로 줄입니다.
+     */
+    void onSuccess() {
+        if (slowDownFactor.get() > 1) {
+            slowDownFactor.updateAndGet(factor -> Math.max(1, factor / 2));
+        }
+    }
+
+    /**
+     * 요청이 실패했음을 알립니다. SlowDown 또는 스로틀링 응답이면 배수를 두 배로 늘립니다.
+     */
+    void onFailure(Throwable failure) {
+        if (isSlowDown(failure)) {
+            slowDownFactor.updateAndGet(factor -> Math.min(MAX_SLOW_DOWN_FACTOR, factor * 2));
+        }
+    }
+
+    /**
+     * 최근 SlowDown 응답으로 대기 시간이 늘어난 상태인지 반환합니다.
+     */
+    boolean isSlowingDown() {
+        return slowDownFactor.get() > 1;
+    }
+
+    /**
+     * {@code attempt}번째 시도가 실패한 뒤 다음 시도 전까지 기다립니다.
+     *
+     * @throws S3UploaderException 기다리는 중 인터럽트된 경우
+     */
+    void sleep(int attempt) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos(attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new S3UploaderException("Interrupted while waiting to retry upload", e);
+        }
+    }
+
+    long delayNanos(int attempt) {
+        long cap = baseDelayNanos;
+        for (int i = 1; i < attempt && cap < maxDelayNanos; i++) {
+            cap *= 2;
+        }
+        cap = Math.min(maxDelayNanos, cap * slowDownFactor.get());
+        return ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+    }
+
+    /**
+     * 다시 보내도 결과가 달라질 수 있는 실패인지 반환합니다. 408, 429를 제외한 4xx 응답과, 동시성 제한에 걸려 거절된 요청은 재시도하지 않습니다.
+     */
+    static boolean isRetryable(Throwable failure) {
+        if (failure instanceof ConcurrencyLimitExceededException) {
+            return false;
+        }
+        if (failure instanceof SdkServiceException serviceException) {
+            int status = serviceException.statusCode();
+            return status < 400 || status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    /**
+     * 503 SlowDown 또는 스로틀링 응답인지 반환합니다.
+     */
+    static boolean isSlowDown(Throwable failure) {
+        return failure instanceof SdkServiceException serviceException
+                && (serviceException.statusCode() == 503 || serviceException.isThrottlingException());
+    }
+}
@@ -0,0 +1,71 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.modle.S3UploadResult;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3 객체 업로드 및 삭제를 비동기로 수행하기 위한 인터페이스입니다.
+ * <p>
+ * {@link S3DefaultService}의 비동기 버전으로, 요청 스레드를 PUT이 끝날 때까지 점유하지 않고
+ * 결과를 {@link CompletableFuture}로 반환합니다.
+ * 입력값 검증은 호출 스레드에서 즉시 수행되며, 검증 실패 시 예외를 바로 던집니다.
+ * </p>
+ */
+public interface S3AsyncDefaultService {
+
+    /**
+     * File 객체를 S3에 비동기로 업로드
+     *
+     * @param key  객체 키 (경로 포함)
+     * @param file 업로드할 파일
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     */
+    CompletableFuture<S3UploadResult> upload(String key, File file);
+
+    /**
+     * File 객체를 S3에 비동기로 업로드
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param file        업로드할 파일
+     * @param contentType 컨텐츠 타입 (MIME 타입, 예: image/jpeg)
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     */
+    CompletableFuture<S3UploadResult> upload(String key, File file, String contentType);
+
+    /**
+     * InputStream 객체를 S3에 비동기로 업로드
+     *
+     * @param key           객체 키 (경로 포함)
+     * @param inputStream   업로드할 입력 스트림
+     * @param contentType   컨텐츠 타입 (MIME 타입, 예: image/jpeg)
+     * @param contentLength 컨텐츠 길이 (바이트 단위)
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     */
+    CompletableFuture<S3UploadResult> upload(String key, InputStream inputStream, String contentType, long contentLength);
+
+    /**
+     * S3에 존재하는 객체를 비동기로 삭제
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return 삭제 성공 여부의 {@link CompletableFuture}
+     */
+    CompletableFuture<Boolean> delete(String key);
+
+    /**
+     * 객체 키가 실제로 저장되는 물리 키를 반환
+     * <p>
+     * 같은 {@link org.websoso.s3.config.S3UploadProperties}로 만든 동기 서비스와 같은 물리 키를 사용하므로,
+     * 두 서비스가 같은 논리 키로 같은 객체를 가리킵니다. 기본 구현은 키를 그대로 반환합니다.
+     * </p>
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return 저장소에 실제로 사용하는 객체 키
+     */
+    default String physicalKey(String key) {
+        return key;
+    }
+
+}
@@ -0,0 +1,156 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.core.strategy.KeyLayoutStrategy;
+import org.websoso.s3.metrics.S3Metrics;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3UploadResponse;
+import org.websoso.s3.modle.S3UploadResult;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3 파일 업로드 및 삭제를 비동기로 수행하는 S3AsyncDefaultService 인터페이스의 구현체 입니다.
+ * <p>
+ * {@link S3FileService}와 동일한 검증 규칙을 적용하며,
+ * 업로드는 {@link S3AsyncClient}를 통해 논블로킹으로 수행됩니다.
+ * 업로드 결과는 {@link S3UploadResult}의 {@link CompletableFuture}로 반환됩니다.
+ * </p>
+ * <p>
+ * {@link S3UploadProperties}를 지정하면 객체 키가 {@link S3UploadProperties#getKeyLayout()}에 따라
+ * {@link S3FileService}와 같은 물리 키로 바뀌어 저장됩니다.
+ * </p>
+ */
+public class S3AsyncFileService implements S3AsyncDefaultService {
+
+    private final S3AsyncUploader uploader;
+    private final S3AsyncRemover remover;
+    private final S3AsyncReader reader;
+    private final KeyLayoutStrategy keyLayout;
+    private final MetricsRecorder metrics;
+
+    public S3AsyncFileService(S3AsyncClient s3AsyncClient, String bucket) {
+        this(s3AsyncClient, bucket, new S3ReadProperties());
+    }
+
+    public S3AsyncFileService(S3AsyncClient s3AsyncClient, String bucket, S3ReadProperties readProperties) {
+        this(s3AsyncClient, bucket, readProperties, S3Metrics.noop());
+    }
+
+    /**
+     * @param metrics 검증, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}. 서비스 종류 {@code async-file}로 구분됩니다.
+     */
+    public S3AsyncFileService(S3AsyncClient s3AsyncClient, String bucket, S3ReadProperties readProperties,
+                              S3Metrics metrics) {
+        this(s3AsyncClient, bucket, new S3UploadProperties(), readProperties, metrics);
+    }
+
+    /**
+     * @param uploadProperties 업로드 설정. 키 배치 방식({@link S3UploadProperties#getKeyLayout()})을 사용합니다.
+     * @param metrics          검증, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}. 서비스 종류 {@code async-file}로 구분됩니다.
+     */
+    public S3AsyncFileService(S3AsyncClient s3AsyncClient, String bucket, S3UploadProperties uploadProperties,
+                              S3ReadProperties readProperties, S3Metrics metrics) {
+        this.metrics = MetricsRecorder.of(metrics, "async-file");
+        uploader = new S3AsyncUploader(s3AsyncClient, bucket, this.metrics);
+        remover = new S3AsyncRemover(s3AsyncClient, bucket, this.metrics);
+        reader = new S3AsyncReader(s3AsyncClient, bucket, readProperties, this.metrics);
+        keyLayout = KeyLayoutStrategy.from(uploadProperties);
+    }
+
+    /**
+     * 파일 업로드
+     *
+     * @param key  객체 키 (경로 포함)
+     * @param file 업로드할 파일
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우
+     */
+    @Override
+    public CompletableFuture<S3UploadResult> upload(String key, File file) {
+
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateFile(file);
+        });
+
+        String physicalKey = keyLayout.physicalKey(key);
+        return uploader.upload(physicalKey, file)
+                .thenApply(response -> toResult(physicalKey, response));
+    }
+
+    /**
+     * 파일 업로드
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param file        업로드할 파일
+     * @param contentType 컨텐츠 타입 (MIME 타입)
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우
+     */
+    @Override
+    public CompletableFuture<S3UploadResult> upload(String key, File file, String contentType) {
+
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateFile(file);
+            FileValidator.validateContentType(contentType);
+        });
+
+        String physicalKey = keyLayout.physicalKey(key);
+        return uploader.upload(physicalKey, file, contentType)
+                .thenApply(response -> toResult(physicalKey, response));
+    }
+
+    /**
+     * 파일 업로드
+     *
+     * @param key           객체 키 (경로 포함)
+     * @param inputStream   업로드할 입력 스트림
+     * @param contentType   컨텐츠 타입 (MIME 타입)
+     * @param contentLength 컨텐츠 길이 (바이트)
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우
+     */
+    @Override
+    public CompletableFuture<S3UploadResult> upload(String key, InputStream inputStream, String contentType, long contentLength) {
+
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateInputStream(inputStream);
+            FileValidator.validateContentType(contentType);
+            FileValidator.validateContentLength(contentLength);
+        });
+
+        String physicalKey = keyLayout.physicalKey(key);
+        return uploader.upload(physicalKey, inputStream, contentType, contentLength)
+                .thenApply(response -> toResult(physicalKey, response));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(String key) {
+        FileValidator.validateKey(key);
+
+        return remover.delete(keyLayout.physicalKey(key));
+    }
+
+    @Override
+    public String physicalKey(String key) {
+        FileValidator.validateKey(key);
+        return keyLayout.physicalKey(key);
+    }
+
+    private S3UploadResult toResult(String key, S3UploadResponse response) {
+        if (!response.isSuccess()) {
+            return S3UploadResult.fail(response);
+        }
+
+        String url = reader.getUrl(key);
+        return S3UploadResult.success(response, key, url);
+    }
+
+}
@@ -0,0 +1,188 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.core.strategy.KeyLayoutStrategy;
+import org.websoso.s3.core.strategy.MimeTypeDetectionStrategy;
+import org.websoso.s3.exception.InvalidImageException;
+import org.websoso.s3.metrics.S3Metrics;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3UploadResponse;
+import org.websoso.s3.modle.S3UploadResult;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3 이미지 업로드 및 삭제를 비동기로 수행하는 S3AsyncDefaultService 인터페이스의 구현체 입니다.
+ * <p>
+ * {@link S3ImageService}와 동일한 검증 및 MIME 타입 감지 규칙을 적용하며,
+ * 업로드는 {@link S3AsyncClient}를 통해 논블로킹으로 수행됩니다.
+ * 업로드 결과는 {@link S3UploadResult}의 {@link CompletableFuture}로 반환됩니다.
+ * </p>
+ * <p>
+ * 객체 키는 {@link S3UploadProperties#getKeyLayout()}에 따라 {@link S3ImageService}와 같은 물리 키로 바뀌어 저장됩니다.
+ * </p>
+ */
+public class S3AsyncImageService implements S3AsyncDefaultService {
+
+    private final S3AsyncUploader uploader;
+    private final S3AsyncRemover remover;
+    private final S3AsyncReader reader;
+    private final KeyLayoutStrategy keyLayout;
+    private final ImageValidator validator;
+    private final long spoolMemoryThreshold;
+    private final MetricsRecorder metrics;
+
+    public S3AsyncImageService(S3AsyncClient s3AsyncClient, String bucket, MimeTypeDetectionStrategy mimeDetector) {
+        this(s3AsyncClient, bucket, mimeDetector, new S3UploadProperties());
+    }
+
+    public S3AsyncImageService(S3AsyncClient s3AsyncClient, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                               S3UploadProperties uploadProperties) {
+        this(s3AsyncClient, bucket, mimeDetector, uploadProperties, new S3ReadProperties());
+    }
+
+    public S3AsyncImageService(S3AsyncClient s3AsyncClient, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                               S3UploadProperties uploadProperties, S3ReadProperties readProperties) {
+        this(s3AsyncClient, bucket, mimeDetector, uploadProperties, readProperties, S3Metrics.noop());
+    }
+
+    /**
+     * @param metrics 검증, MIME 타입 감지, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}.
+     *                서비스 종류 {@code async-image}와 감지 전략의 {@link MimeTypeDetectionStrategy#mode()}로 구분됩니다.
+     */
+    public S3AsyncImageService(S3AsyncClient s3AsyncClient, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                               S3UploadProperties uploadProperties, S3ReadProperties readProperties,
+                               S3Metrics metrics) {
+        this.metrics = MetricsRecorder.of(metrics, "async-image", mimeDetector);
+        this.uploader = new S3AsyncUploader(s3AsyncClient, bucket, this.metrics);
+        this.remover = new S3AsyncRemover(s3AsyncClient, bucket, this.metrics);
+        this.reader = new S3AsyncReader(s3AsyncClient, bucket, readProperties, this.metrics);
+        this.keyLayout = KeyLayoutStrategy.from(uploadProperties);
+        this.validator = new ImageValidator(mimeDetector, this.metrics);
+        this.spoolMemoryThreshold = uploadProperties.getSpoolMemoryThreshold();
+    }
+
+    /**
+     * 이미지 업로드
+     *
+     * @param key  객체 키 (경로 포함)
+     * @param file 업로드할 파일
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
+    @Override
+    public CompletableFuture<S3UploadResult> upload(String key, File file) {
+        metrics.run(S3Operation.VALIDATION, () -> {
+            validator.validateKey(key);
+            validator.validateImage(file);
+        });
+
+        String physicalKey = keyLayout.physicalKey(key);
+        return uploader.upload(physicalKey, file)
+                .thenApply(response -> toResult(physicalKey, response));
+    }
+
+    /**
+     * 이미지 업로드
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param file        업로드할 파일
+     * @param contentType 컨텐츠 타입 (MIME 타입)
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
+    @Override
+    public CompletableFuture<S3UploadResult> upload(String key, File file, String contentType) {
+        metrics.run(S3Operation.VALIDATION, () -> {
+            validator.validateKey(key);
+            validator.validateImage(file);
+            validator.validateContentType(contentType);
+        });
+
+        String physicalKey = keyLayout.physicalKey(key);
+        return uploader.upload(physicalKey, file, contentType)
+                .thenApply(response -> toResult(physicalKey, response));
+    }
+
+    /**
+     * 이미지 업로드
+     * <p>
+     * 입력 스트림은 {@link S3ImageService}와 같이 한 번만 읽어 보관(spool)한 뒤, 보관본으로 감지와 업로드를 수행합니다.
+     * 임시 파일 보관본은 메모리에 올리지 않고 파일에서 읽어 보냅니다. 비동기 업로드는 항상 단일 PUT이므로,
+     * 단일 PUT 최대 크기({@link S3UploadProperties#MAX_PUT_SIZE})를 넘는 스트림은 읽기 전에 거부합니다.
+     * </p>
+     *
+     * @param key           객체 키 (경로 포함)
+     * @param inputStream   업로드할 입력 스트림
+     * @param contentType   컨텐츠 타입 (MIME 타입)
+     * @param contentLength 컨텐츠 길이 (바이트)
+     * @return 업로드 결과를 담은 {@link S3UploadResult}의 {@link CompletableFuture}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
+    @Override
+    public CompletableFuture<S3UploadResult> upload(String key, InputStream inputStream, String contentType, long contentLength) {
+        validator.validateKey(key);
+        validator.validateInputStream(inputStream);
+        validator.validateContentType(contentType);
+        validator.validateContentLength(contentLength);
+        if (contentLength > S3UploadProperties.MAX_PUT_SIZE) {
+            throw new InvalidImageException("Content length exceeds the single PUT maximum of "
+                    + S3UploadProperties.MAX_PUT_SIZE + " bytes: " + contentLength);
+        }
+
+        StreamSpool spool;
+        try {
+            spool = StreamSpool.spool(inputStream, contentLength, spoolMemoryThreshold);
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to read image InputStream", e);
+        }
+
+        CompletableFuture<S3UploadResult> future;
+        try {
+            metrics.run(S3Operation.VALIDATION, () -> {
+                if (spool.length() != contentLength) {
+                    throw new InvalidImageException("InputStream ended before content length: expected "
+                            + contentLength + ", actual " + spool.length());
+                }
+                validator.validateImage(spool);
+            });
+
+            String physicalKey = keyLayout.physicalKey(key);
+            CompletableFuture<S3UploadResponse> upload = spool.isInMemory()
+                    ? uploader.upload(physicalKey, spool.buffer(), contentType)
+                    : uploader.upload(physicalKey, spool.file(), contentType);
+            future = upload.thenApply(response -> toResult(physicalKey, response));
+        } catch (RuntimeException e) {
+            spool.close();
+            throw e;
+        }
+
+        return future.whenComplete((result, throwable) -> spool.close());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(String key) {
+        validator.validateKey(key);
+        return remover.delete(keyLayout.physicalKey(key));
+    }
+
+    @Override
+    public String physicalKey(String key) {
+        validator.validateKey(key);
+        return keyLayout.physicalKey(key);
+    }
+
+    private S3UploadResult toResult(String key, S3UploadResponse response) {
+        if (!response.isSuccess()) {
+            return S3UploadResult.fail(response);
+        }
+
+        String url = reader.getUrl(key);
+        return S3UploadResult.success(response, key, url);
+    }
+}
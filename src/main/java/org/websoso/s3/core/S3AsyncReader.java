@@ -0,0 +1,50 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.metrics.S3Operation;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+/**
+ * 객체의 URL을 생성하는 클래스입니다.
+ * <p>
+ * 버킷의 URL 템플릿은 처음 요청될 때 한 번만 계산하며, CDN 기본 URL이 지정되어 있으면 S3 엔드포인트 대신 이를 사용합니다.
+ * </p>
+ */
+public class S3AsyncReader {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucket;
+    private volatile S3UrlTemplate urlTemplate;
+    private final MetricsRecorder metrics;
+
+    public S3AsyncReader(S3AsyncClient s3AsyncClient, String bucket) {
+        this(s3AsyncClient, bucket, new S3ReadProperties());
+    }
+
+    public S3AsyncReader(S3AsyncClient s3AsyncClient, String bucket, S3ReadProperties readProperties) {
+        this(s3AsyncClient, bucket, readProperties, MetricsRecorder.NOOP);
+    }
+
+    S3AsyncReader(S3AsyncClient s3AsyncClient, String bucket, S3ReadProperties readProperties, MetricsRecorder metrics) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        if (readProperties.getCdnBaseUrl() != null) {
+            this.urlTemplate = S3UrlTemplate.ofBaseUrl(readProperties.getCdnBaseUrl());
+        }
+        this.metrics = metrics;
+    }
+
+    public String getUrl(String key) {
+        return metrics.record(S3Operation.URL_GENERATION, () -> resolveUrl(key));
+    }
+
+    private String resolveUrl(String key) {
+        S3UrlTemplate template = urlTemplate;
+        if (template == null) {
+            template = S3UrlTemplate.of(s3AsyncClient.utilities(), bucket);
+            urlTemplate = template;
+        }
+        return template.getUrl(key);
+    }
+
+}
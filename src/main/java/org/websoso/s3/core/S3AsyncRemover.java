@@ -0,0 +1,58 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.metrics.S3Operation;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+public class S3AsyncRemover {
+
+    private static final Logger log = LoggerFactory.getLogger(S3AsyncRemover.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucket;
+    private final MetricsRecorder metrics;
+
+    public S3AsyncRemover(S3AsyncClient s3AsyncClient, String bucket) {
+        this(s3AsyncClient, bucket, MetricsRecorder.NOOP);
+    }
+
+    S3AsyncRemover(S3AsyncClient s3AsyncClient, String bucket, MetricsRecorder metrics) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        this.metrics = metrics;
+    }
+
+    public CompletableFuture<Boolean> delete(String key) {
+
+        log.debug("Deleting object from S3 asynchronously: bucket={}, key={}", bucket, key);
+
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        CompletableFuture<Boolean> future;
+        try {
+            future = metrics.recordAsync(S3Operation.DELETE, () -> s3AsyncClient.deleteObject(deleteObjectRequest))
+                    .thenApply(response -> true);
+        } catch (Exception e) {
+            log.error("Failed to delete object from S3: bucket={}, key={}", bucket, key, e);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return future.handle((deleted, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to delete object from S3: bucket={}, key={}", bucket, key, throwable);
+                return false;
+            }
+
+            log.info("Successfully deleted object from S3: bucket={}, key={}", bucket, key);
+            return true;
+        });
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3UploadResponse;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class S3AsyncUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(S3AsyncUploader.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucket;
+    private final ExecutorService streamReadExecutor;
+    private final MetricsRecorder metrics;
+
+    public S3AsyncUploader(S3AsyncClient s3AsyncClient, String bucket) {
+        this(s3AsyncClient, bucket, StreamReadExecutorHolder.INSTANCE);
+    }
+
+    /**
+     * @param streamReadExecutor {@link InputStream} 업로드 시 블로킹 읽기를 수행할 실행기
+     */
+    public S3AsyncUploader(S3AsyncClient s3AsyncClient, String bucket, ExecutorService streamReadExecutor) {
+        this(s3AsyncClient, bucket, streamReadExecutor, MetricsRecorder.NOOP);
+    }
+
+    S3AsyncUploader(S3AsyncClient s3AsyncClient, String bucket, ExecutorService streamReadExecutor,
+                    MetricsRecorder metrics) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        this.streamReadExecutor = streamReadExecutor;
+        this.metrics = metrics;
+    }
+
+    S3AsyncUploader(S3AsyncClient s3AsyncClient, String bucket, MetricsRecorder metrics) {
+        this(s3AsyncClient, bucket, StreamReadExecutorHolder.INSTANCE, metrics);
+    }
+
+    public CompletableFuture<S3UploadResponse> upload(String key, File file) {
+
+        log.debug("Uploading file to S3 asynchronously: bucket={}, key={}, file={}", bucket, key, file.getName());
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentLength(file.length())
+                .build();
+
+        return put(putObjectRequest, AsyncRequestBody.fromFile(file), "S3 file upload failed: ");
+    }
+
+    public CompletableFuture<S3UploadResponse> upload(String key, File file, String contentType) {
+
+        log.debug("Uploading file to S3 asynchronously: bucket={}, key={}, file={}, contentType={}", bucket, key, file.getName(), contentType);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(file.length())
+                .build();
+
+        return put(putObjectRequest, AsyncRequestBody.fromFile(file), "S3 file upload failed: ");
+    }
+
+    public CompletableFuture<S3UploadResponse> upload(String key, InputStream inputStream, String contentType, long contentLength) {
+
+        log.debug("Uploading input stream to S3 asynchronously: bucket={}, key={}, contentType={}, contentLength={}", bucket, key, contentType, contentLength);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        AsyncRequestBody requestBody = AsyncRequestBody.fromInputStream(inputStream, contentLength, streamReadExecutor);
+        return put(putObjectRequest, requestBody, "S3 upload failed: ");
+    }
+
+    /**
+     * 버퍼의 남은 영역을 복사 없이 업로드합니다. 업로드가 끝날 때까지 버퍼 내용을 변경하면 안 됩니다.
+     */
+    public CompletableFuture<S3UploadResponse> upload(String key, ByteBuffer buffer, String contentType) {
+
+        log.debug("Uploading buffer to S3 asynchronously: bucket={}, key={}, contentType={}, contentLength={}", bucket, key, contentType, buffer.remaining());
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) buffer.remaining())
+                .build();
+
+        return put(putObjectRequest, AsyncRequestBody.fromRemainingByteBufferUnsafe(buffer), "S3 upload failed: ");
+    }
+
+    private CompletableFuture<S3UploadResponse> put(PutObjectRequest request, AsyncRequestBody requestBody, String errorMessage) {
+        CompletableFuture<S3UploadResponse> future;
+        try {
+            future = metrics.recordAsync(S3Operation.PUT, () -> s3AsyncClient.putObject(request, requestBody))
+                    .thenApply(S3UploadResponse::from);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new S3UploaderException(errorMessage + e.getMessage(), e));
+        }
+
+        return future.handle((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null)
+                        ? throwable.getCause()
+                        : throwable;
+                throw new S3UploaderException(errorMessage + cause.getMessage(), cause);
+            }
+
+            if (response.isSuccess()) {
+                metrics.recordBytes(S3Operation.PUT, request.contentLength());
+            }
+
+            log.info("Successfully uploaded to S3: bucket={}, key={}", bucket, request.key());
+            return response;
+        });
+    }
+
+    /**
+     * 별도의 실행기가 주어지지 않았을 때 사용하는 공용 스트림 읽기 실행기입니다.
+     * 처음 사용될 때 생성되며, 데몬 스레드를 사용하므로 애플리케이션 종료를 막지 않습니다.
+     */
+    private static final class StreamReadExecutorHolder {
+
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("s3-async-stream-reader-"));
+    }
+
+}
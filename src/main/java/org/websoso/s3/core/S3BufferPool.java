@@ -0,0 +1,244 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.config.S3UploadProperties.BufferPoolExhaustion;
+import org.websoso.s3.exception.BufferPoolExhaustedException;
+import org.websoso.s3.modle.S3BufferPoolStats;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업로드 파트 버퍼로 사용하는 오프힙({@link ByteBuffer#allocateDirect(int) direct}) 버퍼 풀입니다.
+ * <p>
+ * 버퍼는 64 KiB 이상의 2의 거듭제곱 크기 단위(size class)로 할당되고, 반환되면 같은 크기 단위의 요청에 재사용됩니다.
+ * 풀 전체가 할당할 수 있는 크기는 {@code capacity}로 제한되며, 여유가 없을 때는 설정에 따라
+ * 다른 요청이 버퍼를 반환할 때까지 기다리거나({@link BufferPoolExhaustion#BLOCK}) 즉시 실패합니다({@link BufferPoolExhaustion#FAIL_FAST}).
+ * </p>
+ * <p>
+ * 같은 {@link S3Client}를 사용하는 {@link S3Uploader}들은 {@link #shared(S3Client, S3UploadProperties)}로 하나의 풀을 공유합니다.
+ * </p>
+ */
+public class S3BufferPool {
+
+    private static final int MIN_SIZE_CLASS = 64 * 1024;
+    private static final Map<S3Client, S3BufferPool> sharedPools = new WeakHashMap<>();
+
+    private final long capacity;
+    private final BufferPoolExhaustion exhaustionPolicy;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final TreeMap<Integer, ArrayDeque<ByteBuffer>> freeBuffers = new TreeMap<>();
+
+    private long allocatedBytes;
+    private long inUseBytes;
+    private long acquireCount;
+    private long allocationCount;
+    private long waitCount;
+    private long exhaustedCount;
+
+    /**
+     * @param capacity         풀이 할당할 수 있는 최대 바이트 수
+     * @param exhaustionPolicy 풀에 여유가 없을 때의 동작
+     * @param maxWait          {@link BufferPoolExhaustion#BLOCK}일 때 최대 대기 시간
+     * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+     */
+    public S3BufferPool(long capacity, BufferPoolExhaustion exhaustionPolicy, Duration maxWait) {
+        if (capacity < MIN_SIZE_CLASS) {
+            throw new IllegalArgumentException("Buffer pool capacity must be at least " + MIN_SIZE_CLASS + " bytes");
+        }
+        if (exhaustionPolicy == null) {
+            throw new IllegalArgumentException("Exhaustion policy must not be null");
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Max wait must not be null or negative");
+        }
+        this.capacity = capacity;
+        this.exhaustionPolicy = exhaustionPolicy;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * 주어진 {@link S3Client}에 대한 공유 버퍼 풀을 반환합니다.
+     * <p>
+     * 클라이언트마다 처음 요청될 때 해당 설정으로 생성되며, 이후 같은 클라이언트로 요청하면 같은 풀을 반환합니다.
+     * </p>
+     *
+     * @param s3Client   풀을 공유할 기준 클라이언트
+     * @param properties 풀이 없을 때 생성에 사용할 설정
+     * @return 공유 버퍼 풀
+     */
+    public static S3BufferPool shared(S3Client s3Client, S3UploadProperties properties) {
+        synchronized (sharedPools) {
+            return sharedPools.computeIfAbsent(s3Client, client -> new S3BufferPool(
+                    properties.getBufferPoolCapacity(),
+                    properties.getBufferPoolExhaustionPolicy(),
+                    properties.getBufferPoolMaxWait()
+            ));
+        }
+    }
+
+    /**
+     * {@code size}바이트를 담을 수 있는 버퍼를 빌립니다. 반환된 버퍼의 limit은 {@code size}로 설정됩니다.
+     * 사용이 끝나면 반드시 {@link #release(ByteBuffer)}로 반환해야 합니다.
+     *
+     * @param size 필요한 바이트 수
+     * @return 빌린 버퍼
+     * @throws BufferPoolExhaustedException 풀에 여유가 없고 대기 시간 안에 확보하지 못한 경우
+     */
+    public ByteBuffer acquire(int size) {
+        return acquire(size, exhaustionPolicy == BufferPoolExhaustion.BLOCK ? maxWaitNanos : 0, true);
+    }
+
+    /**
+     * 기다리지 않고 버퍼를 빌립니다. 즉시 확보할 수 없으면 null을 반환합니다.
+     *
+     * @param size 필요한 바이트 수
+     * @return 빌린 버퍼, 여유가 없으면 null
+     */
+    public ByteBuffer tryAcquire(int size) {
+        return acquire(size, 0, false);
+    }
+
+    /**
+     * 빌린 버퍼를 풀에 반환합니다.
+     *
+     * @param buffer 반환할 버퍼
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            inUseBytes -= buffer.capacity();
+            freeBuffers.computeIfAbsent(buffer.capacity(), k -> new ArrayDeque<>()).push(buffer);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 풀의 현재 통계를 반환합니다.
+     *
+     * @return 풀 통계
+     */
+    public S3BufferPoolStats stats() {
+        lock.lock();
+        try {
+            return new S3BufferPoolStats(capacity, allocatedBytes, inUseBytes,
+                    acquireCount, allocationCount, waitCount, exhaustedCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer acquire(int size, long waitNanos, boolean countExhaustion) {
+        int sizeClass = sizeClass(size);
+        if (sizeClass > capacity) {
+            throw new IllegalArgumentException("Requested buffer size " + size + " exceeds pool capacity " + capacity);
+        }
+
+        lock.lock();
+        try {
+            acquireCount++;
+            long remainingNanos = waitNanos;
+            boolean waited = false;
+
+            while (true) {
+                ByteBuffer buffer = takeOrAllocate(sizeClass);
+                if (buffer != null) {
+                    inUseBytes += sizeClass;
+                    buffer.clear().limit(size);
+                    return buffer;
+                }
+
+                if (remainingNanos <= 0) {
+                    if (!countExhaustion) {
+                        return null;
+                    }
+                    exhaustedCount++;
+                    throw new BufferPoolExhaustedException("Buffer pool exhausted: capacity=" + capacity
+                            + ", inUse=" + inUseBytes + ", requested=" + sizeClass);
+                }
+
+                if (!waited) {
+                    waitCount++;
+                    waited = true;
+                }
+
+                try {
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new BufferPoolExhaustedException("Interrupted while waiting for a pooled buffer", e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer takeOrAllocate(int sizeClass) {
+        ArrayDeque<ByteBuffer> free = freeBuffers.get(sizeClass);
+        if (free != null && !free.isEmpty()) {
+            return free.pop();
+        }
+
+        if (allocatedBytes + sizeClass > capacity) {
+            evictFreeBuffers(allocatedBytes + sizeClass - capacity);
+        }
+        if (allocatedBytes + sizeClass > capacity) {
+            return null;
+        }
+
+        allocatedBytes += sizeClass;
+        allocationCount++;
+        return ByteBuffer.allocateDirect(sizeClass);
+    }
+
+    /**
+     * 다른 크기 단위의 유휴 버퍼를 풀에서 제외하여 새로 할당할 여유를 만듭니다.
+     * 제외된 버퍼의 메모리는 GC가 회수합니다.
+     */
+    private void evictFreeBuffers(long bytesNeeded) {
+        long evicted = 0;
+        Iterator<ArrayDeque<ByteBuffer>> iterator = freeBuffers.descendingMap().values().iterator();
+        while (iterator.hasNext() && evicted < bytesNeeded) {
+            ArrayDeque<ByteBuffer> free = iterator.next();
+            while (!free.isEmpty() && evicted < bytesNeeded) {
+                evicted += free.pop().capacity();
+            }
+        }
+        allocatedBytes -= evicted;
+    }
+
+    private static int sizeClass(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than 0");
+        }
+        if (size <= MIN_SIZE_CLASS) {
+            return MIN_SIZE_CLASS;
+        }
+        int highest = Integer.highestOneBit(size);
+        if (highest == size) {
+            return size;
+        }
+        if (highest == 1 << 30) {
+            throw new IllegalArgumentException("Buffer size too large: " + size);
+        }
+        return highest << 1;
+    }
+}
@@ -0,0 +1,254 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.config.S3UploadProperties.ConcurrencyLimitExceeded;
+import org.websoso.s3.exception.ConcurrencyLimitExceededException;
+import org.websoso.s3.modle.S3ConcurrencyLimiterStats;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 버킷에 동시에 보내는 요청 수를 응답에 따라 조절하는 동시성 제한입니다.
+ * <p>
+ * 요청이 지연 시간 상한 안에 성공하면 제한을 요청 {@code limit}개마다 1씩 늘리고(가산 증가),
+ * 503 SlowDown, 스로틀링, 타임아웃으로 실패하면 절반으로 줄입니다(승산 감소). 한 번 줄인 뒤에는 그 전에 시작된 요청의 실패로
+ * 다시 줄이지 않으므로, 한꺼번에 실패한 요청들이 제한을 연달아 깎지 않습니다.
+ * 제한을 넘은 요청은 설정에 따라 다른 요청이 끝날 때까지 기다리거나({@link ConcurrencyLimitExceeded#QUEUE})
+ * 즉시 실패합니다({@link ConcurrencyLimitExceeded#REJECT}).
+ * </p>
+ * <p>
+ * 같은 {@link S3Client}와 버킷을 사용하는 {@link S3Uploader}, {@link S3ObjectStore}의 삭제와 GET,
+ * {@link S3ParallelDownloader}의 범위 GET은 {@link #shared(S3Client, String, S3UploadProperties)}로 하나의 제한을 공유합니다.
+ * PUT과 파트 요청은 본문을 모두 보낼 때까지, GET은 응답 헤더를 받을 때까지 제한 안에서 실행되며,
+ * GET 응답 본문을 읽는 동안에는 제한을 차지하지 않습니다.
+ * </p>
+ */
+public class S3ConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(S3ConcurrencyLimiter.class);
+
+    private static final double DECREASE_RATIO = 0.5;
+    private static final Map<S3Client, Map<String, S3ConcurrencyLimiter>> sharedLimiters = new WeakHashMap<>();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ConcurrencyLimitExceeded exceededPolicy;
+    private final long maxWaitNanos;
+    private final long latencyThresholdNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int queueDepth;
+    private long lastDecreaseNanos;
+    private long acquireCount;
+    private long queuedCount;
+    private long rejectedCount;
+    private long decreaseCount;
+
+    /**
+     * @param initialLimit     처음 허용할 동시 요청 수
+     * @param minLimit         동시 요청 수의 최솟값
+     * @param maxLimit         동시 요청 수의 최댓값
+     * @param exceededPolicy   제한을 넘은 요청의 처리 방식
+     * @param maxWait          {@link ConcurrencyLimitExceeded#QUEUE}일 때 최대 대기 시간
+     * @param latencyThreshold 제한을 늘릴 수 있는 요청 지연 시간의 상한
+     * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+     */
+    public S3ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, ConcurrencyLimitExceeded exceededPolicy,
+                                Duration maxWait, Duration latencyThreshold) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max: min="
+                    + minLimit + ", initial=" + initialLimit + ", max=" + maxLimit);
+        }
+        if (exceededPolicy == null) {
+            throw new IllegalArgumentException("Exceeded policy must not be null");
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Max wait must not be null or negative");
+        }
+        if (latencyThreshold == null || latencyThreshold.isZero() || latencyThreshold.isNegative()) {
+            throw new IllegalArgumentException("Latency threshold must be positive");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.exceededPolicy = exceededPolicy;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * 주어진 {@link S3Client}와 버킷에 대한 공유 동시성 제한을 반환합니다.
+     * <p>
+     * 클라이언트와 버킷마다 처음 요청될 때 해당 설정으로 생성되며, 이후 같은 클라이언트와 버킷으로 요청하면 같은 제한을 반환합니다.
+     * </p>
+     *
+     * @param s3Client   제한을 공유할 기준 클라이언트
+     * @param bucket     제한을 공유할 버킷
+     * @param properties 제한이 없을 때 생성에 사용할 설정
+     * @return 공유 동시성 제한
+     */
+    public static S3ConcurrencyLimiter shared(S3Client s3Client, String bucket, S3UploadProperties properties) {
+        synchronized (sharedLimiters) {
+            return sharedLimiters.computeIfAbsent(s3Client, client -> new HashMap<>())
+                    .computeIfAbsent(bucket, b -> new S3ConcurrencyLimiter(
+                            properties.getConcurrencyLimitInitial(),
+                            properties.getConcurrencyLimitMin(),
+                            properties.getConcurrencyLimitMax(),
+                            properties.getConcurrencyLimitPolicy(),
+                            properties.getConcurrencyQueueMaxWait(),
+                            properties.getConcurrencyLatencyThreshold()
+                    ));
+        }
+    }
+
+    /**
+     * 제한 안에서 요청을 실행하고, 결과에 따라 제한을 조절합니다.
+     *
+     * @param request 요청을 한 번 보내는 작업
+     * @return 요청의 결과
+     * @throws ConcurrencyLimitExceededException 제한을 넘었고 대기 시간 안에 차례가 오지 않은 경우
+     */
+    <T> T call(Supplier<T> request) {
+        acquire();
+        long start = System.nanoTime();
+        try {
+            T response = request.get();
+            onSuccess(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException | Error e) {
+            onFailure(start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 제한이 있으면 제한 안에서, 없으면({@code null}) 바로 요청을 실행합니다.
+     */
+    static <T> T limited(S3ConcurrencyLimiter limiter, Supplier<T> request) {
+        return limiter != null ? limiter.call(request) : request.get();
+    }
+
+    /**
+     * 제한의 현재 통계를 반환합니다.
+     *
+     * @return 현재 제한, 진행 중인 요청 수, 대기 중인 요청 수를 포함한 통계
+     */
+    public S3ConcurrencyLimiterStats stats() {
+        lock.lock();
+        try {
+            return new S3ConcurrencyLimiterStats(currentLimit(), inFlight, queueDepth,
+                    acquireCount, queuedCount, rejectedCount, decreaseCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire() {
+        lock.lock();
+        try {
+            acquireCount++;
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return;
+            }
+
+            if (exceededPolicy == ConcurrencyLimitExceeded.REJECT || maxWaitNanos == 0) {
+                throw reject();
+            }
+
+            queuedCount++;
+            queueDepth++;
+            try {
+                long remainingNanos = maxWaitNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remainingNanos <= 0) {
+                        throw reject();
+                    }
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConcurrencyLimitExceededException("Interrupted while waiting for a concurrency permit", e);
+            } finally {
+                queueDepth--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ConcurrencyLimitExceededException reject() {
+        rejectedCount++;
+        return new ConcurrencyLimitExceededException("Concurrency limit exceeded: limit=" + currentLimit()
+                + ", inFlight=" + inFlight + ", queued=" + queueDepth);
+    }
+
+    private void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            // 제한의 절반 이상을 실제로 쓰고 있을 때만 늘려, 한가한 동안 제한이 최댓값까지 부풀지 않도록 합니다.
+            if (latencyNanos <= latencyThresholdNanos && inFlight * 2 >= currentLimit()) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure(long startNanos, Throwable failure) {
+        lock.lock();
+        try {
+            if (isOverloaded(failure) && startNanos - lastDecreaseNanos >= 0) {
+                limit = Math.max(minLimit, limit * DECREASE_RATIO);
+                lastDecreaseNanos = System.nanoTime();
+                decreaseCount++;
+                log.warn("Decreased concurrency limit: limit={}, cause={}", currentLimit(), failure.toString());
+            }
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        released.signalAll();
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private static boolean isOverloaded(Throwable failure) {
+        if (RetryBackoff.isSlowDown(failure)) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiCallTimeoutException
+                    || cause instanceof ApiCallAttemptTimeoutException
+                    || cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,9 +1,15 @@
 package org.websoso.s3.core;
 
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3StreamUploadRequest;
 import org.websoso.s3.modle.S3UploadResult;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * S3 객체 업로드 및 삭제를 위한 인터페이스입니다.
@@ -44,6 +50,42 @@ public interface S3DefaultService {
      */
     S3UploadResult upload(String key, InputStream inputStream, String contentType, long contentLength);
 
+    /**
+     * 길이를 알 수 없는 InputStream 객체를 S3에 업로드
+     * <p>
+     * 스트림을 버퍼링하는 방식은 구현체마다 다릅니다. {@link S3FileService}는 파트 단위로 나누어 업로드하고,
+     * {@link S3ImageService}는 검증을 위해 스트림 전체를 먼저 보관(spool)합니다.
+     * </p>
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param inputStream 업로드할 입력 스트림
+     * @param contentType 컨텐츠 타입 (MIME 타입, 예: image/jpeg)
+     * @return 업로드 결과를 담은 {@link S3UploadResult} 객체
+     */
+    S3UploadResult upload(String key, InputStream inputStream, String contentType);
+
+    /**
+     * 여러 File 객체를 S3에 일괄 업로드
+     * <p>
+     * 항목마다 검증과 업로드가 동시에 실행되며, 한 항목의 실패는 해당 항목의 결과에만 반영됩니다.
+     * </p>
+     *
+     * @param files 객체 키 (경로 포함)와 업로드할 파일의 쌍
+     * @return 입력 순서대로 정렬된 항목별 {@link S3UploadResult} 목록
+     */
+    List<S3UploadResult> uploadAll(Map<String, File> files);
+
+    /**
+     * 여러 InputStream 객체를 S3에 일괄 업로드
+     * <p>
+     * 항목마다 검증과 업로드가 동시에 실행되며, 한 항목의 실패는 해당 항목의 결과에만 반영됩니다.
+     * </p>
+     *
+     * @param requests 업로드할 입력 스트림 요청 목록
+     * @return 입력 순서대로 정렬된 항목별 {@link S3UploadResult} 목록
+     */
+    List<S3UploadResult> uploadAll(List<S3StreamUploadRequest> requests);
+
     /**
      * S3에 존재하는 객체를 삭제
      *
@@ -52,4 +94,49 @@ public interface S3DefaultService {
      */
     boolean delete(String key);
 
+    /**
+     * S3에 존재하는 여러 객체를 일괄 삭제
+     *
+     * @param keys 객체 키 목록 (경로 포함)
+     * @return 입력 순서대로 정렬된 키별 삭제 결과
+     */
+    List<S3DeleteResult> deleteAll(Collection<String> keys);
+
+    /**
+     * S3에 객체가 존재하는지 확인
+     * <p>
+     * HEAD 결과를 캐시하므로 같은 키를 반복해서 확인하면 메모리에서 응답하며,
+     * 같은 서비스로 업로드하거나 삭제한 키는 캐시에서 바로 제거됩니다.
+     * </p>
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return 객체 존재 여부
+     */
+    boolean exists(String key);
+
+    /**
+     * S3에 존재하는 객체의 메타데이터(크기, ETag, 컨텐츠 타입, 수정 시각)를 조회
+     * <p>
+     * {@link #exists(String)}와 같은 캐시를 사용합니다. 반환된 메타데이터의 키는 물리 키입니다.
+     * </p>
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return 객체 메타데이터, 객체가 없으면 null
+     */
+    S3ObjectMetadata metadata(String key);
+
+    /**
+     * 객체 키가 실제로 저장되는 물리 키를 반환
+     * <p>
+     * 키 배치 방식(예: 해시 접두사)을 사용하는 서비스는 업로드, 삭제, URL 생성에 이 키를 사용하므로,
+     * {@link S3Reader} 등으로 같은 객체에 직접 접근할 때도 이 키를 사용해야 합니다. 기본 구현은 키를 그대로 반환합니다.
+     * </p>
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return 저장소에 실제로 사용하는 객체 키
+     */
+    default String physicalKey(String key) {
+        return key;
+    }
+
 }
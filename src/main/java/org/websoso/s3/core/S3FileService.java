@@ -1,12 +1,25 @@
 package org.websoso.s3.core;
 
-import org.websoso.s3.exception.InvalidFileException;
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.core.strategy.KeyLayoutStrategy;
+import org.websoso.s3.metrics.S3Metrics;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3StreamUploadRequest;
 import org.websoso.s3.modle.S3UploadResponse;
 import org.websoso.s3.modle.S3UploadResult;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.io.File;
 import java.io.InputStream;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * S3 파일 업로드 및 삭제를 위한 S3DefaultService 인터페이스의 구현체 입니다.
@@ -14,17 +27,72 @@ import java.io.InputStream;
  * 다양한 타입의 파일 입력(File, InputStream 등)을 지원하며,
  * 업로드 결과는 {@link S3UploadResult}로 반환됩니다.
  * </p>
+ * <p>
+ * 기본 저장소는 S3이며, {@link ObjectStore}를 지정하면 로컬 파일 시스템 등 다른 저장소 위에서 같은 검증 규칙으로 동작합니다.
+ * </p>
+ * <p>
+ * 객체 키는 {@link S3UploadProperties#getKeyLayout()}에 따라 물리 키로 바뀌어 저장되며, 업로드 결과에 실제 저장된 키가 담깁니다.
+ * </p>
+ * <p>
+ * {@link #exists(String)}와 {@link #metadata(String)}는 HEAD 결과를 캐시하며, 이 서비스로 업로드하거나 삭제한 키는 캐시에서 바로 제거합니다.
+ * </p>
  */
 public class S3FileService implements S3DefaultService {
 
-    private final S3Uploader uploader;
-    private final S3Remover remover;
-    private final S3Reader reader;
+    private final ObjectStore store;
+    private final KeyLayoutStrategy keyLayout;
+    private final ObjectMetadataCache metadataCache;
+    private final BulkUploadExecutor bulkUploadExecutor;
+    private final MetricsRecorder metrics;
 
     public S3FileService(S3Client s3Client, String bucket) {
-        uploader = new S3Uploader(s3Client, bucket);
-        remover = new S3Remover(s3Client, bucket);
-        reader = new S3Reader(s3Client, bucket);
+        this(s3Client, bucket, new S3UploadProperties());
+    }
+
+    public S3FileService(S3Client s3Client, String bucket, S3UploadProperties uploadProperties) {
+        this(s3Client, bucket, uploadProperties, new S3ReadProperties());
+    }
+
+    public S3FileService(S3Client s3Client, String bucket, S3UploadProperties uploadProperties,
+                         S3ReadProperties readProperties) {
+        this(s3Client, bucket, uploadProperties, readProperties, S3Metrics.noop());
+    }
+
+    /**
+     * @param metrics 검증, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}. 서비스 종류 {@code file}로 구분됩니다.
+     */
+    public S3FileService(S3Client s3Client, String bucket, S3UploadProperties uploadProperties,
+                         S3ReadProperties readProperties, S3Metrics metrics) {
+        this(recorder -> new S3ObjectStore(s3Client, bucket, uploadProperties, readProperties, recorder),
+                uploadProperties, MetricsRecorder.of(metrics, "file"));
+    }
+
+    /**
+     * 지정한 저장소 위에서 동작하는 서비스를 생성합니다. (예: {@link LocalObjectStore})
+     *
+     * @param store 객체를 저장할 {@link ObjectStore}
+     */
+    public S3FileService(ObjectStore store) {
+        this(store, new S3UploadProperties(), S3Metrics.noop());
+    }
+
+    /**
+     * @param store   객체를 저장할 {@link ObjectStore}
+     * @param metrics 검증, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}. 서비스 종류 {@code file}로 구분됩니다.
+     */
+    public S3FileService(ObjectStore store, S3UploadProperties uploadProperties, S3Metrics metrics) {
+        this(recorder -> MeteredObjectStore.of(store, recorder), uploadProperties, MetricsRecorder.of(metrics, "file"));
+    }
+
+    private S3FileService(Function<MetricsRecorder, ObjectStore> storeFactory, S3UploadProperties uploadProperties,
+                          MetricsRecorder metrics) {
+        this.metrics = metrics;
+        this.store = storeFactory.apply(metrics);
+        this.keyLayout = KeyLayoutStrategy.from(uploadProperties);
+        this.metadataCache = new ObjectMetadataCache(this.store, uploadProperties.getExistenceCacheSize(),
+                uploadProperties.getExistenceCacheTtl(), uploadProperties.getExistenceCacheNegativeTtl(),
+                Clock.systemUTC());
+        this.bulkUploadExecutor = new BulkUploadExecutor(uploadProperties.getBulkConcurrency());
     }
 
     /**
@@ -38,18 +106,22 @@ public class S3FileService implements S3DefaultService {
     @Override
     public S3UploadResult upload(String key, File file) {
 
-        validateKey(key);
-        validateFile(file);
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateFile(file);
+        });
 
-        S3UploadResponse response = uploader.upload(key, file);
+        String physicalKey = keyLayout.physicalKey(key);
+        S3UploadResponse response = store.put(physicalKey, file, null);
+        metadataCache.invalidate(physicalKey);
 
         if (!response.isSuccess()) {
-            S3UploadResult.fail(response);
+            return S3UploadResult.fail(response);
         }
 
-        String url = reader.getUrl(key);
+        String url = store.getUrl(physicalKey);
 
-        return S3UploadResult.success(response, url);
+        return S3UploadResult.success(response, physicalKey, url);
     }
 
     /**
@@ -64,19 +136,23 @@ public class S3FileService implements S3DefaultService {
     @Override
     public S3UploadResult upload(String key, File file, String contentType) {
 
-        validateKey(key);
-        validateFile(file);
-        validateContentType(contentType);
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateFile(file);
+            FileValidator.validateContentType(contentType);
+        });
 
-        S3UploadResponse response = uploader.upload(key, file, contentType);
+        String physicalKey = keyLayout.physicalKey(key);
+        S3UploadResponse response = store.put(physicalKey, file, contentType);
+        metadataCache.invalidate(physicalKey);
 
         if (!response.isSuccess()) {
-            S3UploadResult.fail(response);
+            return S3UploadResult.fail(response);
         }
 
-        String url = reader.getUrl(key);
+        String url = store.getUrl(physicalKey);
 
-        return S3UploadResult.success(response, url);
+        return S3UploadResult.success(response, physicalKey, url);
     }
 
     /**
@@ -92,62 +168,135 @@ public class S3FileService implements S3DefaultService {
     @Override
     public S3UploadResult upload(String key, InputStream inputStream, String contentType, long contentLength) {
 
-        validateKey(key);
-        validateInputStream(inputStream);
-        validateContentType(contentType);
-        validateContentLength(contentLength);
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateInputStream(inputStream);
+            FileValidator.validateContentType(contentType);
+            FileValidator.validateContentLength(contentLength);
+        });
 
-        S3UploadResponse response = uploader.upload(key, inputStream, contentType, contentLength);
+        String physicalKey = keyLayout.physicalKey(key);
+        S3UploadResponse response = store.put(physicalKey, inputStream, contentType, contentLength);
+        metadataCache.invalidate(physicalKey);
 
         if (!response.isSuccess()) {
-            S3UploadResult.fail(response);
+            return S3UploadResult.fail(response);
         }
 
-        String url = reader.getUrl(key);
+        String url = store.getUrl(physicalKey);
 
-        return S3UploadResult.success(response, url);
+        return S3UploadResult.success(response, physicalKey, url);
 
     }
 
+    /**
+     * 길이를 알 수 없는 스트림 업로드
+     * <p>
+     * 스트림 전체를 미리 버퍼링하거나 임시 파일에 보관하지 않습니다.
+     * 파트 크기 버퍼 두 개를 번갈아 채우며 멀티파트로 업로드하므로, 업로드 하나가 사용하는 메모리는 파트 두 개 크기로 제한됩니다.
+     * 첫 번째 파트가 채워지기 전에 스트림이 끝나면 단일 PUT으로 업로드합니다.
+     * </p>
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param inputStream 업로드할 입력 스트림
+     * @param contentType 컨텐츠 타입 (MIME 타입)
+     * @return 업로드 결과를 담은 {@link S3UploadResult} 객체
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우
+     */
     @Override
-    public boolean delete(String key) {
-        validateKey(key);
+    public S3UploadResult upload(String key, InputStream inputStream, String contentType) {
 
-        return remover.delete(key);
-    }
+        metrics.run(S3Operation.VALIDATION, () -> {
+            FileValidator.validateKey(key);
+            FileValidator.validateInputStream(inputStream);
+            FileValidator.validateContentType(contentType);
+        });
 
-    private void validateKey(String key) {
-        if (key == null || key.isBlank()) {
-            throw new IllegalArgumentException("Object key must not be null or empty");
+        String physicalKey = keyLayout.physicalKey(key);
+        S3UploadResponse response = store.put(physicalKey, inputStream, contentType);
+        metadataCache.invalidate(physicalKey);
+
+        if (!response.isSuccess()) {
+            return S3UploadResult.fail(response);
         }
+
+        String url = store.getUrl(physicalKey);
+
+        return S3UploadResult.success(response, physicalKey, url);
     }
 
-    private void validateFile(File file) {
-        if (file == null || !file.exists() || !file.isFile()) {
-            throw new InvalidFileException("File must exist and be a valid file");
+    /**
+     * 파일 일괄 업로드
+     *
+     * @param files 객체 키 (경로 포함)와 업로드할 파일의 쌍
+     * @return 입력 순서대로 정렬된 항목별 {@link S3UploadResult} 목록
+     * @throws IllegalArgumentException 매개변수가 null인 경우
+     */
+    @Override
+    public List<S3UploadResult> uploadAll(Map<String, File> files) {
+        if (files == null) {
+            throw new IllegalArgumentException("Files must not be null");
         }
 
-        if (file.length() <= 0) {
-            throw new InvalidFileException("File size must be greater than 0");
-        }
+        return bulkUploadExecutor.uploadAll(new ArrayList<>(files.entrySet()),
+                entry -> upload(entry.getKey(), entry.getValue()));
     }
 
-    private void validateInputStream(InputStream inputStream) {
-        if (inputStream == null) {
-            throw new IllegalArgumentException("InputStream must not be null or empty");
+    /**
+     * 파일 일괄 업로드
+     *
+     * @param requests 업로드할 입력 스트림 요청 목록
+     * @return 입력 순서대로 정렬된 항목별 {@link S3UploadResult} 목록
+     * @throws IllegalArgumentException 매개변수가 null인 경우
+     */
+    @Override
+    public List<S3UploadResult> uploadAll(List<S3StreamUploadRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Upload requests must not be null");
         }
+
+        return bulkUploadExecutor.uploadAll(requests,
+                request -> upload(request.key(), request.inputStream(), request.contentType(), request.contentLength()));
     }
 
-    private void validateContentType(String contentType) {
-        if (contentType == null || contentType.isBlank()) {
-            throw new InvalidFileException("Content type must not be null or empty");
+    @Override
+    public boolean delete(String key) {
+        FileValidator.validateKey(key);
+
+        String physicalKey = keyLayout.physicalKey(key);
+        try {
+            return store.delete(physicalKey);
+        } finally {
+            // 삭제 중에 끝난 HEAD 결과가 캐시에 남지 않도록 삭제가 끝난 뒤에 제거합니다.
+            metadataCache.invalidate(physicalKey);
         }
     }
 
-    private void validateContentLength(long contentLength) {
-        if (contentLength <= 0) {
-            throw new InvalidFileException("Content length must be greater than 0");
+    @Override
+    public List<S3DeleteResult> deleteAll(Collection<String> keys) {
+        FileValidator.validateKeys(keys);
+        try {
+            return KeyLayouts.deleteAll(store, keyLayout, keys);
+        } finally {
+            keys.forEach(key -> metadataCache.invalidate(keyLayout.physicalKey(key)));
         }
     }
 
+    @Override
+    public boolean exists(String key) {
+        return metadata(key) != null;
+    }
+
+    @Override
+    public S3ObjectMetadata metadata(String key) {
+        FileValidator.validateKey(key);
+        return metadataCache.metadata(keyLayout.physicalKey(key));
+    }
+
+    @Override
+    public String physicalKey(String key) {
+        FileValidator.validateKey(key);
+        return keyLayout.physicalKey(key);
+    }
+
 }
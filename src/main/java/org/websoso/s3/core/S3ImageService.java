@@ -1,38 +1,141 @@
 package org.websoso.s3.core;
 
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.core.strategy.KeyLayoutStrategy;
 import org.websoso.s3.core.strategy.MimeTypeDetectionStrategy;
 import org.websoso.s3.exception.InvalidImageException;
+import org.websoso.s3.metrics.S3Metrics;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectHeader;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3PresignedUpload;
+import org.websoso.s3.modle.S3StreamUploadRequest;
 import org.websoso.s3.modle.S3UploadResponse;
 import org.websoso.s3.modle.S3UploadResult;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Set;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * S3 파일 업로드 및 삭제를 위한 S3DefaultService 인터페이스의 구현체 입니다.
  * <p>
- * 타입은 정해진 이미지 타입 {@link #ALLOWED_IMAGE_MIME_TYPES} {@link #ALLOWED_IMAGE_EXTENSIONS} 만을 지원하며,
+ * 타입은 정해진 이미지 타입 {@link ImageType} 만을 지원하며,
  * 업로드는 {@link File} 또는 {@link InputStream}을 통한 입력을 지원합니다.
  * 업로드 결과는 {@link S3UploadResult}로 반환됩니다.
  * </p>
+ * <p>
+ * {@link S3Presigner}를 지정하면 이미지를 서버를 거치지 않고 클라이언트가 S3에 직접 올리도록
+ * presigned PUT URL을 발급할 수 있으며, 업로드 후 {@link #confirmPresignedUpload(String)}로 같은 규칙으로 검증합니다.
+ * </p>
+ * <p>
+ * 기본 저장소는 S3이며, {@link ObjectStore}를 지정하면 로컬 파일 시스템 등 다른 저장소 위에서 같은 검증 규칙으로 동작합니다.
+ * </p>
+ * <p>
+ * 객체 키는 {@link S3UploadProperties#getKeyLayout()}에 따라 물리 키로 바뀌어 저장되며, 업로드 결과에 실제 저장된 키가 담깁니다.
+ * presigned 업로드도 같은 물리 키로 발급하고 확인합니다.
+ * </p>
+ * <p>
+ * {@code uploadDeduplicated}는 내용의 SHA-256 해시로 키를 정하고, 같은 내용이 이미 저장되어 있으면 업로드를 생략합니다.
+ * </p>
+ * <p>
+ * {@link #exists(String)}, {@link #metadata(String)}와 중복 제거 업로드는 같은 HEAD 결과 캐시를 사용하며,
+ * 이 서비스로 업로드하거나 삭제한 키는 캐시에서 바로 제거합니다.
+ * </p>
  */
 public class S3ImageService implements S3DefaultService {
 
-    private final S3Uploader uploader;
-    private final S3Remover remover;
-    private final S3Reader reader;
-    private final MimeTypeDetectionStrategy mimeDetector;
-    private static final Set<String> ALLOWED_IMAGE_MIME_TYPES = ImageType.getAllowedMimeTypes();
-    private static final Set<String> ALLOWED_IMAGE_EXTENSIONS = ImageType.getAllowedExtensions();
+    private final ObjectStore store;
+    private final KeyLayoutStrategy keyLayout;
+    private final ImageValidator validator;
+    private final BulkUploadExecutor bulkUploadExecutor;
+    private final long spoolMemoryThreshold;
+    private final long spoolMaxSize;
+    private final S3PresignedUploader presignedUploader;
+    private final long presignedUploadMaxSize;
+    private final int presignedConfirmBytes;
+    private final ObjectMetadataCache metadataCache;
+    private final MetricsRecorder metrics;
 
     public S3ImageService(S3Client s3Client, String bucket, MimeTypeDetectionStrategy mimeDetector) {
-        this.uploader = new S3Uploader(s3Client, bucket);
-        this.remover = new S3Remover(s3Client, bucket);
-        this.reader = new S3Reader(s3Client, bucket);
-        this.mimeDetector = mimeDetector;
+        this(s3Client, bucket, mimeDetector, new S3UploadProperties());
+    }
+
+    public S3ImageService(S3Client s3Client, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                          S3UploadProperties uploadProperties) {
+        this(s3Client, bucket, mimeDetector, uploadProperties, new S3ReadProperties());
+    }
+
+    public S3ImageService(S3Client s3Client, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                          S3UploadProperties uploadProperties, S3ReadProperties readProperties) {
+        this(s3Client, bucket, mimeDetector, uploadProperties, readProperties, null);
+    }
+
+    public S3ImageService(S3Client s3Client, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                          S3UploadProperties uploadProperties, S3ReadProperties readProperties, S3Presigner presigner) {
+        this(s3Client, bucket, mimeDetector, uploadProperties, readProperties, presigner, S3Metrics.noop());
+    }
+
+    /**
+     * @param metrics 검증, MIME 타입 감지, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}.
+     *                서비스 종류 {@code image}와 감지 전략의 {@link MimeTypeDetectionStrategy#mode()}로 구분됩니다.
+     */
+    public S3ImageService(S3Client s3Client, String bucket, MimeTypeDetectionStrategy mimeDetector,
+                          S3UploadProperties uploadProperties, S3ReadProperties readProperties, S3Presigner presigner,
+                          S3Metrics metrics) {
+        this(recorder -> new S3ObjectStore(s3Client, bucket, uploadProperties, readProperties, recorder),
+                mimeDetector, uploadProperties, metrics,
+                presigner == null ? null : new S3PresignedUploader(presigner, bucket, uploadProperties.getPresignedUploadTtl()));
+    }
+
+    /**
+     * 지정한 저장소 위에서 동작하는 서비스를 생성합니다. (예: {@link LocalObjectStore})
+     * presigned 업로드는 S3 전용이므로 이 생성자로 만든 서비스에서는 사용할 수 없습니다.
+     *
+     * @param store 객체를 저장할 {@link ObjectStore}
+     */
+    public S3ImageService(ObjectStore store, MimeTypeDetectionStrategy mimeDetector) {
+        this(store, mimeDetector, new S3UploadProperties(), S3Metrics.noop());
+    }
+
+    /**
+     * @param store   객체를 저장할 {@link ObjectStore}
+     * @param metrics 검증, MIME 타입 감지, 업로드, 삭제, URL 생성 지표를 받을 {@link S3Metrics}.
+     *                서비스 종류 {@code image}와 감지 전략의 {@link MimeTypeDetectionStrategy#mode()}로 구분됩니다.
+     */
+    public S3ImageService(ObjectStore store, MimeTypeDetectionStrategy mimeDetector,
+                          S3UploadProperties uploadProperties, S3Metrics metrics) {
+        this(recorder -> MeteredObjectStore.of(store, recorder), mimeDetector, uploadProperties, metrics, null);
+    }
+
+    private S3ImageService(Function<MetricsRecorder, ObjectStore> storeFactory, MimeTypeDetectionStrategy mimeDetector,
+                           S3UploadProperties uploadProperties, S3Metrics metrics,
+                           S3PresignedUploader presignedUploader) {
+        this.metrics = MetricsRecorder.of(metrics, "image", mimeDetector);
+        this.store = storeFactory.apply(this.metrics);
+        this.keyLayout = KeyLayoutStrategy.from(uploadProperties);
+        this.validator = new ImageValidator(mimeDetector, this.metrics);
+        this.bulkUploadExecutor = new BulkUploadExecutor(uploadProperties.getBulkConcurrency());
+        this.spoolMemoryThreshold = uploadProperties.getSpoolMemoryThreshold();
+        this.spoolMaxSize = uploadProperties.getSpoolMaxSize();
+        this.presignedUploader = presignedUploader;
+        this.presignedUploadMaxSize = uploadProperties.getPresignedUploadMaxSize();
+        this.presignedConfirmBytes = uploadProperties.getPresignedConfirmBytes();
+        this.metadataCache = new ObjectMetadataCache(this.store, uploadProperties.getExistenceCacheSize(),
+                uploadProperties.getExistenceCacheTtl(), uploadProperties.getExistenceCacheNegativeTtl(),
+                Clock.systemUTC());
     }
 
     /**
@@ -45,17 +148,21 @@ public class S3ImageService implements S3DefaultService {
      */
     @Override
     public S3UploadResult upload(String key, File file) {
-        validateKey(key);
-        validateImage(file);
+        metrics.run(S3Operation.VALIDATION, () -> {
+            validator.validateKey(key);
+            validator.validateImage(file);
+        });
 
-        S3UploadResponse response = uploader.upload(key, file);
+        String physicalKey = keyLayout.physicalKey(key);
+        S3UploadResponse response = store.put(physicalKey, file, null);
+        metadataCache.invalidate(physicalKey);
 
         if (!response.isSuccess()) {
             return S3UploadResult.fail(response);
         }
 
-        String url = reader.getUrl(key);
-        return S3UploadResult.success(response, url);
+        String url = store.getUrl(physicalKey);
+        return S3UploadResult.success(response, physicalKey, url);
     }
 
     /**
@@ -69,22 +176,30 @@ public class S3ImageService implements S3DefaultService {
      */
     @Override
     public S3UploadResult upload(String key, File file, String contentType) {
-        validateKey(key);
-        validateImage(file);
-        validateContentType(contentType);
+        metrics.run(S3Operation.VALIDATION, () -> {
+            validator.validateKey(key);
+            validator.validateImage(file);
+            validator.validateContentType(contentType);
+        });
 
-        S3UploadResponse response = uploader.upload(key, file, contentType);
+        String physicalKey = keyLayout.physicalKey(key);
+        S3UploadResponse response = store.put(physicalKey, file, contentType);
+        metadataCache.invalidate(physicalKey);
 
         if (!response.isSuccess()) {
             return S3UploadResult.fail(response);
         }
 
-        String url = reader.getUrl(key);
-        return S3UploadResult.success(response, url);
+        String url = store.getUrl(physicalKey);
+        return S3UploadResult.success(response, physicalKey, url);
     }
 
     /**
      * 이미지 업로드
+     * <p>
+     * 입력 스트림은 한 번만 읽어 보관(spool)하며, 크기가 작으면 힙 메모리에, 크면 임시 파일에 보관합니다.
+     * MIME 타입 감지와 업로드는 모두 이 보관본을 읽으므로, 스트림을 소비하는 감지 전략(예: 정밀 감지)도 사용할 수 있습니다.
+     * </p>
      *
      * @param key           객체 키 (경로 포함)
      * @param inputStream   업로드할 입력 스트림
@@ -95,101 +210,339 @@ public class S3ImageService implements S3DefaultService {
      */
     @Override
     public S3UploadResult upload(String key, InputStream inputStream, String contentType, long contentLength) {
-        validateKey(key);
-        validateInputStream(inputStream);
-        validateImage(inputStream);
-        validateContentType(contentType);
-        validateContentLength(contentLength);
+        validator.validateKey(key);
+        validator.validateInputStream(inputStream);
+        validator.validateContentType(contentType);
+        validator.validateContentLength(contentLength);
 
-        S3UploadResponse response = uploader.upload(key, inputStream, contentType, contentLength);
+        try (StreamSpool spool = StreamSpool.spool(inputStream, contentLength, spoolMemoryThreshold)) {
+            metrics.run(S3Operation.VALIDATION, () -> {
+                if (spool.length() != contentLength) {
+                    throw new InvalidImageException("InputStream ended before content length: expected "
+                            + contentLength + ", actual " + spool.length());
+                }
+                validator.validateImage(spool);
+            });
 
-        if (!response.isSuccess()) {
-            return S3UploadResult.fail(response);
-        }
+            String physicalKey = keyLayout.physicalKey(key);
+            S3UploadResponse response = uploadSpool(physicalKey, spool, contentType);
+            metadataCache.invalidate(physicalKey);
+
+            if (!response.isSuccess()) {
+                return S3UploadResult.fail(response);
+            }
 
-        String url = reader.getUrl(key);
-        return S3UploadResult.success(response, url);
+            String url = store.getUrl(physicalKey);
+            return S3UploadResult.success(response, physicalKey, url);
+
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to read image InputStream", e);
+        }
     }
 
+    /**
+     * 길이를 알 수 없는 스트림으로 이미지 업로드
+     * <p>
+     * 업로드를 시작하기 전에 입력 스트림을 끝까지 한 번 읽어 보관(spool)한 뒤 검증과 업로드를 수행합니다.
+     * 크기가 {@link S3UploadProperties#getSpoolMemoryThreshold()}를 넘으면 임시 파일에 보관하므로 힙에 전체를 올리지 않지만,
+     * 스트림 전체 크기만큼의 임시 디스크 공간을 사용합니다. {@link S3UploadProperties#getSpoolMaxSize()}를 넘는 스트림은 거부합니다.
+     * </p>
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param inputStream 업로드할 입력 스트림
+     * @param contentType 컨텐츠 타입 (MIME 타입)
+     * @return 업로드 결과를 담은 {@link S3UploadResult} 객체
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
     @Override
-    public boolean delete(String key) {
-        validateKey(key);
-        return remover.delete(key);
+    public S3UploadResult upload(String key, InputStream inputStream, String contentType) {
+        validator.validateKey(key);
+        validator.validateInputStream(inputStream);
+        validator.validateContentType(contentType);
+
+        try (StreamSpool spool = spoolBounded(inputStream)) {
+            metrics.run(S3Operation.VALIDATION, () -> {
+                validator.validateContentLength(spool.length());
+                validator.validateImage(spool);
+            });
+
+            String physicalKey = keyLayout.physicalKey(key);
+            S3UploadResponse response = uploadSpool(physicalKey, spool, contentType);
+            metadataCache.invalidate(physicalKey);
+
+            if (!response.isSuccess()) {
+                return S3UploadResult.fail(response);
+            }
+
+            String url = store.getUrl(physicalKey);
+            return S3UploadResult.success(response, physicalKey, url);
+
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to read image InputStream", e);
+        }
+    }
+
+    /**
+     * 내용 기준 중복 제거 이미지 업로드
+     * <p>
+     * 파일 내용의 SHA-256 해시로 {@code prefix/<해시>.<확장자>} 키를 만들고, 그 키에 객체가 이미 있으면 PUT 없이 기존 객체의 결과를 반환합니다.
+     * 존재 여부는 캐시를 먼저 확인하고, 없으면 HEAD 요청으로 확인합니다. 같은 내용은 항상 같은 키가 되므로,
+     * 같은 이미지를 여러 번 올려도 객체는 하나만 저장되며 결과의 URL도 같습니다.
+     * </p>
+     * <p>
+     * 키의 확장자와 객체의 컨텐츠 타입은 검증에서 감지한 MIME 타입으로 정하므로, 같은 내용을 InputStream으로 올린 경우와 같은 키와 메타데이터가 됩니다.
+     * 키를 정하려면 PUT 전에 해시가 필요하므로, 파일은 MIME 감지, 해시 계산, 업로드에서 한 번씩 읽습니다.
+     * </p>
+     *
+     * @param prefix 객체 키 앞에 붙일 경로 (예: {@code avatars})
+     * @param file   업로드할 파일
+     * @return 업로드 결과를 담은 {@link S3UploadResult} 객체, {@code key}와 {@code url}은 내용으로 정해진 키와 그 URL
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
+    public S3UploadResult uploadDeduplicated(String prefix, File file) {
+        String contentType = metrics.record(S3Operation.VALIDATION, () -> {
+            validator.validateKey(prefix);
+            return validator.validateImage(file);
+        });
+
+        try {
+            String extension = ImageType.extensionOf(contentType);
+            String physicalKey = keyLayout.physicalKey(contentKey(prefix, ContentDigest.sha256Hex(file), extension));
+            return uploadIfAbsent(physicalKey, file.length(), contentType,
+                    () -> store.put(physicalKey, file, contentType));
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to read image file", e);
+        }
     }
 
-    private void validateKey(String key) {
-        if (key == null || key.isBlank()) {
-            throw new IllegalArgumentException("Object key must not be null or empty");
+    /**
+     * 내용 기준 중복 제거 이미지 업로드
+     * <p>
+     * 입력 스트림을 보관(spool)하면서 SHA-256 해시를 함께 계산하므로 내용을 한 번만 읽습니다.
+     * 보관 방식과 최대 크기는 {@link #upload(String, InputStream, String)}와 같습니다.
+     * 해시로 {@code prefix/<해시>.<확장자>} 키를 만들고, 그 키에 객체가 이미 있으면 PUT 없이 기존 객체의 결과를 반환합니다.
+     * 키의 확장자와 저장할 컨텐츠 타입은 {@code contentType}이 아니라 검증에서 감지한 MIME 타입으로 정하므로,
+     * 같은 내용을 파일로 올린 경우와 같은 키와 메타데이터가 됩니다.
+     * </p>
+     *
+     * @param prefix      객체 키 앞에 붙일 경로 (예: {@code avatars})
+     * @param inputStream 업로드할 입력 스트림
+     * @param contentType 호출자가 선언한 컨텐츠 타입 (MIME 타입), 허용된 이미지 타입인지만 확인합니다
+     * @return 업로드 결과를 담은 {@link S3UploadResult} 객체, {@code key}와 {@code url}은 내용으로 정해진 키와 그 URL
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
+    public S3UploadResult uploadDeduplicated(String prefix, InputStream inputStream, String contentType) {
+        validator.validateKey(prefix);
+        validator.validateInputStream(inputStream);
+        validator.validateContentType(contentType);
+
+        MessageDigest digest = ContentDigest.sha256();
+        try (StreamSpool spool = spoolBounded(new DigestInputStream(inputStream, digest))) {
+            String detectedType = metrics.record(S3Operation.VALIDATION, () -> {
+                validator.validateContentLength(spool.length());
+                return validator.validateImage(spool);
+            });
+
+            String extension = ImageType.extensionOf(detectedType);
+            String physicalKey = keyLayout.physicalKey(contentKey(prefix, ContentDigest.hex(digest.digest()), extension));
+
+            return uploadIfAbsent(physicalKey, spool.length(), detectedType,
+                    () -> uploadSpool(physicalKey, spool, detectedType));
+
+        } catch (IOException e) {
+            throw new InvalidImageException("Failed to read image InputStream", e);
         }
     }
 
-    private void validateImage(File file) {
-        if (file == null || !file.exists() || !file.isFile()) {
-            throw new InvalidImageException("Image File must exist and be a valid file");
+    /**
+     * 직접 업로드용 presigned PUT URL 발급
+     * <p>
+     * 컨텐츠 타입과 컨텐츠 길이가 서명에 포함되므로, 클라이언트는 요청한 값 그대로 업로드해야 합니다.
+     * 업로드가 끝나면 {@link #confirmPresignedUpload(String)}를 호출하여 실제 내용을 검증해야 합니다.
+     * </p>
+     *
+     * @param key           객체 키 (경로 포함)
+     * @param contentType   컨텐츠 타입 (MIME 타입)
+     * @param contentLength 컨텐츠 길이 (바이트)
+     * @return 클라이언트에 전달할 {@link S3PresignedUpload}
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어나거나 최대 크기를 넘는 경우
+     * @throws IllegalStateException    {@link S3Presigner}가 지정되지 않은 경우
+     */
+    public S3PresignedUpload createPresignedUpload(String key, String contentType, long contentLength) {
+        if (presignedUploader == null) {
+            throw new IllegalStateException("S3Presigner is not configured for this service");
         }
 
-        if (file.length() <= 0) {
-            throw new InvalidImageException("Image File size must be greater than 0");
+        validator.validateKey(key);
+        validator.validateContentType(contentType);
+        validator.validateContentLength(contentLength);
+        if (contentLength > presignedUploadMaxSize) {
+            throw new InvalidImageException("Content length exceeds presigned upload limit: "
+                    + contentLength + " > " + presignedUploadMaxSize);
         }
 
-        String extension = getFileExtension(file);
-        boolean extensionAllowed = ALLOWED_IMAGE_EXTENSIONS.contains(extension);
-        if (!extensionAllowed) {
-            throw new InvalidImageException("Image File type not allowed: extension " + extension);
+        return presignedUploader.presign(keyLayout.physicalKey(key), contentType.toLowerCase(), contentLength);
+    }
+
+    /**
+     * 직접 업로드된 이미지 확인
+     * <p>
+     * 객체 전체가 아닌 앞부분({@link S3UploadProperties#getPresignedConfirmBytes()})만 ranged GET으로 읽어
+     * 지정된 MIME 타입 감지 전략으로 검증합니다. 허용되지 않은 형식이면 객체를 삭제하고 예외를 던집니다.
+     * </p>
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return 확인 결과를 담은 {@link S3UploadResult} 객체, 객체가 없으면 실패 결과
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 문자열인 경우, 규정된 이미지 형식을 벗어난 경우
+     */
+    public S3UploadResult confirmPresignedUpload(String key) {
+        validator.validateKey(key);
+
+        String physicalKey = keyLayout.physicalKey(key);
+        S3ObjectHeader header = store.readHeader(physicalKey, presignedConfirmBytes);
+        if (header == null) {
+            return S3UploadResult.fail("Uploaded object not found: " + key);
         }
 
-        String detectedMimeType;
         try {
-            detectedMimeType = mimeDetector.detect(file);
-        } catch (IOException e) {
-            throw new InvalidImageException("Failed to detect MIME type", e);
-        }
-        boolean mimeAllowed = ALLOWED_IMAGE_MIME_TYPES.contains(detectedMimeType);
-        if (!mimeAllowed) {
-            throw new InvalidImageException("Image File type not allowed: MIME type " + detectedMimeType);
+            byte[] bytes = header.bytes();
+            metrics.run(S3Operation.VALIDATION,
+                    () -> validator.validateImageHeader(bytes, bytes.length >= presignedConfirmBytes));
+        } catch (InvalidImageException e) {
+            store.delete(physicalKey);
+            metadataCache.invalidate(physicalKey);
+            throw e;
         }
+
+        S3UploadResponse response = S3UploadResponse.success(header.metadata().eTag());
+        String url = store.getUrl(physicalKey);
+        return S3UploadResult.success(response, physicalKey, url);
     }
 
-    private void validateInputStream(InputStream inputStream) {
-        if (inputStream == null) {
-            throw new IllegalArgumentException("InputStream must not be null");
+    /**
+     * 이미지 일괄 업로드
+     *
+     * @param files 객체 키 (경로 포함)와 업로드할 파일의 쌍
+     * @return 입력 순서대로 정렬된 항목별 {@link S3UploadResult} 목록
+     * @throws IllegalArgumentException 매개변수가 null인 경우
+     */
+    @Override
+    public List<S3UploadResult> uploadAll(Map<String, File> files) {
+        if (files == null) {
+            throw new IllegalArgumentException("Files must not be null");
         }
+
+        return bulkUploadExecutor.uploadAll(new ArrayList<>(files.entrySet()),
+                entry -> upload(entry.getKey(), entry.getValue()));
     }
 
-    private void validateContentType(String contentType) {
-        if (contentType == null || contentType.isBlank()) {
-            throw new InvalidImageException("Content type must not be null or empty");
+    /**
+     * 이미지 일괄 업로드
+     *
+     * @param requests 업로드할 입력 스트림 요청 목록
+     * @return 입력 순서대로 정렬된 항목별 {@link S3UploadResult} 목록
+     * @throws IllegalArgumentException 매개변수가 null인 경우
+     */
+    @Override
+    public List<S3UploadResult> uploadAll(List<S3StreamUploadRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Upload requests must not be null");
         }
 
-        if (!ALLOWED_IMAGE_MIME_TYPES.contains(contentType.toLowerCase())) {
-            throw new InvalidImageException("Image File type not allowed: MIME type " + contentType);
-        }
+        return bulkUploadExecutor.uploadAll(requests,
+                request -> upload(request.key(), request.inputStream(), request.contentType(), request.contentLength()));
     }
 
-    private void validateContentLength(long contentLength) {
-        if (contentLength <= 0) {
-            throw new InvalidImageException("Content length must be greater than 0");
+    @Override
+    public boolean delete(String key) {
+        validator.validateKey(key);
+        String physicalKey = keyLayout.physicalKey(key);
+        try {
+            return store.delete(physicalKey);
+        } finally {
+            // 삭제 중에 끝난 HEAD 결과가 캐시에 남지 않도록 삭제가 끝난 뒤에 제거합니다.
+            metadataCache.invalidate(physicalKey);
         }
     }
 
-    private void validateImage(InputStream inputStream) {
+    @Override
+    public List<S3DeleteResult> deleteAll(Collection<String> keys) {
+        validator.validateKeys(keys);
         try {
-            String detectedMimeType = mimeDetector.detect(inputStream);
+            return KeyLayouts.deleteAll(store, keyLayout, keys);
+        } finally {
+            keys.forEach(key -> metadataCache.invalidate(keyLayout.physicalKey(key)));
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return metadata(key) != null;
+    }
+
+    @Override
+    public S3ObjectMetadata metadata(String key) {
+        validator.validateKey(key);
+        return metadataCache.metadata(keyLayout.physicalKey(key));
+    }
 
-            if (!ALLOWED_IMAGE_MIME_TYPES.contains(detectedMimeType)) {
-                throw new InvalidImageException("Image File type not allowed: detected MIME type " + detectedMimeType);
+    @Override
+    public String physicalKey(String key) {
+        validator.validateKey(key);
+        return keyLayout.physicalKey(key);
+    }
+
+    /**
+     * 객체가 없을 때만 업로드합니다. 컨텐츠 주소 키는 내용이 같으면 같은 키이므로,
+     * 동시에 같은 내용을 올려 둘 다 PUT 하더라도 같은 내용으로 덮어쓸 뿐 결과는 달라지지 않습니다.
+     * 업로드에 성공하면 다음 확인에서 HEAD를 보내지 않도록 응답으로 만든 메타데이터를 캐시에 보관합니다.
+     */
+    private S3UploadResult uploadIfAbsent(String physicalKey, long contentLength, String contentType,
+                                          MetricsRecorder.Action<S3UploadResponse, IOException> upload) throws IOException {
+        S3ObjectMetadata existing = metadataCache.metadata(physicalKey);
+
+        S3UploadResponse response;
+        if (existing != null) {
+            response = S3UploadResponse.success(existing.eTag());
+        } else {
+            response = upload.run();
+            if (!response.isSuccess()) {
+                metadataCache.invalidate(physicalKey);
+                return S3UploadResult.fail(response);
             }
-        } catch (IOException e) {
-            throw new InvalidImageException("Failed to detect MIME type from InputStream", e);
+            metadataCache.update(physicalKey,
+                    new S3ObjectMetadata(physicalKey, contentLength, contentType, response.eTag(), null, null));
+        }
+
+        String url = store.getUrl(physicalKey);
+        return S3UploadResult.success(response, physicalKey, url);
+    }
+
+    private static String contentKey(String prefix, String hash, String extension) {
+        int end = prefix.length();
+        while (end > 0 && prefix.charAt(end - 1) == '/') {
+            end--;
+        }
+        return prefix.substring(0, end) + "/" + hash + "." + extension;
+    }
+
+    /**
+     * 길이를 알 수 없는 스트림을 최대 크기보다 한 바이트 더 읽어 보관하고, 최대 크기를 넘으면 거부합니다.
+     */
+    private StreamSpool spoolBounded(InputStream inputStream) throws IOException {
+        StreamSpool spool = StreamSpool.spool(inputStream, spoolMaxSize + 1, spoolMemoryThreshold);
+        if (spool.length() > spoolMaxSize) {
+            spool.close();
+            throw new InvalidImageException("Image InputStream exceeds the maximum spool size of " + spoolMaxSize + " bytes");
         }
+        return spool;
     }
 
-    private String getFileExtension(File file) {
-        String fileName = file.getName();
-        int index = fileName.lastIndexOf('.');
-        if (index == -1) {
-            throw new InvalidImageException("Image File has no extension: " + fileName);
+    private S3UploadResponse uploadSpool(String key, StreamSpool spool, String contentType) throws IOException {
+        // 임시 파일 보관본은 파일로 넘겨, 저장소가 크기에 따라 단일 PUT 또는 멀티파트로 파일을 나누어 읽게 합니다.
+        if (!spool.isInMemory()) {
+            return store.put(key, spool.file(), contentType);
         }
-        return fileName.substring(index).toLowerCase();
+        return store.put(key, spool.buffer(), contentType);
     }
 }
\ No newline at end of file
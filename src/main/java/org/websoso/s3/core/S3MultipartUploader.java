@@ -0,0 +1,377 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.modle.S3UploadResponse;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 큰 파일을 멀티파트 업로드로 전송하는 클래스입니다.
+ * <p>
+ * 파일을 {@link FileChannel}의 영역(slice) 단위로 메모리 매핑하여 파트를 만들고,
+ * {@link S3UploadProperties#getMultipartParallelism()}개까지 동시에 업로드합니다.
+ * 실패한 파트만 {@link S3UploadProperties#getPartMaxAttempts()}회까지 {@link RetryBackoff}의 간격으로 다시 전송하며,
+ * 업로드 전체가 실패하면 멀티파트 업로드를 중단(abort)하여 남은 파트가 과금되지 않도록 합니다.
+ * 길이를 알 수 없는 입력 스트림도 {@link S3BufferPool}에서 빌린 파트 크기 버퍼 두 개로 나누어 업로드할 수 있습니다.
+ * 동시성 제한을 사용하면 파트 요청은 {@link S3ConcurrencyLimiter}의 제한 안에서 전송됩니다.
+ * </p>
+ */
+class S3MultipartUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(S3MultipartUploader.class);
+
+    private static final int MAX_PART_COUNT = 10_000;
+    private static final String PART_CONTENT_TYPE = "application/octet-stream";
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final S3UploadProperties properties;
+    private final S3BufferPool bufferPool;
+    private final ExecutorService partExecutor;
+    private final RetryBackoff backoff;
+    private final S3ConcurrencyLimiter concurrencyLimiter;
+
+    S3MultipartUploader(S3Client s3Client, String bucket, S3UploadProperties properties, S3BufferPool bufferPool,
+                        RetryBackoff backoff, S3ConcurrencyLimiter concurrencyLimiter) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.properties = properties;
+        this.bufferPool = bufferPool;
+        this.backoff = backoff;
+        this.concurrencyLimiter = concurrencyLimiter;
+
+        int parallelism = properties.getMultipartParallelism();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("s3-multipart-part-"));
+        executor.allowCoreThreadTimeOut(true);
+        this.partExecutor = executor;
+    }
+
+    boolean isMultipartRequired(long contentLength) {
+        return contentLength >= properties.getMultipartThreshold();
+    }
+
+    /**
+     * 파일을 멀티파트 업로드로 전송합니다.
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param file        업로드할 파일
+     * @param contentType 컨텐츠 타입, 지정하지 않으면 null
+     * @return 업로드 결과
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     */
+    S3UploadResponse upload(String key, File file, String contentType) throws IOException {
+
+        String uploadId = createMultipartUpload(key, contentType);
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long partSize = resolvePartSize(size);
+            int partCount = (int) ((size + partSize - 1) / partSize);
+
+            AtomicBoolean aborted = new AtomicBoolean(false);
+            List<CompletableFuture<CompletedPart>> futures = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount; i++) {
+                int partNumber = i + 1;
+                long offset = i * partSize;
+                long length = Math.min(partSize, size - offset);
+
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> uploadPart(key, uploadId, partNumber, channel, offset, length, aborted),
+                        partExecutor
+                ));
+            }
+
+            List<CompletedPart> completedParts = awaitParts(futures, aborted);
+            return completeMultipartUpload(key, uploadId, completedParts);
+
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 길이를 알 수 없는 입력 스트림을 업로드합니다.
+     * <p>
+     * {@link S3BufferPool}에서 파트 크기의 direct 버퍼 두 개를 빌려 번갈아 사용하며, 한 버퍼를 업로드하는 동안 다른 버퍼를 채웁니다.
+     * 따라서 업로드 하나가 사용하는 메모리는 파트 두 개 크기로 제한되고, 버퍼는 업로드가 끝나면 풀에 반환되어 재사용됩니다.
+     * 두 번째 버퍼를 바로 빌릴 수 없으면 버퍼 하나로 파트를 순서대로 업로드합니다.
+     * 첫 번째 버퍼가 다 차기 전에 스트림이 끝나면 멀티파트 대신 단일 PUT으로 업로드합니다.
+     * </p>
+     *
+     * @param key         객체 키 (경로 포함)
+     * @param inputStream 업로드할 입력 스트림
+     * @param contentType 컨텐츠 타입
+     * @return 업로드 결과
+     * @throws IOException 스트림을 읽는 중 오류가 발생한 경우
+     */
+    S3UploadResponse upload(String key, InputStream inputStream, String contentType) throws IOException {
+        int partSize = (int) Math.min(properties.getPartSize(), Integer.MAX_VALUE);
+        ReadableByteChannel channel = Channels.newChannel(inputStream);
+
+        ByteBuffer[] buffers = {bufferPool.acquire(partSize), null};
+        try {
+            int length = readFully(channel, buffers[0], partSize);
+            if (length < partSize) {
+                return putSinglePart(key, buffers[0], contentType);
+            }
+
+            buffers[1] = bufferPool.tryAcquire(partSize);
+            if (buffers[1] == null) {
+                log.debug("No spare part buffer available, uploading parts sequentially: bucket={}, key={}", bucket, key);
+            }
+
+            return uploadParts(key, channel, buffers, partSize, contentType);
+
+        } finally {
+            bufferPool.release(buffers[0]);
+            bufferPool.release(buffers[1]);
+        }
+    }
+
+    private S3UploadResponse uploadParts(String key, ReadableByteChannel channel,
+                                         ByteBuffer[] buffers, int partSize, String contentType) throws IOException {
+        String uploadId = createMultipartUpload(key, contentType);
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        boolean doubleBuffered = buffers[1] != null;
+
+        try {
+            int index = 0;
+            while (buffers[index].remaining() > 0) {
+                int partNumber = futures.size() + 1;
+                if (partNumber > MAX_PART_COUNT) {
+                    throw new S3UploaderException("Stream exceeds the maximum of " + MAX_PART_COUNT + " parts");
+                }
+
+                ByteBuffer body = buffers[index].duplicate();
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> uploadPart(key, uploadId, partNumber, body, aborted),
+                        partExecutor
+                ));
+
+                // 버퍼를 다시 채우기 전에 그 버퍼를 쓰는 파트의 업로드가 끝나야 합니다.
+                if (!doubleBuffered) {
+                    awaitPart(futures.get(futures.size() - 1), futures, aborted);
+                } else if (futures.size() > 1) {
+                    awaitPart(futures.get(futures.size() - 2), futures, aborted);
+                }
+
+                if (doubleBuffered) {
+                    index = 1 - index;
+                }
+                readFully(channel, buffers[index], partSize);
+            }
+
+            List<CompletedPart> completedParts = awaitParts(futures, aborted);
+            return completeMultipartUpload(key, uploadId, completedParts);
+
+        } catch (IOException | RuntimeException e) {
+            aborted.set(true);
+            awaitSettled(futures);
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    private String createMultipartUpload(String key, String contentType) {
+        CreateMultipartUploadRequest.Builder createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key);
+        if (contentType != null) {
+            createRequest.contentType(contentType);
+        }
+
+        String uploadId = s3Client.createMultipartUpload(createRequest.build()).uploadId();
+
+        log.debug("Started multipart upload: bucket={}, key={}, uploadId={}", bucket, key, uploadId);
+
+        return uploadId;
+    }
+
+    private S3UploadResponse completeMultipartUpload(String key, String uploadId, List<CompletedPart> completedParts) {
+        CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                .build();
+        CompleteMultipartUploadResponse response = s3Client.completeMultipartUpload(completeRequest);
+
+        log.info("Successfully completed multipart upload: bucket={}, key={}, parts={}", bucket, key, completedParts.size());
+
+        return S3UploadResponse.from(response);
+    }
+
+    private S3UploadResponse putSinglePart(String key, ByteBuffer body, String contentType) {
+        long length = body.remaining();
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(length)
+                .build();
+        RequestBody requestBody = RequestBody.fromContentProvider(
+                () -> new ByteBufferInputStream(body.duplicate()), length, contentType);
+
+        PutObjectResponse response = limited(() -> s3Client.putObject(putObjectRequest, requestBody));
+
+        log.info("Stream ended within the first part, uploaded with a single PUT: bucket={}, key={}", bucket, key);
+
+        return S3UploadResponse.from(response);
+    }
+
+    /**
+     * 버퍼를 {@code size}바이트까지 채운 뒤 읽기용으로 flip 합니다.
+     */
+    private static int readFully(ReadableByteChannel channel, ByteBuffer buffer, int size) throws IOException {
+        buffer.clear().limit(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining();
+    }
+
+    /**
+     * S3의 최대 파트 수(10,000개)를 넘지 않도록 필요한 경우 파트 크기를 늘립니다.
+     */
+    private long resolvePartSize(long size) {
+        long minimumPartSize = (size + MAX_PART_COUNT - 1) / MAX_PART_COUNT;
+        return Math.max(properties.getPartSize(), minimumPartSize);
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber,
+                                     FileChannel channel, long offset, long length, AtomicBoolean aborted) {
+        ByteBuffer slice;
+        try {
+            slice = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map part " + partNumber, e);
+        }
+        return uploadPart(key, uploadId, partNumber, slice, aborted);
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, ByteBuffer body, AtomicBoolean aborted) {
+        long length = body.remaining();
+
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(length)
+                .build();
+
+        int maxAttempts = properties.getPartMaxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            if (aborted.get()) {
+                throw new S3UploaderException("Multipart upload aborted before part " + partNumber + " was sent");
+            }
+
+            try {
+                RequestBody requestBody = RequestBody.fromContentProvider(
+                        () -> new ByteBufferInputStream(body.duplicate()), length, PART_CONTENT_TYPE);
+                UploadPartResponse response = limited(() -> s3Client.uploadPart(request, requestBody));
+                backoff.onSuccess();
+
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+
+            } catch (RuntimeException e) {
+                backoff.onFailure(e);
+                if (attempt >= maxAttempts || !RetryBackoff.isRetryable(e)) {
+                    throw e;
+                }
+
+                log.warn("Retrying multipart part: bucket={}, key={}, part={}, attempt={}", bucket, key, partNumber, attempt, e);
+                backoff.sleep(attempt);
+            }
+        }
+    }
+
+    private List<CompletedPart> awaitParts(List<CompletableFuture<CompletedPart>> futures, AtomicBoolean aborted) {
+        List<CompletedPart> completedParts = new ArrayList<>(futures.size());
+        for (CompletableFuture<CompletedPart> future : futures) {
+            completedParts.add(awaitPart(future, futures, aborted));
+        }
+        return completedParts;
+    }
+
+    private CompletedPart awaitPart(CompletableFuture<CompletedPart> future,
+                                    List<CompletableFuture<CompletedPart>> futures, AtomicBoolean aborted) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 아직 시작하지 않은 파트는 건너뛰고, 전송 중인 파트가 끝날 때까지 기다린 뒤 abort 합니다.
+            aborted.set(true);
+            awaitSettled(futures);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new S3UploaderException("Multipart part upload failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static void awaitSettled(List<CompletableFuture<CompletedPart>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, throwable) -> null)
+                .join();
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+
+            log.info("Aborted multipart upload: bucket={}, key={}, uploadId={}", bucket, key, uploadId);
+
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload: bucket={}, key={}, uploadId={}", bucket, key, uploadId, e);
+        }
+    }
+
+    private <T> T limited(Supplier<T> request) {
+        return concurrencyLimiter != null ? concurrencyLimiter.call(request) : request.get();
+    }
+}
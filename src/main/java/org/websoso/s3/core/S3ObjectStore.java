@@ -0,0 +1,114 @@
+package org.websoso.s3.core;
+
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectHeader;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3UploadResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 버킷을 사용하는 {@link ObjectStore} 구현체입니다.
+ * <p>
+ * 업로드, 삭제, 읽기는 각각 {@link S3Uploader}, {@link S3Remover}, {@link S3Reader}에 위임하므로
+ * 멀티파트 업로드, 버퍼 풀, CDN URL, 디스크 캐시 설정이 그대로 적용됩니다.
+ * 동시성 제한을 사용하면 업로드, 삭제, GET이 같은 {@link S3ConcurrencyLimiter}를 공유합니다.
+ * </p>
+ */
+public class S3ObjectStore implements ObjectStore {
+
+    private final S3Uploader uploader;
+    private final S3Remover remover;
+    private final S3Reader reader;
+
+    public S3ObjectStore(S3Client s3Client, String bucket) {
+        this(s3Client, bucket, new S3UploadProperties(), new S3ReadProperties());
+    }
+
+    public S3ObjectStore(S3Client s3Client, String bucket, S3UploadProperties uploadProperties,
+                         S3ReadProperties readProperties) {
+        this(s3Client, bucket, uploadProperties, readProperties, MetricsRecorder.NOOP);
+    }
+
+    S3ObjectStore(S3Client s3Client, String bucket, S3UploadProperties uploadProperties,
+                  S3ReadProperties readProperties, MetricsRecorder metrics) {
+        S3ConcurrencyLimiter concurrencyLimiter = uploadProperties.isConcurrencyLimitEnabled()
+                ? S3ConcurrencyLimiter.shared(s3Client, bucket, uploadProperties)
+                : null;
+        this.uploader = new S3Uploader(s3Client, bucket, uploadProperties, metrics);
+        this.remover = new S3Remover(s3Client, bucket, concurrencyLimiter, metrics);
+        this.reader = new S3Reader(s3Client, bucket, readProperties, null, concurrencyLimiter, metrics);
+    }
+
+    @Override
+    public S3UploadResponse put(String key, File file, String contentType) {
+        return contentType == null ? uploader.upload(key, file) : uploader.upload(key, file, contentType);
+    }
+
+    @Override
+    public S3UploadResponse put(String key, ByteBuffer buffer, String contentType) {
+        return uploader.upload(key, buffer, contentType);
+    }
+
+    @Override
+    public S3UploadResponse put(String key, InputStream inputStream, String contentType, long contentLength) {
+        return uploader.upload(key, inputStream, contentType, contentLength);
+    }
+
+    @Override
+    public S3UploadResponse put(String key, InputStream inputStream, String contentType) {
+        return uploader.upload(key, inputStream, contentType);
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return remover.delete(key);
+    }
+
+    @Override
+    public List<S3DeleteResult> deleteAll(Collection<String> keys) {
+        return remover.deleteAll(keys);
+    }
+
+    @Override
+    public S3ObjectMetadata read(String key, WritableByteChannel target, S3ByteRange range) {
+        return reader.download(key, target, range);
+    }
+
+    @Override
+    public S3ObjectHeader readHeader(String key, int length) {
+        ResponseBytes<GetObjectResponse> header;
+        try {
+            header = reader.readHeader(key, length);
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+        return new S3ObjectHeader(S3ObjectMetadata.from(key, header.response()), header.asByteArrayUnsafe());
+    }
+
+    @Override
+    public S3ObjectMetadata head(String key) {
+        try {
+            return S3ObjectMetadata.from(key, reader.head(key));
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return reader.getUrl(key);
+    }
+}
@@ -0,0 +1,192 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 큰 객체를 여러 범위로 나누어 동시에 내려받는 클래스입니다.
+ * <p>
+ * HEAD 요청으로 객체 크기와 ETag를 확인한 뒤, {@link S3ReadProperties#getRangedDownloadPartSize()} 단위의 범위를
+ * {@link S3ReadProperties#getRangedDownloadConcurrency()}개까지 동시에 GET 하여 대상 파일의 해당 위치에 바로 씁니다.
+ * 모든 범위 요청에 If-Match로 처음 확인한 ETag를 지정하므로, 다운로드 도중 객체가 바뀌면 실패합니다.
+ * </p>
+ * <p>
+ * 클라이언트는 {@code S3ClientFactory}가 반환하는 공유 {@link S3Client}를 사용하는 것을 권장합니다.
+ * {@link S3UploadProperties#isConcurrencyLimitEnabled()}를 켠 설정을 지정하면 범위 GET은 같은 클라이언트와 버킷의
+ * 업로드와 하나의 {@link S3ConcurrencyLimiter}를 공유합니다.
+ * </p>
+ */
+public class S3ParallelDownloader {
+
+    private static final Logger log = LoggerFactory.getLogger(S3ParallelDownloader.class);
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final long partSize;
+    private final ExecutorService rangeExecutor;
+    private final S3ConcurrencyLimiter concurrencyLimiter;
+
+    public S3ParallelDownloader(S3Client s3Client, String bucket) {
+        this(s3Client, bucket, new S3ReadProperties());
+    }
+
+    public S3ParallelDownloader(S3Client s3Client, String bucket, S3ReadProperties readProperties) {
+        this(s3Client, bucket, readProperties, new S3UploadProperties());
+    }
+
+    /**
+     * @param uploadProperties 동시성 제한 설정. 제한을 사용하면 범위 GET을 공유 제한 안에서 보냅니다.
+     */
+    public S3ParallelDownloader(S3Client s3Client, String bucket, S3ReadProperties readProperties,
+                                S3UploadProperties uploadProperties) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.partSize = readProperties.getRangedDownloadPartSize();
+
+        int concurrency = readProperties.getRangedDownloadConcurrency();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("s3-ranged-download-"));
+        executor.allowCoreThreadTimeOut(true);
+        this.rangeExecutor = executor;
+        this.concurrencyLimiter = uploadProperties.isConcurrencyLimitEnabled()
+                ? S3ConcurrencyLimiter.shared(s3Client, bucket, uploadProperties)
+                : null;
+    }
+
+    /**
+     * 객체를 파일로 내려받습니다. 파일이 이미 있으면 덮어쓰며, 실패하면 쓰다 만 파일을 삭제합니다.
+     *
+     * @param key    객체 키 (경로 포함)
+     * @param target 내용을 쓸 파일 경로
+     * @return 객체 메타데이터
+     * @throws S3ReaderException 객체를 읽거나 쓰는 중 오류가 발생한 경우
+     */
+    public S3ObjectMetadata download(String key, Path target) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+        } catch (SdkException e) {
+            throw new S3ReaderException("Failed to get object metadata: " + key, e);
+        }
+
+        S3ObjectMetadata metadata = S3ObjectMetadata.from(key, head);
+        long size = metadata.contentLength();
+
+        log.debug("Downloading object in ranges: bucket={}, key={}, size={}, partSize={}", bucket, key, size, partSize);
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (size > 0) {
+                // 범위를 순서와 관계없이 쓸 수 있도록 파일을 먼저 객체 크기로 늘립니다.
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+
+            AtomicBoolean aborted = new AtomicBoolean(false);
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            for (long offset = 0; offset < size; offset += partSize) {
+                S3ByteRange range = S3ByteRange.of(offset, Math.min(offset + partSize, size) - 1);
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> downloadRange(key, metadata.eTag(), range, channel, aborted),
+                        rangeExecutor
+                ));
+            }
+
+            awaitRanges(key, futures, aborted);
+
+            log.info("Successfully downloaded object in ranges: bucket={}, key={}, ranges={}", bucket, key, futures.size());
+
+            return metadata;
+
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            if (e instanceof S3ReaderException readerException) {
+                throw readerException;
+            }
+            throw new S3ReaderException("Failed to download object: " + key, e);
+        }
+    }
+
+    private long downloadRange(String key, String eTag, S3ByteRange range, FileChannel channel, AtomicBoolean aborted) {
+        if (aborted.get()) {
+            throw new S3ReaderException("Ranged download aborted before range " + range.toHeaderValue());
+        }
+
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range(range.toHeaderValue())
+                .ifMatch(eTag)
+                .build();
+
+        ResponseInputStream<GetObjectResponse> in = S3ConcurrencyLimiter.limited(concurrencyLimiter,
+                () -> s3Client.getObject(request));
+        try {
+            long written = S3Reader.transferTo(in, channel, range.start());
+            in.close();
+
+            long expected = range.end() - range.start() + 1;
+            if (written != expected) {
+                throw new S3ReaderException("Range " + range.toHeaderValue() + " ended early: expected "
+                        + expected + ", actual " + written);
+            }
+            return written;
+
+        } catch (IOException e) {
+            S3Reader.abortQuietly(in);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            S3Reader.abortQuietly(in);
+            throw e;
+        }
+    }
+
+    private static void awaitRanges(String key, List<CompletableFuture<Long>> futures, AtomicBoolean aborted) {
+        try {
+            futures.forEach(CompletableFuture::join);
+        } catch (CompletionException e) {
+            // 아직 시작하지 않은 범위는 건너뛰고, 받는 중인 범위가 끝날 때까지 기다린 뒤 실패를 알립니다.
+            aborted.set(true);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .handle((ignored, throwable) -> null)
+                    .join();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new S3ReaderException("Ranged download failed: " + key + ", " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.modle.S3PresignedUpload;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+
+/**
+ * 클라이언트가 S3에 직접 업로드할 수 있는 presigned PUT URL을 발급하는 클래스입니다.
+ * <p>
+ * 컨텐츠 타입과 컨텐츠 길이를 서명에 포함하므로, 클라이언트는 발급받은 값과 다른 타입이나 크기로 업로드할 수 없습니다.
+ * </p>
+ */
+class S3PresignedUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(S3PresignedUploader.class);
+
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final Duration ttl;
+
+    S3PresignedUploader(S3Presigner presigner, String bucket, Duration ttl) {
+        this.presigner = presigner;
+        this.bucket = bucket;
+        this.ttl = ttl;
+    }
+
+    S3PresignedUpload presign(String key, String contentType, long contentLength) {
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(request -> request
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength))
+                .build();
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(presignRequest);
+
+        log.debug("Issued presigned upload: bucket={}, key={}, contentLength={}", bucket, key, contentLength);
+
+        return new S3PresignedUpload(key, presigned.url().toString(), presigned.signedHeaders(), presigned.expiration());
+    }
+}
@@ -1,25 +1,382 @@
 package org.websoso.s3.core;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 객체의 URL을 생성하는 클래스입니다.
+ * <p>
+ * 버킷의 URL 템플릿은 처음 요청될 때 한 번만 계산하며, CDN 기본 URL이 지정되어 있으면 S3 엔드포인트 대신 이를 사용합니다.
+ * {@link S3Presigner}를 함께 지정하면 비공개 버킷을 위한 presigned GET URL을 생성할 수 있으며,
+ * 생성한 URL은 만료 직전까지 캐시하여 같은 키에 대해 다시 서명하지 않습니다.
+ * </p>
+ * <p>
+ * 객체 내용은 {@link OutputStream}, {@link WritableByteChannel}, {@link Path}로 스트리밍하여 내려받으며,
+ * 힙에 객체 전체를 올리지 않습니다. 필요한 경우 {@link S3ByteRange}로 일부 범위만 읽을 수 있습니다.
+ * 디스크 캐시를 설정하면 객체 전체를 읽는 요청은 로컬 디스크에 캐시된 파일에서 제공하며,
+ * 같은 디렉터리를 지정한 모든 {@code S3Reader}가 하나의 캐시와 크기 제한을 공유합니다.
+ * </p>
+ */
 public class S3Reader {
 
+    private static final Logger log = LoggerFactory.getLogger(S3Reader.class);
+
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
     private final S3Client s3Client;
     private final String bucket;
+    private volatile S3UrlTemplate urlTemplate;
+
+    private final S3Presigner presigner;
+    private final Duration presignTtl;
+    private final Duration presignRefreshMargin;
+    private final PresignedUrlCache presignedUrlCache;
+    private final Clock clock;
+    private final DiskObjectCache diskCache;
+    private final S3ConcurrencyLimiter concurrencyLimiter;
+    private final MetricsRecorder metrics;
 
     public S3Reader(S3Client s3Client, String bucket) {
+        this(s3Client, bucket, new S3ReadProperties());
+    }
+
+    public S3Reader(S3Client s3Client, String bucket, S3ReadProperties readProperties) {
+        this(s3Client, bucket, readProperties, null);
+    }
+
+    public S3Reader(S3Client s3Client, String bucket, S3ReadProperties readProperties, S3Presigner presigner) {
+        this(s3Client, bucket, readProperties, presigner, Clock.systemUTC());
+    }
+
+    S3Reader(S3Client s3Client, String bucket, S3ReadProperties readProperties, S3Presigner presigner, Clock clock) {
+        this(s3Client, bucket, readProperties, presigner, clock, null, MetricsRecorder.NOOP);
+    }
+
+    S3Reader(S3Client s3Client, String bucket, S3ReadProperties readProperties, S3Presigner presigner,
+             MetricsRecorder metrics) {
+        this(s3Client, bucket, readProperties, presigner, null, metrics);
+    }
+
+    /**
+     * @param concurrencyLimiter GET 요청을 보낼 동시성 제한, 제한하지 않으면 null
+     */
+    S3Reader(S3Client s3Client, String bucket, S3ReadProperties readProperties, S3Presigner presigner,
+             S3ConcurrencyLimiter concurrencyLimiter, MetricsRecorder metrics) {
+        this(s3Client, bucket, readProperties, presigner, Clock.systemUTC(), concurrencyLimiter, metrics);
+    }
+
+    private S3Reader(S3Client s3Client, String bucket, S3ReadProperties readProperties, S3Presigner presigner,
+                     Clock clock, S3ConcurrencyLimiter concurrencyLimiter, MetricsRecorder metrics) {
         this.s3Client = s3Client;
         this.bucket = bucket;
+        if (readProperties.getCdnBaseUrl() != null) {
+            this.urlTemplate = S3UrlTemplate.ofBaseUrl(readProperties.getCdnBaseUrl());
+        }
+
+        this.presigner = presigner;
+        this.presignTtl = readProperties.getPresignTtl();
+        Duration halfTtl = presignTtl.dividedBy(2);
+        this.presignRefreshMargin = readProperties.getPresignRefreshMargin().compareTo(halfTtl) > 0
+                ? halfTtl
+                : readProperties.getPresignRefreshMargin();
+        this.presignedUrlCache = new PresignedUrlCache(readProperties.getPresignCacheSize());
+        this.clock = clock;
+        this.diskCache = readProperties.getDiskCacheDirectory() == null
+                ? null
+                : DiskObjectCache.forDirectory(readProperties.getDiskCacheDirectory(),
+                        readProperties.getDiskCacheMaxBytes(), readProperties.getDiskCacheRevalidateAfter());
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.metrics = metrics;
     }
 
     public String getUrl(String key) {
-        GetUrlRequest request = GetUrlRequest.builder()
+        return metrics.record(S3Operation.URL_GENERATION, () -> resolveUrl(key));
+    }
+
+    private String resolveUrl(String key) {
+        S3UrlTemplate template = urlTemplate;
+        if (template == null) {
+            template = S3UrlTemplate.of(s3Client.utilities(), bucket);
+            urlTemplate = template;
+        }
+        return template.getUrl(key);
+    }
+
+    /**
+     * 객체를 내려받을 수 있는 presigned GET URL을 반환합니다.
+     * <p>
+     * 캐시된 URL의 남은 유효 시간이 갱신 여유 시간보다 길면 캐시된 URL을 반환하고, 그렇지 않으면 새로 서명합니다.
+     * </p>
+     *
+     * @param key 객체 키 (경로 포함)
+     * @return presigned GET URL
+     * @throws IllegalStateException {@link S3Presigner}가 지정되지 않은 경우
+     */
+    public String getPresignedUrl(String key) {
+        if (presigner == null) {
+            throw new IllegalStateException("S3Presigner is not configured for this reader");
+        }
+
+        return metrics.record(S3Operation.URL_GENERATION, () -> presign(key));
+    }
+
+    private String presign(String key) {
+        String cached = presignedUrlCache.get(key, clock.instant());
+        if (cached != null) {
+            return cached;
+        }
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(presignTtl)
+                .getObjectRequest(request -> request.bucket(bucket).key(key))
+                .build();
+        PresignedGetObjectRequest presigned = presigner.presignGetObject(presignRequest);
+
+        String url = presigned.url().toString();
+        Instant refreshAt = presigned.expiration().minus(presignRefreshMargin);
+        presignedUrlCache.put(key, url, refreshAt);
+
+        return url;
+    }
+
+    public S3ObjectMetadata download(String key, OutputStream outputStream) {
+        return download(key, outputStream, null);
+    }
+
+    /**
+     * 객체를 출력 스트림으로 내려받습니다. 출력 스트림은 닫지 않습니다.
+     *
+     * @param key          객체 키 (경로 포함)
+     * @param outputStream 내용을 쓸 출력 스트림
+     * @param range        읽을 범위, 전체를 읽으려면 null
+     * @return 객체 메타데이터
+     * @throws S3ReaderException 객체를 읽거나 쓰는 중 오류가 발생한 경우
+     */
+    public S3ObjectMetadata download(String key, OutputStream outputStream, S3ByteRange range) {
+        return download(key, range,
+                in -> in.transferTo(outputStream),
+                cached -> cached.transferTo(Channels.newChannel(outputStream)));
+    }
+
+    public S3ObjectMetadata download(String key, WritableByteChannel channel) {
+        return download(key, channel, null);
+    }
+
+    /**
+     * 객체를 채널로 내려받습니다. 채널이 {@link FileChannel}이면 현재 위치부터 {@link FileChannel#transferFrom}으로 직접 씁니다.
+     * 채널은 닫지 않습니다.
+     *
+     * @param key     객체 키 (경로 포함)
+     * @param channel 내용을 쓸 채널
+     * @param range   읽을 범위, 전체를 읽으려면 null
+     * @return 객체 메타데이터
+     * @throws S3ReaderException 객체를 읽거나 쓰는 중 오류가 발생한 경우
+     */
+    public S3ObjectMetadata download(String key, WritableByteChannel channel, S3ByteRange range) {
+        return download(key, range, in -> {
+            if (channel instanceof FileChannel fileChannel && fileChannel.position() <= fileChannel.size()) {
+                long written = transferTo(in, fileChannel, fileChannel.position());
+                fileChannel.position(fileChannel.position() + written);
+            } else {
+                in.transferTo(Channels.newOutputStream(channel));
+            }
+        }, cached -> cached.transferTo(channel));
+    }
+
+    public S3ObjectMetadata download(String key, Path target) {
+        return download(key, target, null);
+    }
+
+    /**
+     * 객체를 파일로 내려받습니다. 파일이 이미 있으면 덮어쓰며, 파일을 연 뒤에 실패하면 쓰다 만 파일을 삭제합니다.
+     * 객체가 없거나 응답을 받기 전에 실패하면 기존 파일은 그대로 둡니다.
+     *
+     * @param key    객체 키 (경로 포함)
+     * @param target 내용을 쓸 파일 경로
+     * @param range  읽을 범위, 전체를 읽으려면 null
+     * @return 객체 메타데이터
+     * @throws S3ReaderException 객체를 읽거나 쓰는 중 오류가 발생한 경우
+     */
+    public S3ObjectMetadata download(String key, Path target, S3ByteRange range) {
+        AtomicBoolean opened = new AtomicBoolean(false);
+        try {
+            return download(key, range, in -> {
+                try (FileChannel fileChannel = openForWrite(target, opened)) {
+                    transferTo(in, fileChannel, 0);
+                }
+            }, cached -> {
+                try (FileChannel fileChannel = openForWrite(target, opened)) {
+                    cached.transferTo(fileChannel);
+                }
+            });
+        } catch (S3ReaderException e) {
+            if (opened.get()) {
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException deleteException) {
+                    e.addSuppressed(deleteException);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private S3ObjectMetadata download(String key, S3ByteRange range, ObjectWriter writer, ContentWriter cachedWriter) {
+        if (range == null && diskCache != null) {
+            DiskObjectCache.Lookup lookup = diskCache.get(s3Client, concurrencyLimiter, bucket, key);
+            if (lookup.cached() != null) {
+                try (DiskObjectCache.CachedObject cached = lookup.cached()) {
+                    cachedWriter.write(cached);
+                    return cached.metadata();
+                } catch (IOException e) {
+                    throw new S3ReaderException("Failed to write cached object: " + key, e);
+                }
+            }
+            if (lookup.response() != null) {
+                // 캐시하기에 너무 커서 캐시가 넘겨준 응답을 그대로 사용합니다.
+                return write(key, lookup.response(), writer);
+            }
+        }
+
+        log.debug("Downloading object from S3: bucket={}, key={}, range={}", bucket, key, range);
+
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key);
+        if (range != null) {
+            request.range(range.toHeaderValue());
+        }
+
+        ResponseInputStream<GetObjectResponse> in;
+        try {
+            in = S3ConcurrencyLimiter.limited(concurrencyLimiter, () -> s3Client.getObject(request.build()));
+        } catch (SdkException e) {
+            throw new S3ReaderException("Failed to get object: " + key, e);
+        }
+
+        return write(key, in, writer);
+    }
+
+    private S3ObjectMetadata write(String key, ResponseInputStream<GetObjectResponse> in, ObjectWriter writer) {
+        try {
+            writer.write(in);
+            in.close();
+            return S3ObjectMetadata.from(key, in.response());
+        } catch (IOException | SdkException e) {
+            abortQuietly(in);
+            throw new S3ReaderException("Failed to download object: " + key, e);
+        }
+    }
+
+    /**
+     * 남은 본문을 끝까지 읽어 연결을 재사용하는 대신 연결을 끊고 스트림을 닫습니다.
+     * 큰 객체를 읽다 실패했을 때 나머지를 내려받지 않도록 닫기 전에 호출해야 합니다.
+     */
+    static void abortQuietly(ResponseInputStream<?> in) {
+        in.abort();
+        try {
+            in.close();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to close aborted response stream", e);
+        }
+    }
+
+    /**
+     * 응답 본문을 파일 채널의 {@code position}부터 끝까지 씁니다.
+     *
+     * @return 쓴 바이트 수
+     */
+    static long transferTo(ResponseInputStream<GetObjectResponse> in, FileChannel fileChannel,
+                                   long position) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(in);
+        long written = 0;
+        while (true) {
+            long transferred = fileChannel.transferFrom(source, position + written, TRANSFER_CHUNK_SIZE);
+            if (transferred <= 0) {
+                return written;
+            }
+            written += transferred;
+        }
+    }
+
+    /**
+     * 파일을 덮어쓰기 위해 엽니다. 파일이 열리면 {@code opened}를 설정하여, 실패했을 때 이 호출이 덮어쓴 파일만 삭제하도록 합니다.
+     */
+    private static FileChannel openForWrite(Path target, AtomicBoolean opened) throws IOException {
+        FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        opened.set(true);
+        return channel;
+    }
+
+    @FunctionalInterface
+    private interface ObjectWriter {
+        void write(ResponseInputStream<GetObjectResponse> in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(DiskObjectCache.CachedObject cached) throws IOException;
+    }
+
+    /**
+     * 객체의 앞부분을 최대 {@code length}바이트까지 읽습니다. 객체가 더 짧으면 전체를 반환합니다.
+     */
+    ResponseBytes<GetObjectResponse> readHeader(String key, int length) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=0-" + (length - 1))
+                .build();
+
+        return S3ConcurrencyLimiter.limited(concurrencyLimiter,
+                () -> s3Client.getObject(request, ResponseTransformer.toBytes()));
+    }
+
+    /**
+     * 객체의 메타데이터를 조회합니다.
+     *
+     * @throws NoSuchKeyException 객체가 없는 경우
+     */
+    HeadObjectResponse head(String key) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
                 .build();
 
-        return s3Client.utilities().getUrl(request).toString();
+        return s3Client.headObject(request);
     }
 
 }
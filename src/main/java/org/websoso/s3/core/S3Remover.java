@@ -2,19 +2,66 @@ package org.websoso.s3.core;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3DeleteResult;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class S3Remover {
 
     private static final Logger log = LoggerFactory.getLogger(S3Remover.class);
 
+    /**
+     * DeleteObjects 요청 한 번에 담을 수 있는 최대 키 수
+     */
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final int DELETE_PARALLELISM = 4;
+
     private final S3Client s3Client;
     private final String bucket;
+    private final ExecutorService deleteExecutor;
+    private final S3ConcurrencyLimiter concurrencyLimiter;
+    private final MetricsRecorder metrics;
 
     public S3Remover(S3Client s3Client, String bucket) {
+        this(s3Client, bucket, MetricsRecorder.NOOP);
+    }
+
+    S3Remover(S3Client s3Client, String bucket, MetricsRecorder metrics) {
+        this(s3Client, bucket, null, metrics);
+    }
+
+    /**
+     * @param concurrencyLimiter 삭제 요청을 보낼 동시성 제한, 제한하지 않으면 null
+     */
+    S3Remover(S3Client s3Client, String bucket, S3ConcurrencyLimiter concurrencyLimiter, MetricsRecorder metrics) {
         this.s3Client = s3Client;
         this.bucket = bucket;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.metrics = metrics;
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(DELETE_PARALLELISM, DELETE_PARALLELISM, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("s3-batch-delete-"));
+        executor.allowCoreThreadTimeOut(true);
+        this.deleteExecutor = executor;
     }
 
     public boolean delete(String key) {
@@ -27,7 +74,8 @@ public class S3Remover {
                     .key(key)
                     .build();
 
-            s3Client.deleteObject(deleteObjectRequest);
+            metrics.record(S3Operation.DELETE, () -> S3ConcurrencyLimiter.limited(concurrencyLimiter,
+                    () -> s3Client.deleteObject(deleteObjectRequest)));
 
             log.info("Successfully deleted object from S3: bucket={}, key={}", bucket, key);
 
@@ -39,4 +87,74 @@ public class S3Remover {
         }
     }
 
+    /**
+     * 여러 객체를 DeleteObjects 요청으로 묶어 삭제합니다.
+     * <p>
+     * 키는 최대 {@value #MAX_KEYS_PER_REQUEST}개 단위로 나누어 동시에 요청하며,
+     * 결과는 입력 순서대로 키마다 하나씩 반환됩니다.
+     * </p>
+     *
+     * @param keys 삭제할 객체 키 목록
+     * @return 키별 삭제 결과
+     */
+    public List<S3DeleteResult> deleteAll(Collection<String> keys) {
+
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+
+        log.debug("Deleting objects from S3: bucket={}, count={}", bucket, distinctKeys.size());
+
+        List<CompletableFuture<Map<String, S3DeleteResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < distinctKeys.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<String> chunk = distinctKeys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, distinctKeys.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> deleteChunk(chunk), deleteExecutor));
+        }
+
+        Map<String, S3DeleteResult> resultsByKey = new HashMap<>();
+        futures.forEach(future -> resultsByKey.putAll(future.join()));
+
+        List<S3DeleteResult> results = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            results.add(resultsByKey.get(key));
+        }
+        return results;
+    }
+
+    private Map<String, S3DeleteResult> deleteChunk(List<String> keys) {
+        Map<String, S3DeleteResult> results = new HashMap<>();
+
+        try {
+            List<ObjectIdentifier> objects = new ArrayList<>(keys.size());
+            keys.forEach(key -> objects.add(ObjectIdentifier.builder().key(key).build()));
+
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(false).build())
+                    .build();
+
+            DeleteObjectsResponse response = metrics.record(S3Operation.DELETE,
+                    () -> S3ConcurrencyLimiter.limited(concurrencyLimiter, () -> s3Client.deleteObjects(deleteObjectsRequest)));
+
+            for (DeletedObject deleted : response.deleted()) {
+                results.put(deleted.key(), S3DeleteResult.success(deleted.key()));
+            }
+            for (S3Error error : response.errors()) {
+                log.error("Failed to delete object from S3: bucket={}, key={}, code={}", bucket, error.key(), error.code());
+                results.put(error.key(), S3DeleteResult.fail(error.key(), error.code() + " " + error.message()));
+            }
+            for (String key : keys) {
+                results.putIfAbsent(key, S3DeleteResult.fail(key, "No result returned from S3"));
+            }
+
+            log.info("Deleted objects from S3: bucket={}, requested={}, deleted={}", bucket, keys.size(), response.deleted().size());
+
+        } catch (Exception e) {
+            log.error("Failed to delete objects from S3: bucket={}, count={}", bucket, keys.size(), e);
+            for (String key : keys) {
+                results.put(key, S3DeleteResult.fail(key, e.getMessage()));
+            }
+        }
+
+        return results;
+    }
+
 }
@@ -2,14 +2,21 @@ package org.websoso.s3.core;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.websoso.s3.config.S3UploadProperties;
 import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.modle.S3BufferPoolStats;
+import org.websoso.s3.modle.S3ConcurrencyLimiterStats;
 import org.websoso.s3.modle.S3UploadResponse;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 
 public class S3Uploader {
 
@@ -17,10 +24,50 @@ public class S3Uploader {
 
     private final S3Client s3Client;
     private final String bucket;
+    private final S3BufferPool bufferPool;
+    private final S3MultipartUploader multipartUploader;
+    private final HedgedPutRunner putRunner;
+    private final S3ConcurrencyLimiter concurrencyLimiter;
+    private final MetricsRecorder metrics;
 
     public S3Uploader(S3Client s3Client, String bucket) {
+        this(s3Client, bucket, new S3UploadProperties());
+    }
+
+    public S3Uploader(S3Client s3Client, String bucket, S3UploadProperties properties) {
+        this(s3Client, bucket, properties, MetricsRecorder.NOOP);
+    }
+
+    S3Uploader(S3Client s3Client, String bucket, S3UploadProperties properties, MetricsRecorder metrics) {
         this.s3Client = s3Client;
         this.bucket = bucket;
+        this.bufferPool = S3BufferPool.shared(s3Client, properties);
+        this.concurrencyLimiter = properties.isConcurrencyLimitEnabled()
+                ? S3ConcurrencyLimiter.shared(s3Client, bucket, properties)
+                : null;
+        RetryBackoff backoff = new RetryBackoff(properties);
+        this.multipartUploader = new S3MultipartUploader(s3Client, bucket, properties, bufferPool, backoff,
+                concurrencyLimiter);
+        this.putRunner = new HedgedPutRunner(properties, backoff);
+        this.metrics = metrics;
+    }
+
+    /**
+     * 같은 {@link S3Client}를 사용하는 업로더끼리 공유하는 파트 버퍼 풀의 통계를 반환합니다.
+     *
+     * @return 버퍼 풀 통계
+     */
+    public S3BufferPoolStats getBufferPoolStats() {
+        return bufferPool.stats();
+    }
+
+    /**
+     * 같은 {@link S3Client}와 버킷을 사용하는 업로더끼리 공유하는 동시성 제한의 통계를 반환합니다.
+     *
+     * @return 동시성 제한 통계, 동시성 제한을 사용하지 않으면 null
+     */
+    public S3ConcurrencyLimiterStats getConcurrencyLimiterStats() {
+        return concurrencyLimiter != null ? concurrencyLimiter.stats() : null;
     }
 
     public S3UploadResponse upload(String key, File file) {
@@ -28,18 +75,22 @@ public class S3Uploader {
         log.debug("Uploading file to S3: bucket={}, key={}, file={}", bucket, key, file.getName());
 
         try {
+            if (multipartUploader.isMultipartRequired(file.length())) {
+                return put(file.length(), () -> multipartUploader.upload(key, file, null));
+            }
+
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
                     .contentLength(file.length())
                     .build();
-            RequestBody requestBody = RequestBody.fromFile(file);
-
-            PutObjectResponse response = s3Client.putObject(putObjectRequest, requestBody);
+            S3UploadResponse response = put(file.length(), () -> putRunner.run(key, file.length(),
+                    () -> limited(() -> S3UploadResponse.from(
+                            s3Client.putObject(putObjectRequest, RequestBody.fromFile(file))))));
 
             log.info("Successfully uploaded file to S3: bucket={}, key={}", bucket, key);
 
-            return S3UploadResponse.from(response);
+            return response;
 
         } catch (Exception e) {
             throw new S3UploaderException("S3 file upload failed: " + e.getMessage(), e);
@@ -51,25 +102,61 @@ public class S3Uploader {
         log.debug("Uploading file to S3: bucket={}, key={}, file={}, contentType={}", bucket, key, file.getName(), contentType);
 
         try {
+            if (multipartUploader.isMultipartRequired(file.length())) {
+                return put(file.length(), () -> multipartUploader.upload(key, file, contentType));
+            }
+
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
                     .contentType(contentType)
                     .contentLength(file.length())
                     .build();
-            RequestBody requestBody = RequestBody.fromFile(file);
-
-            PutObjectResponse response = s3Client.putObject(putObjectRequest, requestBody);
+            S3UploadResponse response = put(file.length(), () -> putRunner.run(key, file.length(),
+                    () -> limited(() -> S3UploadResponse.from(
+                            s3Client.putObject(putObjectRequest, RequestBody.fromFile(file))))));
 
             log.info("Successfully uploaded file to S3: bucket={}, key={}", bucket, key);
 
-            return S3UploadResponse.from(response);
+            return response;
 
         } catch (Exception e) {
             throw new S3UploaderException("S3 file upload failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 버퍼의 남은 영역을 복사 없이 업로드합니다. 재시도와 헤징 요청도 같은 버퍼를 처음부터 다시 읽습니다.
+     */
+    public S3UploadResponse upload(String key, ByteBuffer buffer, String contentType) {
+
+        long contentLength = buffer.remaining();
+
+        log.debug("Uploading buffer to S3: bucket={}, key={}, contentType={}, contentLength={}", bucket, key, contentType, contentLength);
+
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(contentLength)
+                    .build();
+
+            S3UploadResponse response = put(contentLength, () -> putRunner.run(key, contentLength, () -> {
+                RequestBody requestBody = RequestBody.fromContentProvider(
+                        () -> new ByteBufferInputStream(buffer.duplicate()), contentLength, contentType);
+                return limited(() -> S3UploadResponse.from(s3Client.putObject(putObjectRequest, requestBody)));
+            }));
+
+            log.info("Successfully uploaded to S3: bucket={}, key={}", bucket, key);
+
+            return response;
+
+        } catch (Exception e) {
+            throw new S3UploaderException("S3 upload failed: " + e.getMessage(), e);
+        }
+    }
+
     public S3UploadResponse upload(String key, InputStream inputStream, String contentType, long contentLength) {
 
         log.debug("Uploading input stream to S3: bucket={}, key={}, contentType={}, contentLength={}", bucket, key, contentType, contentLength);
@@ -83,15 +170,57 @@ public class S3Uploader {
                     .build();
 
             RequestBody requestBody = RequestBody.fromInputStream(inputStream, contentLength);
-            PutObjectResponse response = s3Client.putObject(putObjectRequest, requestBody);
+            S3UploadResponse response = put(contentLength,
+                    () -> limited(() -> S3UploadResponse.from(s3Client.putObject(putObjectRequest, requestBody))));
 
             log.info("Successfully uploaded to S3: bucket={}, key={}", bucket, key);
 
-            return S3UploadResponse.from(response);
+            return response;
 
         } catch (Exception e) {
             throw new S3UploaderException("S3 upload failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 길이를 알 수 없는 입력 스트림을 업로드합니다.
+     * 파트 크기보다 작으면 단일 PUT으로, 크면 멀티파트 업로드로 스트리밍합니다.
+     */
+    public S3UploadResponse upload(String key, InputStream inputStream, String contentType) {
+
+        log.debug("Uploading input stream of unknown length to S3: bucket={}, key={}, contentType={}", bucket, key, contentType);
+
+        try {
+            // 파일 스트림은 FileChannel로 읽히도록, 지표를 기록할 때만 감쌉니다.
+            CountingInputStream countingStream = metrics.isEnabled() ? new CountingInputStream(inputStream) : null;
+            InputStream source = countingStream != null ? countingStream : inputStream;
+
+            S3UploadResponse response = metrics.record(S3Operation.PUT,
+                    () -> multipartUploader.upload(key, source, contentType));
+            if (countingStream != null && response.isSuccess()) {
+                metrics.recordBytes(S3Operation.PUT, countingStream.count());
+            }
+
+            log.info("Successfully uploaded to S3: bucket={}, key={}", bucket, key);
+
+            return response;
+
+        } catch (Exception e) {
+            throw new S3UploaderException("S3 upload failed: " + e.getMessage(), e);
+        }
+    }
+
+    private S3UploadResponse put(long contentLength, MetricsRecorder.Action<S3UploadResponse, IOException> upload)
+            throws IOException {
+        S3UploadResponse response = metrics.record(S3Operation.PUT, upload);
+        if (response.isSuccess()) {
+            metrics.recordBytes(S3Operation.PUT, contentLength);
+        }
+        return response;
+    }
+
+    private <T> T limited(Supplier<T> request) {
+        return concurrencyLimiter != null ? concurrencyLimiter.call(request) : request.get();
+    }
+
 }
\ No newline at end of file
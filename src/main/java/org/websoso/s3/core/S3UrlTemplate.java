@@ -0,0 +1,84 @@
+package org.websoso.s3.core;
+
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 버킷별로 한 번 계산한 URL 템플릿에 인코딩된 객체 키를 붙여 객체 URL을 만드는 클래스입니다.
+ * <p>
+ * S3 엔드포인트 URL은 {@link S3Utilities#getUrl(GetUrlRequest)}에 자리표시 키를 넣어 한 번만 계산하고,
+ * 이후에는 키를 퍼센트 인코딩(경로 구분자 {@code /}는 유지)하여 앞뒤 문자열과 이어 붙입니다.
+ * </p>
+ */
+final class S3UrlTemplate {
+
+    private static final String PLACEHOLDER_KEY = "s3-url-template-placeholder";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String prefix;
+    private final String suffix;
+
+    private S3UrlTemplate(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    static S3UrlTemplate of(S3Utilities utilities, String bucket) {
+        String url = utilities.getUrl(GetUrlRequest.builder()
+                .bucket(bucket)
+                .key(PLACEHOLDER_KEY)
+                .build()).toString();
+
+        int index = url.lastIndexOf(PLACEHOLDER_KEY);
+        return new S3UrlTemplate(url.substring(0, index), url.substring(index + PLACEHOLDER_KEY.length()));
+    }
+
+    static S3UrlTemplate ofBaseUrl(String baseUrl) {
+        return new S3UrlTemplate(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/", "");
+    }
+
+    String getUrl(String key) {
+        String encodedKey = encodeKey(key);
+        return new StringBuilder(prefix.length() + encodedKey.length() + suffix.length())
+                .append(prefix)
+                .append(encodedKey)
+                .append(suffix)
+                .toString();
+    }
+
+    /**
+     * RFC 3986의 비예약 문자와 {@code /}를 제외한 모든 문자를 UTF-8 기준으로 퍼센트 인코딩합니다.
+     * 인코딩할 문자가 없으면 키를 그대로 반환합니다.
+     */
+    static String encodeKey(String key) {
+        int length = key.length();
+        int i = 0;
+        while (i < length && isUnencoded(key.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return key;
+        }
+
+        StringBuilder builder = new StringBuilder(length + 16).append(key, 0, i);
+        byte[] bytes = key.substring(i).getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            char c = (char) (b & 0xFF);
+            if (isUnencoded(c)) {
+                builder.append(c);
+            } else {
+                builder.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isUnencoded(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~' || c == '/';
+    }
+}
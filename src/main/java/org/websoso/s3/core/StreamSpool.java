@@ -0,0 +1,158 @@
+package org.websoso.s3.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 입력 스트림을 한 번만 읽어 보관(spool)하는 클래스입니다.
+ * <p>
+ * 읽은 크기가 {@code memoryThreshold} 이하이면 힙 메모리에, 초과하면 임시 파일에 보관합니다.
+ * MIME 타입 감지와 업로드가 같은 보관본을 읽으므로, 감지 과정에서 원본 스트림이 소비되거나 닫혀도 업로드에 영향이 없고
+ * 전체 내용을 힙에 두 번 복사하지 않습니다. 사용이 끝나면 반드시 {@link #close()}로 임시 파일을 정리해야 합니다.
+ * </p>
+ */
+class StreamSpool implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamSpool.class);
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final byte[] bytes;
+    private final Path file;
+    private final long length;
+
+    private StreamSpool(byte[] bytes, Path file, long length) {
+        this.bytes = bytes;
+        this.file = file;
+        this.length = length;
+    }
+
+    /**
+     * 입력 스트림을 최대 {@code maxLength}바이트까지 읽어 보관합니다.
+     *
+     * @param inputStream     보관할 입력 스트림
+     * @param maxLength       읽을 최대 바이트 수
+     * @param memoryThreshold 힙 메모리에 보관할 최대 바이트 수, 초과하면 임시 파일에 보관합니다
+     * @return 보관본
+     * @throws IOException 스트림을 읽거나 임시 파일에 쓰는 중 오류가 발생한 경우
+     */
+    static StreamSpool spool(InputStream inputStream, long maxLength, long memoryThreshold) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(INITIAL_BUFFER_SIZE, Math.min(maxLength, memoryThreshold + 1))];
+        int count = 0;
+
+        while (count < maxLength) {
+            if (count == buffer.length) {
+                if (count > memoryThreshold) {
+                    return spoolToFile(inputStream, buffer, count, maxLength);
+                }
+                long grown = Math.min((long) buffer.length * 2, Math.min(maxLength, memoryThreshold + 1));
+                buffer = Arrays.copyOf(buffer, (int) grown);
+            }
+
+            int read = inputStream.read(buffer, count, (int) Math.min(buffer.length - count, maxLength - count));
+            if (read == -1) {
+                break;
+            }
+            count += read;
+        }
+
+        if (count > memoryThreshold) {
+            return spoolToFile(inputStream, buffer, count, maxLength);
+        }
+        return new StreamSpool(buffer, null, count);
+    }
+
+    private static StreamSpool spoolToFile(InputStream inputStream, byte[] head, int headLength, long maxLength) throws IOException {
+        Path file = Files.createTempFile("s3-spool-", ".tmp");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.wrap(head, 0, headLength));
+
+            long total = headLength;
+            byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+            while (total < maxLength) {
+                int read = inputStream.read(copyBuffer, 0, (int) Math.min(copyBuffer.length, maxLength - total));
+                if (read == -1) {
+                    break;
+                }
+                writeFully(channel, ByteBuffer.wrap(copyBuffer, 0, read));
+                total += read;
+            }
+
+            log.debug("Spooled input stream to temporary file: file={}, length={}", file, total);
+
+            return new StreamSpool(null, file, total);
+
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    long length() {
+        return length;
+    }
+
+    boolean isInMemory() {
+        return file == null;
+    }
+
+    /**
+     * 임시 파일 보관본을 반환합니다. 힙 메모리 보관본이면 null을 반환합니다.
+     */
+    File file() {
+        return file == null ? null : file.toFile();
+    }
+
+    /**
+     * 보관본을 처음부터 읽는 mark/reset 가능한 입력 스트림을 반환합니다. (힙 메모리 보관본 전용)
+     */
+    InputStream newInputStream() {
+        return new ByteArrayInputStream(bytes, 0, (int) length);
+    }
+
+    /**
+     * 보관본 전체를 복사 없이 감싼 읽기 전용 버퍼를 반환합니다. (힙 메모리 보관본 전용)
+     * 임시 파일 보관본은 2 GiB를 넘을 수 있으므로 매핑하지 않고 {@link #file()}로 읽어야 합니다.
+     *
+     * @throws IllegalStateException 임시 파일 보관본인 경우
+     */
+    ByteBuffer buffer() {
+        if (file != null) {
+            throw new IllegalStateException("Spool is stored in a temporary file: " + file);
+        }
+        return ByteBuffer.wrap(bytes, 0, (int) length).asReadOnlyBuffer();
+    }
+
+    @Override
+    public void close() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete spool file: file={}", file, e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.websoso.s3.core.strategy;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+/**
+ * 읽을 수 있는 바이트 수와 시간을 제한하는 입력 스트림입니다.
+ * <p>
+ * 바이트 예산을 모두 사용하면 스트림 끝(-1)을 반환하고, 시간 예산을 넘기면 다음 읽기에서 {@link IOException}을 던집니다.
+ * 읽는 스레드가 인터럽트된 경우에도 다음 읽기에서 {@link InterruptedIOException}을 던져, 시간 예산을 넘겨 포기한 파싱을 멈춥니다.
+ * 감지 전략은 {@link #isByteBudgetReached()}, {@link #isTimedOut()}으로 중단 원인을 구분합니다.
+ * </p>
+ */
+class BudgetedInputStream extends FilterInputStream {
+
+    private final long byteBudget;
+    private final long deadlineNanos;
+
+    private long count;
+    private boolean byteBudgetReached;
+    private boolean timedOut;
+
+    BudgetedInputStream(InputStream in, long byteBudget, long timeBudgetNanos) {
+        super(in);
+        this.byteBudget = byteBudget;
+        this.deadlineNanos = System.nanoTime() + timeBudgetNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining() <= 0) {
+            return -1;
+        }
+
+        int value = super.read();
+        if (value != -1) {
+            count++;
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        long remaining = remaining();
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        int read = super.read(bytes, offset, (int) Math.min(length, remaining));
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long remaining = remaining();
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        long skipped = super.skip(Math.min(n, remaining));
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    boolean isByteBudgetReached() {
+        return byteBudgetReached;
+    }
+
+    boolean isTimedOut() {
+        return timedOut;
+    }
+
+    private long remaining() throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            timedOut = true;
+            throw new InterruptedIOException("MIME detection interrupted");
+        }
+        if (System.nanoTime() - deadlineNanos > 0) {
+            timedOut = true;
+            throw new IOException("MIME detection time budget exceeded");
+        }
+
+        long remaining = byteBudget - count;
+        if (remaining <= 0) {
+            byteBudgetReached = true;
+        }
+        return remaining;
+    }
+}
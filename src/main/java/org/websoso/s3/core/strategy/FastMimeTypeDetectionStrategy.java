@@ -39,4 +39,9 @@ public class FastMimeTypeDetectionStrategy implements MimeTypeDetectionStrategy
     public String detect(File file) throws IOException {
         return tika.detect(file);
     }
+
+    @Override
+    public String mode() {
+        return "FAST";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package org.websoso.s3.core.strategy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 논리 키의 해시로 만든 짧은 16진수 접두사를 붙여 객체를 여러 접두사로 분산하는 전략 구현체입니다.
+ * <p>
+ * S3의 요청 처리량 제한은 접두사마다 적용되므로, {@code profile/2026/10/...}처럼 한 접두사에 몰리는 키도
+ * {@code 3f/profile/2026/10/...}처럼 16^{@code prefixLength}개의 접두사로 나뉘어 처리량이 접두사 수만큼 늘어납니다.
+ * 접두사는 키의 MD5 해시 앞부분이므로 JVM이나 실행 환경과 관계없이 항상 같습니다.
+ * </p>
+ */
+public class HashPrefixKeyLayoutStrategy implements KeyLayoutStrategy {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_PREFIX_LENGTH = 8;
+
+    private final int prefixLength;
+
+    /**
+     * @param prefixLength 접두사의 16진수 자릿수 (1 ~ 8)
+     * @throws IllegalArgumentException 자릿수가 범위를 벗어난 경우
+     */
+    public HashPrefixKeyLayoutStrategy(int prefixLength) {
+        if (prefixLength < 1 || prefixLength > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("Hash prefix length must be between 1 and " + MAX_PREFIX_LENGTH);
+        }
+        this.prefixLength = prefixLength;
+    }
+
+    @Override
+    public String physicalKey(String key) {
+        byte[] digest = md5().digest(key.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder physicalKey = new StringBuilder(prefixLength + 1 + key.length());
+        for (int i = 0; i < prefixLength; i++) {
+            int nibble = (digest[i / 2] >> (i % 2 == 0 ? 4 : 0)) & 0x0f;
+            physicalKey.append(HEX[nibble]);
+        }
+        return physicalKey.append('/').append(key).toString();
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
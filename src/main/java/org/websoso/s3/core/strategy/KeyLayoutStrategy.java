@@ -0,0 +1,34 @@
+package org.websoso.s3.core.strategy;
+
+import org.websoso.s3.config.S3UploadProperties;
+
+/**
+ * 호출자가 지정한 논리 키를 실제로 저장할 물리 키로 바꾸는 전략 인터페이스입니다.
+ * <p>
+ * 같은 논리 키는 항상 같은 물리 키로 바뀌어야 하므로, 업로드, URL 생성, 삭제가 모두 같은 객체를 가리킵니다.
+ * 구현체는 키를 그대로 사용하거나({@link PlainKeyLayoutStrategy}) 해시 접두사를 붙여 여러 접두사로 분산합니다({@link HashPrefixKeyLayoutStrategy}).
+ * </p>
+ */
+public interface KeyLayoutStrategy {
+
+    /**
+     * 논리 키에 대응하는 물리 키를 반환합니다.
+     *
+     * @param key 호출자가 지정한 객체 키 (경로 포함)
+     * @return 저장소에 실제로 사용할 객체 키
+     */
+    String physicalKey(String key);
+
+    /**
+     * 업로드 설정의 {@link S3UploadProperties#getKeyLayout()}에 따른 구현체를 반환합니다.
+     *
+     * @param properties 업로드 설정
+     * @return 전략 구현체 인스턴스
+     */
+    static KeyLayoutStrategy from(S3UploadProperties properties) {
+        return switch (properties.getKeyLayout()) {
+            case PLAIN -> PlainKeyLayoutStrategy.INSTANCE;
+            case HASH_PREFIX -> new HashPrefixKeyLayoutStrategy(properties.getKeyHashPrefixLength());
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package org.websoso.s3.core.strategy;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -7,7 +8,7 @@ import java.io.InputStream;
 /**
  * MIME 타입을 감지하기 위한 전략 인터페이스입니다.
  * <p>
- * 구현체는 빠른 감지(확장자 기반) 또는 정밀 감지(Tika 파서 기반) 방식으로 분기됩니다.
+ * 구현체는 빠른 감지(확장자 기반), 정밀 감지(Tika 파서 기반) 또는 시그니처 감지(매직 바이트 기반) 방식으로 분기됩니다.
  * </p>
  */
 public interface MimeTypeDetectionStrategy {
@@ -29,4 +30,29 @@ public interface MimeTypeDetectionStrategy {
      * @throws IOException 감지 중 I/O 오류 발생 시
      */
     String detect(File file) throws IOException;
+
+    /**
+     * 객체 앞부분의 바이트만으로 MIME 타입을 감지합니다.
+     * <p>
+     * {@code truncated}가 true이면 {@code header}는 더 큰 컨텐츠의 일부이므로,
+     * 파일 구조를 파싱하는 구현체는 잘린 입력으로 인한 파싱 오류를 허용해야 합니다. 기본 구현은 {@link #detect(InputStream)}과 같습니다.
+     * </p>
+     *
+     * @param header    컨텐츠 앞부분의 바이트
+     * @param truncated 컨텐츠가 {@code header}보다 길 수 있는지 여부
+     * @return 감지된 MIME 타입 문자열
+     * @throws IOException 감지 중 I/O 오류 발생 시
+     */
+    default String detectHeader(byte[] header, boolean truncated) throws IOException {
+        return detect(new ByteArrayInputStream(header));
+    }
+
+    /**
+     * 지표 집계에 사용할 감지 방식 이름을 반환합니다. 기본 구현은 클래스 이름입니다.
+     *
+     * @return 감지 방식 이름 (예: {@code PRECISE})
+     */
+    default String mode() {
+        return getClass().getSimpleName();
+    }
 }
\ No newline at end of file
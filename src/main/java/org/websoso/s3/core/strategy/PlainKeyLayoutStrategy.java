@@ -0,0 +1,17 @@
+package org.websoso.s3.core.strategy;
+
+/**
+ * 논리 키를 그대로 물리 키로 사용하는 전략 구현체입니다.
+ */
+public final class PlainKeyLayoutStrategy implements KeyLayoutStrategy {
+
+    public static final PlainKeyLayoutStrategy INSTANCE = new PlainKeyLayoutStrategy();
+
+    private PlainKeyLayoutStrategy() {
+    }
+
+    @Override
+    public String physicalKey(String key) {
+        return key;
+    }
+}
@@ -1,44 +1,161 @@
 package org.websoso.s3.core.strategy;
 
+import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
-import org.apache.tika.sax.BodyContentHandler;
-import org.apache.tika.io.TikaInputStream;
+import org.websoso.s3.exception.MimeDetectionTimeoutException;
+import org.xml.sax.helpers.DefaultHandler;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 정밀하게 MIME 타입을 감지하는 전략 구현체입니다.
  * <p>
- * 파일의 전체 내용을 분석하여 정확한 MIME 타입을 반환하며, Tika의 AutoDetectParser를 사용합니다.
+ * Tika의 AutoDetectParser로 파일 구조를 파싱하여 MIME 타입을 확인합니다.
+ * 본문·텍스트는 추출하지 않고 메타데이터만 수집하며, 파싱은 바이트 예산과 시간 예산 안에서만 수행됩니다.
+ * </p>
+ * <ul>
+ *   <li><b>바이트 예산</b> - 예산만큼 읽은 뒤에는 입력을 끝난 것으로 간주하고, 그때까지 확인된 타입을 반환합니다.</li>
+ *   <li><b>시간 예산</b> - 예산을 넘기면 {@link MimeDetectionTimeoutException}을 던집니다.
+ *       파싱은 전용 스레드에서 실행하고 호출한 스레드는 예산만큼만 기다리므로, 입력을 읽지 않고 CPU만 쓰는 파싱도 예산 안에 끝납니다.</li>
+ * </ul>
+ * <p>
+ * 예산을 넘긴 파싱은 인터럽트하며, 다음 입력을 읽을 때 중단됩니다. 입력을 읽지 않는 동안에는 파싱 스레드가 계속 실행될 수 있으므로,
+ * 파싱 스레드는 CPU 코어 수만큼으로 제한하고 대기 중인 감지 요청도 {@value #MAX_QUEUED_DETECTIONS}개까지만 받습니다.
  * </p>
  */
 public class PreciseMimeTypeDetectionStrategy implements MimeTypeDetectionStrategy {
 
+    public static final long DEFAULT_BYTE_BUDGET = 16L * 1024 * 1024;
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+
+    private static final int MAX_QUEUED_DETECTIONS = 256;
+
     private static final AutoDetectParser parser = new AutoDetectParser();
+    private static final ExecutorService parseExecutor = createParseExecutor();
+
+    private final long byteBudget;
+    private final long timeBudgetNanos;
+
+    public PreciseMimeTypeDetectionStrategy() {
+        this(DEFAULT_BYTE_BUDGET, DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * @param byteBudget 파싱에 사용할 최대 바이트 수
+     * @param timeBudget 파싱에 사용할 최대 시간
+     * @throws IllegalArgumentException 예산이 0 이하인 경우
+     */
+    public PreciseMimeTypeDetectionStrategy(long byteBudget, Duration timeBudget) {
+        if (byteBudget <= 0) {
+            throw new IllegalArgumentException("Byte budget must be greater than 0");
+        }
+        if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be greater than 0");
+        }
+        this.byteBudget = byteBudget;
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
 
     @Override
     public String detect(InputStream inputStream) throws IOException {
-        try (TikaInputStream tikaInputStream = TikaInputStream.get(inputStream)) {
-            Metadata metadata = new Metadata();
-            parser.parse(tikaInputStream, new BodyContentHandler(), metadata, new ParseContext());
-            return metadata.get(Metadata.CONTENT_TYPE);
-        } catch (Exception e) {
-            throw new IOException("Precise MIME detection failed", e);
-        }
+        return detectBounded(inputStream, byteBudget, "Precise MIME detection failed");
+    }
+
+    /**
+     * 잘린 앞부분은 그 길이를 바이트 예산으로 간주하여, 끝까지 읽는 동안 확인된 타입을 반환합니다.
+     */
+    @Override
+    public String detectHeader(byte[] header, boolean truncated) throws IOException {
+        long budget = truncated ? Math.min(header.length, byteBudget) : byteBudget;
+        return detectBounded(new ByteArrayInputStream(header), budget, "Precise MIME detection failed for header");
     }
 
     @Override
     public String detect(File file) throws IOException {
-        try (TikaInputStream tikaInputStream = TikaInputStream.get(file)) {
-            Metadata metadata = new Metadata();
-            parser.parse(tikaInputStream, new BodyContentHandler(), metadata, new ParseContext());
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return detectBounded(inputStream, byteBudget, "Precise MIME detection failed for file: " + file.getName());
+        }
+    }
+
+    private String detectBounded(InputStream inputStream, long byteBudget, String errorMessage) throws IOException {
+        BudgetedInputStream budgeted = new BudgetedInputStream(inputStream, byteBudget, timeBudgetNanos);
+        Metadata metadata = new Metadata();
+
+        Future<String> parse;
+        try {
+            parse = parseExecutor.submit(() -> parse(budgeted, metadata));
+        } catch (RejectedExecutionException e) {
+            throw new IOException(errorMessage + ": too many detections in progress", e);
+        }
+
+        try {
+            return parse.get(timeBudgetNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            parse.cancel(true);
+            throw timeout(e);
+        } catch (InterruptedException e) {
+            parse.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException(errorMessage + ": interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (budgeted.isTimedOut()) {
+                throw timeout(cause);
+            }
+
+            String contentType = metadata.get(Metadata.CONTENT_TYPE);
+            if (budgeted.isByteBudgetReached() && contentType != null) {
+                // 예산까지 읽은 구조로 타입이 확인되었으므로, 잘린 입력으로 인한 파싱 오류는 무시합니다.
+                return contentType;
+            }
+
+            throw new IOException(errorMessage, cause);
+        }
+    }
+
+    private static String parse(BudgetedInputStream budgeted, Metadata metadata) throws Exception {
+        try (TikaInputStream tikaInputStream = TikaInputStream.get(budgeted)) {
+            parser.parse(tikaInputStream, new DefaultHandler(), metadata, new ParseContext());
             return metadata.get(Metadata.CONTENT_TYPE);
-        } catch (Exception e) {
-            throw new IOException("Precise MIME detection failed for file: " + file.getName(), e);
         }
     }
-}
\ No newline at end of file
+
+    private MimeDetectionTimeoutException timeout(Throwable cause) {
+        return new MimeDetectionTimeoutException("Precise MIME detection exceeded time budget of "
+                + Duration.ofNanos(timeBudgetNanos).toMillis() + "ms", cause);
+    }
+
+    private static ExecutorService createParseExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(MAX_QUEUED_DETECTIONS), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-mime-detection-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public String mode() {
+        return "PRECISE";
+    }
+}
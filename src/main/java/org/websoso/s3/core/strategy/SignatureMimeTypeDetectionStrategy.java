@@ -0,0 +1,154 @@
+package org.websoso.s3.core.strategy;
+
+import org.apache.tika.Tika;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 매직 바이트(파일 시그니처)로 MIME 타입을 감지하는 전략 구현체입니다.
+ * <p>
+ * 지원하는 이미지 형식의 시그니처 표를 미리 만들어 두고, 입력의 앞 {@value #HEADER_LENGTH}바이트만
+ * 스레드별로 재사용하는 버퍼에 읽어 비교합니다. Tika의 감지기 체인을 거치지 않으므로 빠르고 할당이 거의 없으며,
+ * 어떤 시그니처와도 일치하지 않는 입력에 한해서만 Tika로 감지합니다.
+ * </p>
+ */
+public class SignatureMimeTypeDetectionStrategy implements MimeTypeDetectionStrategy {
+
+    /**
+     * 시그니처 비교에 사용하는 헤더 길이. EMF 시그니처(offset 40)를 포함할 수 있는 길이입니다.
+     */
+    private static final int HEADER_LENGTH = 64;
+    private static final int MARK_LIMIT = 2048;
+    private static final Tika tika = new Tika();
+
+    private static final ThreadLocal<byte[]> HEADER_BUFFER = ThreadLocal.withInitial(() -> new byte[HEADER_LENGTH]);
+
+    private static final Signature[] SIGNATURES = {
+            new Signature("image/jpeg", new Magic(0, bytes(0xFF, 0xD8, 0xFF))),
+            new Signature("image/png", new Magic(0, bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A))),
+            new Signature("image/gif", new Magic(0, ascii("GIF87a"))),
+            new Signature("image/gif", new Magic(0, ascii("GIF89a"))),
+            new Signature("image/webp", new Magic(0, ascii("RIFF")), new Magic(8, ascii("WEBP"))),
+            new Signature("image/tiff", new Magic(0, bytes('I', 'I', 0x2A, 0x00))),
+            new Signature("image/tiff", new Magic(0, bytes('M', 'M', 0x00, 0x2A))),
+            new Signature("image/bmp", new Magic(0, ascii("BM")), new Magic(26, bytes(0x01, 0x00))),
+            new Signature("image/vnd.adobe.photoshop", new Magic(0, ascii("8BPS"))),
+            new Signature("image/bpg", new Magic(0, bytes('B', 'P', 'G', 0xFB))),
+            new Signature("image/icns", new Magic(0, ascii("icns"))),
+            new Signature("image/wmf", new Magic(0, bytes(0xD7, 0xCD, 0xC6, 0x9A, 0x00, 0x00))),
+            new Signature("image/wmf", new Magic(0, bytes(0x01, 0x00, 0x09, 0x00, 0x00, 0x03))),
+            new Signature("image/emf", new Magic(0, bytes(0x01, 0x00, 0x00, 0x00)), new Magic(40, ascii(" EMF")))
+    };
+
+    @Override
+    public String detect(InputStream inputStream) throws IOException {
+        if (!inputStream.markSupported()) {
+            throw new IllegalArgumentException("InputStream must support mark/reset");
+        }
+
+        byte[] header = HEADER_BUFFER.get();
+
+        int length;
+        inputStream.mark(MARK_LIMIT);
+        try {
+            length = readHeader(inputStream, header);
+        } finally {
+            try {
+                inputStream.reset();
+            } catch (IOException e) {
+                throw new IOException("MIME detection succeeded, but failed to reset InputStream for reuse", e);
+            }
+        }
+
+        String mimeType = match(header, length);
+        if (mimeType != null) {
+            return mimeType;
+        }
+        return tika.detect(inputStream);
+    }
+
+    @Override
+    public String detect(File file) throws IOException {
+        byte[] header = HEADER_BUFFER.get();
+
+        int length;
+        try (InputStream inputStream = new FileInputStream(file)) {
+            length = readHeader(inputStream, header);
+        }
+
+        String mimeType = match(header, length);
+        if (mimeType != null) {
+            return mimeType;
+        }
+        return tika.detect(file);
+    }
+
+    private static int readHeader(InputStream inputStream, byte[] header) throws IOException {
+        int total = 0;
+        while (total < header.length) {
+            int read = inputStream.read(header, total, header.length - total);
+            if (read == -1) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static String match(byte[] header, int length) {
+        for (Signature signature : SIGNATURES) {
+            if (signature.matches(header, length)) {
+                return signature.mimeType();
+            }
+        }
+        return null;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record Magic(int offset, byte[] bytes) {
+
+        boolean matches(byte[] header, int length) {
+            if (offset + bytes.length > length) {
+                return false;
+            }
+            for (int i = 0; i < bytes.length; i++) {
+                if (header[offset + i] != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Signature(String mimeType, Magic... magics) {
+
+        boolean matches(byte[] header, int length) {
+            for (Magic magic : magics) {
+                if (!magic.matches(header, length)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public String mode() {
+        return "SIGNATURE";
+    }
+}
@@ -0,0 +1,11 @@
+package org.websoso.s3.exception;
+
+public class BufferPoolExhaustedException extends RuntimeException {
+    public BufferPoolExhaustedException(String message) {
+        super(message);
+    }
+
+    public BufferPoolExhaustedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
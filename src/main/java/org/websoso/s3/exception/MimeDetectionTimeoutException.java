@@ -0,0 +1,11 @@
+package org.websoso.s3.exception;
+
+public class MimeDetectionTimeoutException extends InvalidImageException {
+    public MimeDetectionTimeoutException(String message) {
+        super(message);
+    }
+
+    public MimeDetectionTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package org.websoso.s3.exception;
+
+public class S3ReaderException extends RuntimeException {
+    public S3ReaderException(String message) {
+        super(message);
+    }
+
+    public S3ReaderException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,165 @@
+package org.websoso.s3.factory;
+
+import org.websoso.s3.config.S3TransportProfile;
+import org.websoso.s3.config.S3TransportProfile.HttpClientType;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * {@link S3TransportProfile}을 AWS SDK의 HTTP 클라이언트 빌더로 옮기는 클래스입니다.
+ * <p>
+ * URL-connection, CRT 구현은 선택 의존성이므로, 해당 구현을 선택했을 때만 클래스를 불러오고
+ * 의존성이 없으면 필요한 아티팩트를 알려주는 {@link IllegalStateException}을 던집니다.
+ * </p>
+ */
+final class HttpClientBuilders {
+
+    private static final String URL_CONNECTION_CLIENT = "software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient";
+    private static final String CRT_HTTP_CLIENT = "software.amazon.awssdk.http.crt.AwsCrtHttpClient";
+    private static final String CRT_TCP_KEEP_ALIVE = "software.amazon.awssdk.http.crt.TcpKeepAliveConfiguration";
+    private static final String CRT_RUNTIME = "software.amazon.awssdk.crt.CRT";
+
+    private HttpClientBuilders() {
+
+    }
+
+    /**
+     * 동기 클라이언트용 HTTP 클라이언트 빌더를 생성합니다.
+     *
+     * @throws IllegalStateException 선택한 구현의 의존성이 클래스패스에 없는 경우
+     */
+    static SdkHttpClient.Builder<?> sync(S3TransportProfile profile) {
+        return switch (profile.getHttpClientType()) {
+            case APACHE -> apache(profile);
+            case URL_CONNECTION -> {
+                requireClass(URL_CONNECTION_CLIENT, "software.amazon.awssdk:url-connection-client");
+                yield UrlConnection.builder(profile);
+            }
+            case CRT -> {
+                requireClass(CRT_HTTP_CLIENT, "software.amazon.awssdk:aws-crt-client");
+                yield Crt.syncBuilder(profile);
+            }
+        };
+    }
+
+    /**
+     * 비동기 클라이언트용 Netty HTTP 클라이언트 빌더를 생성합니다.
+     * URL-connection은 비동기 구현이 없으므로 {@link HttpClientType#URL_CONNECTION}도 Netty를 사용합니다.
+     */
+    static SdkAsyncHttpClient.Builder<?> netty(S3TransportProfile profile) {
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(profile.getMaxConnections())
+                .connectionTimeout(profile.getConnectionTimeout())
+                .connectionAcquisitionTimeout(profile.getConnectionAcquisitionTimeout())
+                .readTimeout(profile.getSocketTimeout())
+                .writeTimeout(profile.getSocketTimeout())
+                .connectionMaxIdleTime(profile.getConnectionMaxIdleTime())
+                .useIdleConnectionReaper(profile.isReapIdleConnections())
+                .tcpKeepAlive(profile.isTcpKeepAlive());
+    }
+
+    /**
+     * CRT 기반 비동기 S3 클라이언트에 필요한 네이티브 런타임이 있는지 확인합니다.
+     *
+     * @throws IllegalStateException {@code aws-crt} 의존성이 클래스패스에 없는 경우
+     */
+    static void requireCrtRuntime() {
+        requireClass(CRT_RUNTIME, "software.amazon.awssdk.crt:aws-crt");
+    }
+
+    private static SdkHttpClient.Builder<?> apache(S3TransportProfile profile) {
+        return ApacheHttpClient.builder()
+                .maxConnections(profile.getMaxConnections())
+                .connectionTimeout(profile.getConnectionTimeout())
+                .connectionAcquisitionTimeout(profile.getConnectionAcquisitionTimeout())
+                .socketTimeout(profile.getSocketTimeout())
+                .connectionMaxIdleTime(profile.getConnectionMaxIdleTime())
+                .useIdleConnectionReaper(profile.isReapIdleConnections())
+                .tcpKeepAlive(profile.isTcpKeepAlive());
+    }
+
+    private static void requireClass(String className, String artifact) {
+        try {
+            Class.forName(className, false, HttpClientBuilders.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("HTTP client requires '" + artifact + "' on the classpath", e);
+        }
+    }
+
+    /**
+     * 선택 의존성인 URL-connection 클라이언트를 참조하는 코드를 분리하여, 선택했을 때만 클래스가 로드되도록 합니다.
+     */
+    private static final class UrlConnection {
+
+        private static SdkHttpClient.Builder<?> builder(S3TransportProfile profile) {
+            // URL-connection은 연결 풀 설정이 없으므로 타임아웃만 적용합니다.
+            return UrlConnectionHttpClient.builder()
+                    .connectionTimeout(profile.getConnectionTimeout())
+                    .socketTimeout(profile.getSocketTimeout());
+        }
+    }
+
+    /**
+     * CRT 동기 HTTP 클라이언트는 빌드 시점에 의존하지 않도록 리플렉션으로 구성합니다.
+     */
+    private static final class Crt {
+
+        /**
+         * CRT는 keep-alive 주기를 OS 기본값(보통 2시간)에 맡기지 않고 직접 지정해야 하므로, 켜져 있으면 이 값을 사용합니다.
+         */
+        private static final Duration TCP_KEEP_ALIVE_INTERVAL = Duration.ofSeconds(60);
+        private static final Duration TCP_KEEP_ALIVE_TIMEOUT = Duration.ofSeconds(10);
+
+        private static SdkHttpClient.Builder<?> syncBuilder(S3TransportProfile profile) {
+            try {
+                Class<?> clientClass = Class.forName(CRT_HTTP_CLIENT);
+                Class<?> builderClass = Class.forName(CRT_HTTP_CLIENT + "$Builder");
+                Object builder = clientClass.getMethod("builder").invoke(null);
+
+                invoke(builderClass, builder, "maxConcurrency", Integer.class, profile.getMaxConnections());
+                invoke(builderClass, builder, "connectionTimeout", Duration.class, profile.getConnectionTimeout());
+                invoke(builderClass, builder, "connectionMaxIdleTime", Duration.class, profile.getConnectionMaxIdleTime());
+                invoke(builderClass, builder, "connectionAcquisitionTimeout", Duration.class,
+                        profile.getConnectionAcquisitionTimeout());
+                if (profile.isTcpKeepAlive()) {
+                    Class<?> keepAliveClass = Class.forName(CRT_TCP_KEEP_ALIVE);
+                    invoke(builderClass, builder, "tcpKeepAliveConfiguration", keepAliveClass, tcpKeepAlive(keepAliveClass));
+                }
+
+                return (SdkHttpClient.Builder<?>) builder;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to configure CRT HTTP client", e);
+            }
+        }
+
+        private static Object tcpKeepAlive(Class<?> keepAliveClass) throws ReflectiveOperationException {
+            Class<?> builderClass = Class.forName(CRT_TCP_KEEP_ALIVE + "$Builder");
+            Object builder = keepAliveClass.getMethod("builder").invoke(null);
+
+            invoke(builderClass, builder, "keepAliveInterval", Duration.class, TCP_KEEP_ALIVE_INTERVAL);
+            invoke(builderClass, builder, "keepAliveTimeout", Duration.class, TCP_KEEP_ALIVE_TIMEOUT);
+
+            return builderClass.getMethod("build").invoke(builder);
+        }
+
+        private static void invoke(Class<?> builderClass, Object builder, String name, Class<?> type, Object value)
+                throws ReflectiveOperationException {
+            Method method = builderClass.getMethod(name, type);
+            try {
+                method.invoke(builder, value);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.websoso.s3.config.S3DetectionProperties;
 import org.websoso.s3.core.strategy.FastMimeTypeDetectionStrategy;
 import org.websoso.s3.core.strategy.MimeTypeDetectionStrategy;
 import org.websoso.s3.core.strategy.PreciseMimeTypeDetectionStrategy;
+import org.websoso.s3.core.strategy.SignatureMimeTypeDetectionStrategy;
 
 /**
  * MIME 타입 감지 전략을 설정에 따라 생성하는 팩토리 클래스입니다.
@@ -22,8 +23,10 @@ public final class MimeTypeDetectionStrategyFactory {
      */
     public static MimeTypeDetectionStrategy from(S3DetectionProperties properties) {
         return switch (properties.getMimeDetection()) {
-            case PRECISE -> new PreciseMimeTypeDetectionStrategy();
+            case PRECISE -> new PreciseMimeTypeDetectionStrategy(
+                    properties.getPreciseByteBudget(), properties.getPreciseTimeBudget());
             case FAST -> new FastMimeTypeDetectionStrategy();
+            case SIGNATURE -> new SignatureMimeTypeDetectionStrategy();
             default -> throw new IllegalArgumentException("Unsupported mime detection mode");
         };
     }
@@ -1,28 +1,70 @@
 package org.websoso.s3.factory;
 
 import org.websoso.s3.config.S3AccessConfig;
+import org.websoso.s3.config.S3TransportProfile;
+import org.websoso.s3.config.S3TransportProfile.HttpClientType;
+import org.websoso.s3.modle.S3ClientFactoryStats;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
+import software.amazon.awssdk.services.s3.crt.S3CrtRetryConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
- * {@link S3Client} 인스턴스를 생성하고 캐싱하여 재사용하는 팩토리 클래스입니다.
+ * {@link S3Client}, {@link S3AsyncClient}, {@link S3Presigner} 인스턴스를 생성하고 캐싱하여 재사용하는 팩토리 클래스입니다.
  * <p>
- * 동일한 설정({@link S3AccessConfig})에 대해서는 하나의 {@code S3Client}만 생성되며,
- * 내부적으로 {@link ConcurrentHashMap}을 사용하여 멀티스레드 환경에서도 안전하게 동작합니다.
+ * 리전, 자격 증명, 전송 프로필({@link S3AccessConfig#getTransportProfile()})의 값이 같은 설정에 대해서는
+ * 하나의 {@code S3Client}, {@code S3AsyncClient}, {@code S3Presigner}만 생성되며, 멀티스레드 환경에서도 안전하게 동작합니다.
+ * 고정 자격 증명({@link StaticCredentialsProvider})은 키 값으로 비교하므로, 같은 키로 {@code build()}를 여러 번 호출해도 클라이언트를 공유합니다.
+ * </p>
+ * <p>
+ * {@code get*} 호출마다 클라이언트의 참조 수가 늘어나며, 사용을 마치면 {@link #release(S3Client)} 등으로 반납합니다.
+ * 모든 참조가 반납된 클라이언트는 {@link #setIdleTimeout(Duration) 유휴 시간}이 지나면 닫히고 캐시에서 제거됩니다.
+ * 반납하지 않은 클라이언트는 애플리케이션이 끝날 때까지 유지됩니다.
+ * 반납 이후에는 클라이언트를 사용하지 않아야 합니다.
  * </p>
  */
 public class S3ClientFactory {
 
-    private static final Map<String, S3Client> clientCache = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService closeScheduler = SharedClientCache.newCloseScheduler();
+
+    private static final SharedClientCache<ClientKey, S3Client> clientCache =
+            new SharedClientCache<>("S3Client", closeScheduler);
+    private static final SharedClientCache<ClientKey, S3AsyncClient> asyncClientCache =
+            new SharedClientCache<>("S3AsyncClient", closeScheduler);
+    private static final SharedClientCache<ClientKey, S3Presigner> presignerCache =
+            new SharedClientCache<>("S3Presigner", closeScheduler);
+
+    private static volatile Duration idleTimeout = Duration.ofMinutes(1);
+
+    /**
+     * 캐시 키. 클라이언트를 구분하는 설정 값만 담습니다.
+     *
+     * @param credentials 고정 자격 증명이면 자격 증명 값, 그 외에는 자격 증명 공급자 인스턴스
+     */
+    private record ClientKey(Region region, Object credentials, S3TransportProfile transportProfile) {
+
+        @Override
+        public String toString() {
+            // 자격 증명은 로그에 남기지 않습니다.
+            return region.id() + ", " + transportProfile.getHttpClientType();
+        }
+    }
 
     private S3ClientFactory() {
 
     }
 
     /**
-     * 주어진 {@link S3AccessConfig}에 해당하는 {@link S3Client} 인스턴스를 반환합니다.
+     * 주어진 {@link S3AccessConfig}에 해당하는 {@link S3Client} 인스턴스를 반환하고 참조 수를 1 늘립니다.
      * <p>
      * 캐시에 존재하지 않으면 새로 생성하여 캐시에 저장하고 반환합니다.
      * </p>
@@ -31,16 +73,174 @@ public class S3ClientFactory {
      * @return {@link S3Client} 인스턴스
      */
     public static S3Client getS3Client(S3AccessConfig s3AccessConfig) {
-        String cacheKey = generateCacheKey(s3AccessConfig);
-        return clientCache.computeIfAbsent(cacheKey, k -> createS3Client(s3AccessConfig));
+        return clientCache.acquire(cacheKey(s3AccessConfig), () -> createS3Client(s3AccessConfig));
+    }
+
+    /**
+     * 주어진 {@link S3AccessConfig}에 해당하는 {@link S3AsyncClient} 인스턴스를 반환하고 참조 수를 1 늘립니다.
+     * <p>
+     * 캐시에 존재하지 않으면 새로 생성하여 캐시에 저장하고 반환합니다.
+     * </p>
+     *
+     * @param s3AccessConfig S3 클라이언트 생성을 위한 구성 정보
+     * @return {@link S3AsyncClient} 인스턴스
+     */
+    public static S3AsyncClient getS3AsyncClient(S3AccessConfig s3AccessConfig) {
+        return asyncClientCache.acquire(cacheKey(s3AccessConfig), () -> createS3AsyncClient(s3AccessConfig));
+    }
+
+    /**
+     * 주어진 {@link S3AccessConfig}에 해당하는 {@link S3Presigner} 인스턴스를 반환하고 참조 수를 1 늘립니다.
+     * <p>
+     * 캐시에 존재하지 않으면 새로 생성하여 캐시에 저장하고 반환합니다.
+     * </p>
+     *
+     * @param s3AccessConfig S3 클라이언트 생성을 위한 구성 정보
+     * @return {@link S3Presigner} 인스턴스
+     */
+    public static S3Presigner getS3Presigner(S3AccessConfig s3AccessConfig) {
+        return presignerCache.acquire(cacheKey(s3AccessConfig), () -> createS3Presigner(s3AccessConfig));
+    }
+
+    /**
+     * {@link #getS3Client(S3AccessConfig)}로 얻은 클라이언트를 반납합니다.
+     * <p>
+     * 마지막 참조가 반납되면 유휴 시간이 지난 뒤 클라이언트와 연결 풀을 닫습니다.
+     * </p>
+     *
+     * @param s3Client 반납할 클라이언트
+     * @throws IllegalArgumentException 팩토리가 관리하지 않거나 이미 닫힌 클라이언트인 경우
+     * @throws IllegalStateException    얻은 횟수보다 많이 반납한 경우
+     */
+    public static void release(S3Client s3Client) {
+        clientCache.release(s3Client, idleTimeout);
     }
 
-    private static String generateCacheKey(S3AccessConfig s3AccessConfig) {
-        return s3AccessConfig.getRegion().id() + "-" + s3AccessConfig.getCredentialsProvider().hashCode();
+    /**
+     * {@link #getS3AsyncClient(S3AccessConfig)}로 얻은 클라이언트를 반납합니다.
+     *
+     * @param s3AsyncClient 반납할 클라이언트
+     * @throws IllegalArgumentException 팩토리가 관리하지 않거나 이미 닫힌 클라이언트인 경우
+     * @throws IllegalStateException    얻은 횟수보다 많이 반납한 경우
+     * @see #release(S3Client)
+     */
+    public static void release(S3AsyncClient s3AsyncClient) {
+        asyncClientCache.release(s3AsyncClient, idleTimeout);
+    }
+
+    /**
+     * {@link #getS3Presigner(S3AccessConfig)}로 얻은 presigner를 반납합니다.
+     *
+     * @param s3Presigner 반납할 presigner
+     * @throws IllegalArgumentException 팩토리가 관리하지 않거나 이미 닫힌 presigner인 경우
+     * @throws IllegalStateException    얻은 횟수보다 많이 반납한 경우
+     * @see #release(S3Client)
+     */
+    public static void release(S3Presigner s3Presigner) {
+        presignerCache.release(s3Presigner, idleTimeout);
+    }
+
+    /**
+     * 모든 참조가 반납된 클라이언트를 닫기 전까지 유지하는 시간을 설정합니다.
+     * <p>
+     * 기본값은 1분이며, 0이면 마지막 참조가 반납되는 즉시 닫습니다. 이후에 반납되는 클라이언트부터 적용됩니다.
+     * </p>
+     *
+     * @param idleTimeout 유휴 시간
+     * @throws IllegalArgumentException 값이 null이거나 음수인 경우
+     */
+    public static void setIdleTimeout(Duration idleTimeout) {
+        if (idleTimeout == null || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout must not be null or negative");
+        }
+        S3ClientFactory.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * 현재 열려 있는 클라이언트와 연결 풀 수를 반환합니다.
+     *
+     * @return 팩토리 통계
+     */
+    public static S3ClientFactoryStats getStats() {
+        int syncClients = clientCache.size();
+        int asyncClients = asyncClientCache.size();
+        int idleClients = clientCache.idleCount() + asyncClientCache.idleCount() + presignerCache.idleCount();
+        // presigner는 HTTP 연결을 만들지 않으므로, 연결 풀은 동기/비동기 클라이언트마다 하나씩입니다.
+        return new S3ClientFactoryStats(syncClients, asyncClients, presignerCache.size(), idleClients,
+                syncClients + asyncClients);
+    }
+
+    private static ClientKey cacheKey(S3AccessConfig s3AccessConfig) {
+        AwsCredentialsProvider provider = s3AccessConfig.getCredentialsProvider();
+        Object credentials = provider instanceof StaticCredentialsProvider
+                ? provider.resolveCredentials()
+                : provider;
+        return new ClientKey(s3AccessConfig.getRegion(), credentials, transportProfile(s3AccessConfig));
+    }
+
+    private static S3TransportProfile transportProfile(S3AccessConfig s3AccessConfig) {
+        S3TransportProfile profile = s3AccessConfig.getTransportProfile();
+        return profile != null ? profile : S3TransportProfile.defaults();
     }
 
     private static S3Client createS3Client(S3AccessConfig s3AccessConfig) {
+        S3TransportProfile profile = transportProfile(s3AccessConfig);
         return S3Client.builder()
+                .region(s3AccessConfig.getRegion())
+                .credentialsProvider(s3AccessConfig.getCredentialsProvider())
+                .httpClientBuilder(HttpClientBuilders.sync(profile))
+                .overrideConfiguration(overrideConfiguration(profile))
+                .build();
+    }
+
+    private static S3AsyncClient createS3AsyncClient(S3AccessConfig s3AccessConfig) {
+        S3TransportProfile profile = transportProfile(s3AccessConfig);
+        if (profile.getHttpClientType() == HttpClientType.CRT) {
+            return createCrtAsyncClient(s3AccessConfig, profile);
+        }
+
+        return S3AsyncClient.builder()
+                .region(s3AccessConfig.getRegion())
+                .credentialsProvider(s3AccessConfig.getCredentialsProvider())
+                .httpClientBuilder(HttpClientBuilders.netty(profile))
+                .overrideConfiguration(overrideConfiguration(profile))
+                .build();
+    }
+
+    private static S3AsyncClient createCrtAsyncClient(S3AccessConfig s3AccessConfig, S3TransportProfile profile) {
+        HttpClientBuilders.requireCrtRuntime();
+
+        // CRT S3 클라이언트는 연결 풀을 스스로 관리하므로 최대 동시 요청 수, 연결 타임아웃, 재시도 횟수만 적용합니다.
+        // 무시되는 항목은 HttpClientType.CRT에 정리되어 있습니다.
+        S3CrtAsyncClientBuilder builder = S3AsyncClient.crtBuilder()
+                .region(s3AccessConfig.getRegion())
+                .credentialsProvider(s3AccessConfig.getCredentialsProvider())
+                .maxConcurrency(profile.getMaxConnections())
+                .httpConfiguration(http -> http.connectionTimeout(profile.getConnectionTimeout()));
+        if (profile.getMaxAttempts() != null) {
+            // CRT 클라이언트는 재시도 전략 대신 첫 요청을 뺀 재시도 횟수를 받습니다.
+            builder.retryConfiguration(S3CrtRetryConfiguration.builder()
+                    .numRetries(profile.getMaxAttempts() - 1)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 프로필에 최대 시도 횟수가 지정되어 있으면 그 횟수로 SDK 표준 재시도 전략을 설정합니다.
+     */
+    private static ClientOverrideConfiguration overrideConfiguration(S3TransportProfile profile) {
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
+        if (profile.getMaxAttempts() != null) {
+            builder.retryStrategy(AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                    .maxAttempts(profile.getMaxAttempts())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static S3Presigner createS3Presigner(S3AccessConfig s3AccessConfig) {
+        return S3Presigner.builder()
                 .region(s3AccessConfig.getRegion())
                 .credentialsProvider(s3AccessConfig.getCredentialsProvider())
                 .build();
@@ -0,0 +1,139 @@
+package org.websoso.s3.factory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 설정 키별로 하나의 클라이언트를 공유하고, 참조 수를 세어 수명을 관리하는 캐시입니다.
+ * <p>
+ * {@link #acquire}마다 참조 수가 늘고 {@link #release}마다 줄어듭니다. 참조 수가 0이 된 클라이언트는 유휴 상태가 되며,
+ * 유휴 시간 안에 다시 획득되지 않으면 닫히고 캐시에서 제거됩니다.
+ * </p>
+ */
+final class SharedClientCache<K, T extends SdkAutoCloseable> {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedClientCache.class);
+
+    private final String name;
+    private final ScheduledExecutorService closeScheduler;
+    private final Map<K, Entry<K, T>> entries = new HashMap<>();
+    private final Map<T, Entry<K, T>> byClient = new IdentityHashMap<>();
+
+    SharedClientCache(String name, ScheduledExecutorService closeScheduler) {
+        this.name = name;
+        this.closeScheduler = closeScheduler;
+    }
+
+    /**
+     * 키에 해당하는 클라이언트를 반환하고 참조 수를 1 늘립니다. 없으면 새로 생성합니다.
+     */
+    synchronized T acquire(K key, Supplier<T> factory) {
+        Entry<K, T> entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry<>(key, factory.get());
+            entries.put(key, entry);
+            byClient.put(entry.client, entry);
+            log.debug("Created shared {}: {}", name, key);
+        }
+
+        entry.cancelPendingClose();
+        entry.refCount++;
+        return entry.client;
+    }
+
+    /**
+     * 클라이언트의 참조 수를 1 줄입니다. 0이 되면 유휴 시간이 지난 뒤 닫히며, 유휴 시간이 0이면 바로 닫힙니다.
+     *
+     * @throws IllegalArgumentException 이 캐시가 관리하지 않거나 이미 닫힌 클라이언트인 경우
+     * @throws IllegalStateException    참조 수가 이미 0인 경우
+     */
+    synchronized void release(T client, Duration idleTimeout) {
+        Entry<K, T> entry = byClient.get(client);
+        if (entry == null) {
+            throw new IllegalArgumentException("Not a live " + name + " managed by S3ClientFactory");
+        }
+        if (entry.refCount == 0) {
+            throw new IllegalStateException(name + " has already been released by all holders");
+        }
+
+        entry.refCount--;
+        if (entry.refCount > 0) {
+            return;
+        }
+
+        if (idleTimeout.isZero()) {
+            evict(entry);
+            return;
+        }
+        entry.pendingClose = closeScheduler.schedule(() -> closeIfIdle(entry), idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized int idleCount() {
+        return (int) entries.values().stream().filter(entry -> entry.refCount == 0).count();
+    }
+
+    private synchronized void closeIfIdle(Entry<K, T> entry) {
+        if (entry.refCount == 0 && entries.get(entry.key) == entry) {
+            evict(entry);
+        }
+    }
+
+    private void evict(Entry<K, T> entry) {
+        entries.remove(entry.key);
+        byClient.remove(entry.client);
+        try {
+            entry.client.close();
+            log.debug("Closed idle shared {}: {}", name, entry.key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to close shared {}: {}", name, entry.key, e);
+        }
+    }
+
+    /**
+     * 유휴 클라이언트를 닫는 작업에 사용하는 단일 데몬 스레드 스케줄러를 생성합니다.
+     */
+    static ScheduledExecutorService newCloseScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "s3-client-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static final class Entry<K, T> {
+
+        private final K key;
+        private final T client;
+        private int refCount;
+        private ScheduledFuture<?> pendingClose;
+
+        private Entry(K key, T client) {
+            this.key = key;
+            this.client = client;
+        }
+
+        private void cancelPendingClose() {
+            if (pendingClose != null) {
+                pendingClose.cancel(false);
+                pendingClose = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.websoso.s3.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지표를 메모리에 집계하는 {@link S3Metrics} 구현체입니다.
+ * <p>
+ * 작업 종류와 {@link S3MetricTags}의 조합마다 소요 시간 히스토그램, 전송 바이트 수, 예외 타입별 실패 수, 진행 중인 작업 수를 보관하며,
+ * {@link #snapshot(S3Operation, S3MetricTags)}로 현재 값을 조회합니다. 테스트나 별도 지표 시스템이 없는 환경에서 사용합니다.
+ * </p>
+ */
+public class InMemoryS3Metrics implements S3Metrics {
+
+    private record MetricKey(S3Operation operation, S3MetricTags tags) {
+    }
+
+    private final Map<MetricKey, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordLatency(S3Operation operation, S3MetricTags tags, long nanos) {
+        metricsOf(operation, tags).latency.record(nanos);
+    }
+
+    @Override
+    public void recordBytes(S3Operation operation, S3MetricTags tags, long bytes) {
+        metricsOf(operation, tags).bytes.add(bytes);
+    }
+
+    @Override
+    public void recordError(S3Operation operation, S3MetricTags tags, Throwable error) {
+        metricsOf(operation, tags).errors
+                .computeIfAbsent(error.getClass().getName(), type -> new LongAdder())
+                .increment();
+    }
+
+    @Override
+    public void recordInFlight(S3Operation operation, S3MetricTags tags, int delta) {
+        metricsOf(operation, tags).inFlight.addAndGet(delta);
+    }
+
+    /**
+     * 작업 종류와 집계 기준에 해당하는 지표를 반환합니다. 기록된 적이 없으면 모든 값이 0입니다.
+     *
+     * @param operation 작업 종류
+     * @param tags      집계 기준
+     * @return 현재까지 집계된 지표
+     */
+    public S3OperationStats snapshot(S3Operation operation, S3MetricTags tags) {
+        OperationMetrics operationMetrics = metrics.get(new MetricKey(operation, tags));
+        if (operationMetrics == null) {
+            return new S3OperationStats(0, 0, Map.of(), 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return operationMetrics.snapshot();
+    }
+
+    /**
+     * 지금까지 기록된 모든 작업 종류와 집계 기준의 지표를 반환합니다.
+     *
+     * @return 작업 종류별, 집계 기준별 지표
+     */
+    public Map<S3Operation, Map<S3MetricTags, S3OperationStats>> snapshotAll() {
+        Map<S3Operation, Map<S3MetricTags, S3OperationStats>> snapshots = new TreeMap<>();
+        metrics.forEach((key, operationMetrics) -> snapshots
+                .computeIfAbsent(key.operation(), operation -> new HashMap<>())
+                .put(key.tags(), operationMetrics.snapshot()));
+        return snapshots;
+    }
+
+    private OperationMetrics metricsOf(S3Operation operation, S3MetricTags tags) {
+        return metrics.computeIfAbsent(new MetricKey(operation, tags), key -> new OperationMetrics());
+    }
+
+    private static final class OperationMetrics {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder bytes = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private S3OperationStats snapshot() {
+            Map<String, Long> errorsByType = new TreeMap<>();
+            errors.forEach((type, count) -> errorsByType.put(type, count.sum()));
+            long errorCount = errorsByType.values().stream().mapToLong(Long::longValue).sum();
+
+            long totalNanos = latency.totalNanos();
+            long totalBytes = bytes.sum();
+            double bytesPerSecond = totalNanos == 0 ? 0 : totalBytes * 1_000_000_000.0 / totalNanos;
+
+            return new S3OperationStats(
+                    latency.count(),
+                    errorCount,
+                    Map.copyOf(errorsByType),
+                    latency.percentile(50),
+                    latency.percentile(95),
+                    latency.percentile(99),
+                    latency.maxNanos(),
+                    totalNanos,
+                    totalBytes,
+                    bytesPerSecond,
+                    inFlight.get()
+            );
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.websoso.s3.metrics;
+
+/**
+ * 아무것도 기록하지 않는 {@link S3Metrics} 구현체입니다.
+ */
+final class NoopS3Metrics implements S3Metrics {
+
+    static final NoopS3Metrics INSTANCE = new NoopS3Metrics();
+
+    private NoopS3Metrics() {
+
+    }
+
+    @Override
+    public void recordLatency(S3Operation operation, S3MetricTags tags, long nanos) {
+    }
+
+    @Override
+    public void recordBytes(S3Operation operation, S3MetricTags tags, long bytes) {
+    }
+
+    @Override
+    public void recordError(S3Operation operation, S3MetricTags tags, Throwable error) {
+    }
+
+    @Override
+    public void recordInFlight(S3Operation operation, S3MetricTags tags, int delta) {
+    }
+}
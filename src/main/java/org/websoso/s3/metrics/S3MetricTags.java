@@ -0,0 +1,21 @@
+package org.websoso.s3.metrics;
+
+/**
+ * 지표를 나누어 집계하는 기준입니다.
+ *
+ * @param serviceType   지표를 기록한 서비스 종류 (예: {@code image}, {@code async-file})
+ * @param detectionMode MIME 타입 감지 방식 (예: {@code PRECISE}), 감지를 하지 않는 서비스는 {@link #NO_DETECTION}
+ */
+public record S3MetricTags(String serviceType, String detectionMode) {
+
+    public static final String NO_DETECTION = "NONE";
+
+    public S3MetricTags {
+        if (serviceType == null || serviceType.isBlank()) {
+            throw new IllegalArgumentException("Service type must not be null or empty");
+        }
+        if (detectionMode == null || detectionMode.isBlank()) {
+            throw new IllegalArgumentException("Detection mode must not be null or empty");
+        }
+    }
+}
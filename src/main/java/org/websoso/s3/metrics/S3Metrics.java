@@ -0,0 +1,59 @@
+package org.websoso.s3.metrics;
+
+/**
+ * 업로드, 삭제, MIME 타입 감지 등의 지표를 받는 SPI입니다.
+ * <p>
+ * 서비스는 작업마다 {@link S3Operation}과 {@link S3MetricTags}를 함께 전달하며, 구현체는 이를 Micrometer 등 원하는 지표 시스템으로 옮기면 됩니다.
+ * 지표를 지정하지 않으면 {@link #noop()}을 사용하며, 이 경우 시간 측정 자체를 하지 않습니다.
+ * 모든 메서드는 여러 스레드에서 동시에 호출되므로 구현체는 스레드 안전해야 하며, 호출한 작업을 지연시키지 않도록 가벼워야 합니다.
+ * </p>
+ *
+ * @see InMemoryS3Metrics
+ */
+public interface S3Metrics {
+
+    /**
+     * 작업 하나의 소요 시간을 기록합니다. 작업이 실패한 경우에도 호출됩니다.
+     *
+     * @param operation 작업 종류
+     * @param tags      집계 기준
+     * @param nanos     소요 시간 (나노초)
+     */
+    void recordLatency(S3Operation operation, S3MetricTags tags, long nanos);
+
+    /**
+     * 작업이 전송한 바이트 수를 기록합니다. 성공한 {@link S3Operation#PUT}에 대해 호출됩니다.
+     *
+     * @param operation 작업 종류
+     * @param tags      집계 기준
+     * @param bytes     전송한 바이트 수
+     */
+    void recordBytes(S3Operation operation, S3MetricTags tags, long bytes);
+
+    /**
+     * 작업 실패를 기록합니다.
+     *
+     * @param operation 작업 종류
+     * @param tags      집계 기준
+     * @param error     작업을 실패시킨 예외
+     */
+    void recordError(S3Operation operation, S3MetricTags tags, Throwable error);
+
+    /**
+     * 진행 중인 작업 수의 변화를 알립니다. 작업 시작 시 {@code +1}, 종료 시 {@code -1}이 전달됩니다.
+     *
+     * @param operation 작업 종류
+     * @param tags      집계 기준
+     * @param delta     진행 중인 작업 수의 변화량
+     */
+    void recordInFlight(S3Operation operation, S3MetricTags tags, int delta);
+
+    /**
+     * 아무것도 기록하지 않는 구현체를 반환합니다.
+     *
+     * @return no-op 구현체
+     */
+    static S3Metrics noop() {
+        return NoopS3Metrics.INSTANCE;
+    }
+}
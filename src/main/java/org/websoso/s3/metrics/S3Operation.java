@@ -0,0 +1,27 @@
+package org.websoso.s3.metrics;
+
+/**
+ * 지표를 기록하는 작업 종류입니다.
+ */
+public enum S3Operation {
+    /**
+     * 업로드 요청 검증 (키, 컨텐츠 타입, 길이, 이미지 형식 검증 전체)
+     */
+    VALIDATION,
+    /**
+     * MIME 타입 감지. 검증 시간에 포함됩니다.
+     */
+    DETECTION,
+    /**
+     * 객체 업로드 (단일 PUT 또는 멀티파트 업로드 전체)
+     */
+    PUT,
+    /**
+     * 객체 삭제 (단건 삭제 또는 DeleteObjects 요청 하나)
+     */
+    DELETE,
+    /**
+     * 객체 URL 또는 presigned URL 생성
+     */
+    URL_GENERATION
+}
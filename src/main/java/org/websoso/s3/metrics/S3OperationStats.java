@@ -0,0 +1,33 @@
+package org.websoso.s3.metrics;
+
+import java.util.Map;
+
+/**
+ * {@link InMemoryS3Metrics}가 집계한 작업 하나의 지표입니다.
+ *
+ * @param count          기록된 작업 수
+ * @param errorCount     실패한 작업 수
+ * @param errorsByType   예외 클래스 이름별 실패 수
+ * @param p50Nanos       소요 시간 50 백분위 (나노초, 상대 오차 12.5% 이내)
+ * @param p95Nanos       소요 시간 95 백분위
+ * @param p99Nanos       소요 시간 99 백분위
+ * @param maxNanos       최대 소요 시간
+ * @param totalNanos     소요 시간 합계
+ * @param totalBytes     전송한 바이트 수 합계
+ * @param bytesPerSecond 작업 시간 기준 처리량 ({@code totalBytes / totalNanos}를 초 단위로 환산)
+ * @param inFlight       현재 진행 중인 작업 수
+ */
+public record S3OperationStats(
+        long count,
+        long errorCount,
+        Map<String, Long> errorsByType,
+        long p50Nanos,
+        long p95Nanos,
+        long p99Nanos,
+        long maxNanos,
+        long totalNanos,
+        long totalBytes,
+        double bytesPerSecond,
+        int inFlight
+) {
+}
@@ -0,0 +1,12 @@
+package org.websoso.s3.modle;
+
+public record S3BufferPoolStats(
+        long capacityBytes,
+        long allocatedBytes,
+        long inUseBytes,
+        long acquireCount,
+        long allocationCount,
+        long waitCount,
+        long exhaustedCount
+) {
+}
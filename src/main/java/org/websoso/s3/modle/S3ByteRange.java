@@ -0,0 +1,30 @@
+package org.websoso.s3.modle;
+
+/**
+ * 객체에서 읽을 바이트 범위입니다. {@code end}는 포함하며, -1이면 객체 끝까지 읽습니다.
+ */
+public record S3ByteRange(
+        long start,
+        long end
+) {
+    public S3ByteRange {
+        if (start < 0) {
+            throw new IllegalArgumentException("Range start must not be negative");
+        }
+        if (end != -1 && end < start) {
+            throw new IllegalArgumentException("Range end must not be less than start");
+        }
+    }
+
+    public static S3ByteRange of(long start, long end) {
+        return new S3ByteRange(start, end);
+    }
+
+    public static S3ByteRange from(long start) {
+        return new S3ByteRange(start, -1);
+    }
+
+    public String toHeaderValue() {
+        return end == -1 ? "bytes=" + start + "-" : "bytes=" + start + "-" + end;
+    }
+}
@@ -0,0 +1,10 @@
+package org.websoso.s3.modle;
+
+public record S3ClientFactoryStats(
+        int syncClients,
+        int asyncClients,
+        int presigners,
+        int idleClients,
+        int connectionPools
+) {
+}
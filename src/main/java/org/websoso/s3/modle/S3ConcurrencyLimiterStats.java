@@ -0,0 +1,12 @@
+package org.websoso.s3.modle;
+
+public record S3ConcurrencyLimiterStats(
+        int limit,
+        int inFlight,
+        int queueDepth,
+        long acquireCount,
+        long queuedCount,
+        long rejectedCount,
+        long decreaseCount
+) {
+}
@@ -0,0 +1,15 @@
+package org.websoso.s3.modle;
+
+public record S3DeleteResult(
+        String key,
+        boolean isSuccess,
+        String message
+) {
+    public static S3DeleteResult success(String key) {
+        return new S3DeleteResult(key, true, "");
+    }
+
+    public static S3DeleteResult fail(String key, String message) {
+        return new S3DeleteResult(key, false, "S3 delete fail, key: " + key + ", message: " + message);
+    }
+}
@@ -0,0 +1,10 @@
+package org.websoso.s3.modle;
+
+/**
+ * 객체 앞부분을 읽은 결과입니다. {@code bytes}는 요청한 길이보다 짧을 수 있으며, 이 경우 객체 전체를 읽은 것입니다.
+ */
+public record S3ObjectHeader(
+        S3ObjectMetadata metadata,
+        byte[] bytes
+) {
+}
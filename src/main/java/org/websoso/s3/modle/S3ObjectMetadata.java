@@ -0,0 +1,41 @@
+package org.websoso.s3.modle;
+
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Instant;
+
+/**
+ * 객체의 메타데이터입니다. 범위를 지정해 읽은 경우 {@code contentLength}는 받은 범위의 길이이며,
+ * {@code contentRange}에 전체 크기가 포함됩니다.
+ */
+public record S3ObjectMetadata(
+        String key,
+        long contentLength,
+        String contentType,
+        String eTag,
+        Instant lastModified,
+        String contentRange
+) {
+    public static S3ObjectMetadata from(String key, GetObjectResponse response) {
+        return new S3ObjectMetadata(
+                key,
+                response.contentLength() != null ? response.contentLength() : -1,
+                response.contentType(),
+                response.eTag(),
+                response.lastModified(),
+                response.contentRange()
+        );
+    }
+
+    public static S3ObjectMetadata from(String key, HeadObjectResponse response) {
+        return new S3ObjectMetadata(
+                key,
+                response.contentLength() != null ? response.contentLength() : -1,
+                response.contentType(),
+                response.eTag(),
+                response.lastModified(),
+                null
+        );
+    }
+}
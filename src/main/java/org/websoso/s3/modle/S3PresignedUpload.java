@@ -0,0 +1,17 @@
+package org.websoso.s3.modle;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클라이언트가 S3에 직접 업로드할 수 있도록 발급한 presigned PUT 요청 정보입니다.
+ * 클라이언트는 {@code url}로 PUT 요청을 보낼 때 {@code signedHeaders}를 그대로 포함해야 합니다.
+ */
+public record S3PresignedUpload(
+        String key,
+        String url,
+        Map<String, List<String>> signedHeaders,
+        Instant expiration
+) {
+}
@@ -0,0 +1,11 @@
+package org.websoso.s3.modle;
+
+import java.io.InputStream;
+
+public record S3StreamUploadRequest(
+        String key,
+        InputStream inputStream,
+        String contentType,
+        long contentLength
+) {
+}
@@ -1,5 +1,6 @@
 package org.websoso.s3.modle;
 
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
 public record S3UploadResponse(
@@ -8,6 +9,13 @@ public record S3UploadResponse(
         int statusCode,
         String statusText
 ) {
+    /**
+     * HTTP 응답 없이 저장에 성공한 경우의 응답입니다. (예: 로컬 파일 시스템 저장소)
+     */
+    public static S3UploadResponse success(String eTag) {
+        return new S3UploadResponse(true, eTag, 200, "OK");
+    }
+
     public static S3UploadResponse from(PutObjectResponse response) {
         return new S3UploadResponse(
                 response.sdkHttpResponse().isSuccessful(),
@@ -16,4 +24,13 @@ public record S3UploadResponse(
                 response.sdkHttpResponse().statusText().orElse("")
         );
     }
+
+    public static S3UploadResponse from(CompleteMultipartUploadResponse response) {
+        return new S3UploadResponse(
+                response.sdkHttpResponse().isSuccessful(),
+                response.eTag(),
+                response.sdkHttpResponse().statusCode(),
+                response.sdkHttpResponse().statusText().orElse("")
+        );
+    }
 }
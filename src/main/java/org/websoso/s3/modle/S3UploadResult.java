@@ -4,13 +4,36 @@ public record S3UploadResult(
         boolean isSuccess,
         String eTag,
         String url,
-        String message
+        String message,
+        String key
 ) {
+    /**
+     * 키 없이 결과를 만드는 기존 생성자입니다. {@link #key()}는 빈 문자열입니다.
+     */
+    public S3UploadResult(boolean isSuccess, String eTag, String url, String message) {
+        this(isSuccess, eTag, url, message, "");
+    }
+
+    /**
+     * 키 없이 성공 결과를 만드는 기존 팩토리입니다. {@link #key()}는 빈 문자열이므로, 저장된 키가 필요하면
+     * {@link #success(S3UploadResponse, String, String)}를 사용합니다.
+     */
     public static S3UploadResult success(S3UploadResponse response, String url) {
-        return new S3UploadResult(true, response.eTag(), url, "");
+        return success(response, "", url);
+    }
+
+    /**
+     * @param key 객체가 실제로 저장된 키. 키 배치 방식에 따라 호출자가 지정한 키와 다를 수 있습니다.
+     */
+    public static S3UploadResult success(S3UploadResponse response, String key, String url) {
+        return new S3UploadResult(true, response.eTag(), url, "", key);
     }
 
     public static S3UploadResult fail(S3UploadResponse response) {
-        return new S3UploadResult(false, "", "", "S3 upload fail, status code: " + response.statusCode() + ", message: " + response.statusText());
+        return new S3UploadResult(false, "", "", "S3 upload fail, status code: " + response.statusCode() + ", message: " + response.statusText(), "");
+    }
+
+    public static S3UploadResult fail(String message) {
+        return new S3UploadResult(false, "", "", message, "");
     }
-}
\ No newline at end of file
+}
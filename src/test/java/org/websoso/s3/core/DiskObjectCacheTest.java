@@ -0,0 +1,216 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiskObjectCacheTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+    }
+
+    @DisplayName("재검증 주기가 지나면 If-None-Match로 확인하고, 304 응답이면 캐시된 내용을 제공한다")
+    @Test
+    void get_revalidatesWithETag() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(invocation -> objectStream("cover-image"))
+                .thenThrow(S3Exception.builder().statusCode(304).build());
+        DiskObjectCache cache = new DiskObjectCache(cacheDirectory, 1024, Duration.ZERO);
+
+        // when
+        DiskObjectCache.Lookup first = cache.get(s3Client, BUCKET, "covers/1.png");
+        DiskObjectCache.Lookup second = cache.get(s3Client, BUCKET, "covers/1.png");
+
+        // then
+        assertThat(text(first)).isEqualTo("cover-image");
+        assertThat(text(second)).isEqualTo("cover-image");
+
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObject(captor.capture());
+        assertThat(captor.getAllValues().get(0).ifNoneMatch()).isNull();
+        assertThat(captor.getAllValues().get(1).ifNoneMatch()).isEqualTo("etag");
+    }
+
+    @DisplayName("재검증 주기 안의 요청은 S3에 요청하지 않고 디스크에서 제공한다")
+    @Test
+    void get_freshEntry_servedFromDisk() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> objectStream("config"));
+        DiskObjectCache cache = new DiskObjectCache(cacheDirectory, 1024, Duration.ofMinutes(1));
+
+        // when
+        text(cache.get(s3Client, BUCKET, "configs/app.json"));
+        DiskObjectCache.Lookup cached = cache.get(s3Client, BUCKET, "configs/app.json");
+
+        // then
+        assertThat(text(cached)).isEqualTo("config");
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 객체부터 제거한다")
+    @Test
+    void get_evictsLeastRecentlyUsed() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> objectStream("0123456789"));
+        DiskObjectCache cache = new DiskObjectCache(cacheDirectory, 25, Duration.ofMinutes(1));
+
+        // when
+        text(cache.get(s3Client, BUCKET, "a"));
+        text(cache.get(s3Client, BUCKET, "b"));
+        text(cache.get(s3Client, BUCKET, "a"));
+        text(cache.get(s3Client, BUCKET, "c"));
+        text(cache.get(s3Client, BUCKET, "a"));
+        text(cache.get(s3Client, BUCKET, "b"));
+
+        // then: a, b, c를 받은 뒤 b가 제거되었으므로 b를 다시 받는다
+        verify(s3Client, times(4)).getObject(any(GetObjectRequest.class));
+        assertThat(cache.totalBytes()).isLessThanOrEqualTo(25);
+    }
+
+    @DisplayName("같은 키에 대한 동시 요청은 하나의 GET으로 합쳐진다")
+    @Test
+    void get_coalescesConcurrentMisses() throws Exception {
+        // given
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            requested.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return objectStream("popular");
+        });
+        DiskObjectCache cache = new DiskObjectCache(cacheDirectory, 1024, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<DiskObjectCache.Lookup>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> cache.get(s3Client, BUCKET, "popular.png")));
+        requested.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            futures.add(executor.submit(() -> cache.get(s3Client, BUCKET, "popular.png")));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<DiskObjectCache.Lookup> future : futures) {
+            assertThat(text(future.get(5, TimeUnit.SECONDS))).isEqualTo("popular");
+        }
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+        executor.shutdownNow();
+    }
+
+    @DisplayName("캐시할 수 없을 만큼 큰 객체는 받은 GET 응답을 그대로 넘겨, 다시 요청하지 않는다")
+    @Test
+    void get_oversizedObject_returnsResponse() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> objectStream("0123456789"));
+        DiskObjectCache cache = new DiskObjectCache(cacheDirectory, 5, Duration.ofMinutes(1));
+
+        // when
+        DiskObjectCache.Lookup lookup = cache.get(s3Client, BUCKET, "large.bin");
+
+        // then
+        assertThat(lookup.cached()).isNull();
+        try (ResponseInputStream<GetObjectResponse> response = lookup.response()) {
+            assertThat(new String(response.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("0123456789");
+        }
+        assertThat(cache.totalBytes()).isZero();
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    }
+
+    @DisplayName("같은 디렉터리를 지정하면 하나의 캐시를 공유하고, 새 캐시는 다른 캐시의 파일을 삭제하지 않는다")
+    @Test
+    void forDirectory_sharesCacheAndKeepsOtherFiles() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> objectStream("shared"));
+        DiskObjectCache cache = DiskObjectCache.forDirectory(cacheDirectory, 1024, Duration.ofMinutes(1));
+        text(cache.get(s3Client, BUCKET, "shared.png"));
+
+        // when
+        DiskObjectCache same = DiskObjectCache.forDirectory(cacheDirectory.resolve("sub/.."), 1024, Duration.ofMinutes(1));
+        new DiskObjectCache(cacheDirectory, 1024, Duration.ofMinutes(1));
+
+        // then
+        assertThat(same).isSameAs(cache);
+        assertThat(text(cache.get(s3Client, BUCKET, "shared.png"))).isEqualTo("shared");
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+        assertThatThrownBy(() -> DiskObjectCache.forDirectory(cacheDirectory, 2048, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("잠금이 풀린 하위 디렉터리는 종료된 프로세스의 캐시로 보고 삭제한다")
+    @Test
+    void create_deletesAbandonedDirectories() throws IOException {
+        // given
+        Path abandoned = Files.createDirectories(cacheDirectory.resolve("s3-cache-abandoned"));
+        Files.createFile(abandoned.resolve(".lock"));
+        Files.writeString(abandoned.resolve("object-1.bin"), "stale");
+
+        // when
+        DiskObjectCache cache = new DiskObjectCache(cacheDirectory, 1024, Duration.ofMinutes(1));
+
+        // then
+        assertThat(abandoned).doesNotExist();
+        assertThat(cache.directory()).exists().hasParent(cacheDirectory);
+    }
+
+    private static ResponseInputStream<GetObjectResponse> objectStream(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        GetObjectResponse response = GetObjectResponse.builder()
+                .eTag("etag")
+                .contentLength((long) bytes.length)
+                .build();
+        return new ResponseInputStream<>(response, AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+    }
+
+    private static String text(DiskObjectCache.Lookup lookup) throws IOException {
+        assertThat(lookup.cached()).isNotNull();
+        try (DiskObjectCache.CachedObject cached = lookup.cached()) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            cached.transferTo(Channels.newChannel(output));
+            return output.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.websoso.s3.core.strategy.SignatureMimeTypeDetectionStrategy;
+import org.websoso.s3.exception.InvalidImageException;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3UploadResponse;
+import org.websoso.s3.modle.S3UploadResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalObjectStore(root, "http://localhost:8080/static");
+    }
+
+    @DisplayName("File, 버퍼, 길이를 아는 스트림, 길이를 모르는 스트림으로 저장한 내용을 그대로 읽는다")
+    @Test
+    void put_thenRead() throws IOException {
+        // given
+        File file = new File("src/test/resources/test.png");
+        byte[] image = Files.readAllBytes(file.toPath());
+        byte[] text = "local-object".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        store.put("images/file.png", file, "image/png");
+        store.put("images/buffer.png", ByteBuffer.wrap(image), "image/png");
+        store.put("texts/sized.txt", new ByteArrayInputStream(text), "text/plain", text.length);
+        try (InputStream in = new FileInputStream(file)) {
+            store.put("images/stream.png", in, "image/png");
+        }
+
+        // then
+        assertThat(read("images/file.png", null)).isEqualTo(image);
+        assertThat(read("images/buffer.png", null)).isEqualTo(image);
+        assertThat(read("texts/sized.txt", null)).isEqualTo(text);
+        assertThat(read("images/stream.png", null)).isEqualTo(image);
+        assertThat(partFiles()).isEmpty();
+    }
+
+    @DisplayName("같은 키에 다시 저장하면 기존 파일을 교체하고, 범위를 지정하면 해당 부분만 읽는다")
+    @Test
+    void put_replacesExisting_andReadsRange() {
+        // given
+        store.put("texts/a.txt", ByteBuffer.wrap("first".getBytes(StandardCharsets.UTF_8)), "text/plain");
+
+        // when
+        S3UploadResponse response = store.put("texts/a.txt",
+                ByteBuffer.wrap("0123456789".getBytes(StandardCharsets.UTF_8)), "text/plain");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        S3ObjectMetadata metadata = store.read("texts/a.txt", Channels.newChannel(out), S3ByteRange.of(2, 5));
+
+        // then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("2345");
+        assertThat(metadata.contentLength()).isEqualTo(4);
+        assertThat(metadata.contentRange()).isEqualTo("bytes 2-5/10");
+        assertThat(metadata.eTag()).isEqualTo(response.eTag());
+        assertThat(store.getUrl("texts/a b.txt")).isEqualTo("http://localhost:8080/static/texts/a%20b.txt");
+    }
+
+    @DisplayName("스트림이 컨텐츠 길이보다 짧으면 실패하고, 기존 파일과 임시 파일을 남기지 않는다")
+    @Test
+    void put_shortStream_leavesNoPartialFile() throws IOException {
+        // given
+        byte[] content = "short".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> store.put("texts/short.txt", new ByteArrayInputStream(content), "text/plain", 100))
+                .isInstanceOf(S3UploaderException.class);
+        assertThat(root.resolve("texts/short.txt")).doesNotExist();
+        assertThat(partFiles()).isEmpty();
+    }
+
+    @DisplayName("루트 디렉터리 밖을 가리키는 키는 거부한다")
+    @Test
+    void put_keyOutsideRoot_throws() {
+        // when & then
+        assertThatThrownBy(() -> store.put("../escape.txt", ByteBuffer.allocate(1), "text/plain"))
+                .isInstanceOf(S3UploaderException.class);
+        assertThatThrownBy(() -> read("../../etc/passwd", null))
+                .isInstanceOf(S3ReaderException.class);
+        assertThat(store.delete("../escape.txt")).isFalse();
+    }
+
+    @DisplayName("이미지 서비스를 로컬 저장소 위에서 실행하면 검증 후 저장하고, 삭제할 수 있다")
+    @Test
+    void imageService_onLocalStore() throws IOException {
+        // given
+        S3ImageService imageService = new S3ImageService(store, new SignatureMimeTypeDetectionStrategy());
+        File file = new File("src/test/resources/test.png");
+
+        // when
+        S3UploadResult result = imageService.upload("images/test.png", file);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.url()).isEqualTo("http://localhost:8080/static/images/test.png");
+        assertThat(root.resolve("images/test.png")).hasSameBinaryContentAs(file.toPath());
+        assertThatThrownBy(() -> imageService.upload("images/fake.jpg", new File("src/test/resources/fake-image.jpg")))
+                .isInstanceOf(InvalidImageException.class);
+        assertThat(imageService.deleteAll(List.of("images/test.png"))).allMatch(deleted -> deleted.isSuccess());
+        assertThat(root.resolve("images/test.png")).doesNotExist();
+    }
+
+    private byte[] read(String key, S3ByteRange range) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.read(key, Channels.newChannel(out), range);
+        return out.toByteArray();
+    }
+
+    private List<Path> partFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".part")).toList();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.config.S3UploadProperties.KeyLayout;
+import org.websoso.s3.core.strategy.KeyLayoutStrategy;
+import org.websoso.s3.core.strategy.FastMimeTypeDetectionStrategy;
+import org.websoso.s3.exception.InvalidImageException;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.modle.S3UploadResult;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3AsyncImageServiceTest {
+
+    private S3AsyncClient s3AsyncClient;
+    private S3AsyncImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        when(s3AsyncClient.utilities()).thenReturn(S3Utilities.builder().region(Region.AP_NORTHEAST_2).build());
+
+        imageService = new S3AsyncImageService(s3AsyncClient, "test-bucket", new FastMimeTypeDetectionStrategy());
+    }
+
+    @DisplayName("지원하지 않는 확장자일 경우 즉시 예외를 던진다")
+    @Test
+    void uploadFile_invalidExtension_throwsException() {
+        // given
+        File file = new File("src/test/resources/test.txt");
+
+        // when & then
+        assertThatThrownBy(() -> imageService.upload("invalid/test.txt", file))
+                .isInstanceOf(InvalidImageException.class);
+    }
+
+    @DisplayName("확장자는 jpg이더라도, 실제 MimeType이 지원되지 않는 타입이면 예외를 던진다")
+    @Test
+    void upload_fakeJpgFile_shouldThrowMimeTypeException() {
+        // given
+        File fakeJpgFile = new File("src/test/resources/fake-image.jpg");
+
+        // when & then
+        assertThatThrownBy(() -> imageService.upload("images/fake.jpg", fakeJpgFile))
+                .isInstanceOf(InvalidImageException.class);
+    }
+
+    @DisplayName("업로드가 완료되면 URL을 담은 결과를 반환한다")
+    @Test
+    void upload_success_returnsUrl() {
+        // given
+        File file = new File("src/test/resources/test.png");
+        PutObjectResponse response = (PutObjectResponse) PutObjectResponse.builder()
+                .eTag("etag")
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                .build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        S3UploadResult result = imageService.upload("images/test.png", file).join();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.eTag()).isEqualTo("etag");
+        assertThat(result.url()).endsWith("/images/test.png");
+    }
+
+    @DisplayName("S3 업로드가 실패하면 S3UploaderException으로 완료된다")
+    @Test
+    void upload_s3Failure_completesExceptionally() {
+        // given
+        File file = new File("src/test/resources/test.png");
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("boom")));
+
+        // when
+        CompletableFuture<S3UploadResult> future = imageService.upload("images/test.png", file);
+
+        // then
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(S3UploaderException.class);
+    }
+
+    @DisplayName("해시 접두사 배치를 지정하면 동기 서비스와 같은 물리 키로 업로드하고, 결과에 물리 키를 담는다")
+    @Test
+    void upload_withHashPrefixLayout_usesPhysicalKey() {
+        // given
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setKeyLayout(KeyLayout.HASH_PREFIX);
+        S3AsyncImageService hashedService = new S3AsyncImageService(s3AsyncClient, "test-bucket",
+                new FastMimeTypeDetectionStrategy(), properties);
+        PutObjectResponse response = (PutObjectResponse) PutObjectResponse.builder()
+                .eTag("etag")
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                .build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        S3UploadResult result = hashedService.upload("profile/2026/10/a.png", new File("src/test/resources/test.png")).join();
+
+        // then
+        String physicalKey = KeyLayoutStrategy.from(properties).physicalKey("profile/2026/10/a.png");
+        assertThat(physicalKey).matches("[0-9a-f]{2}/profile/2026/10/a\\.png");
+        assertThat(hashedService.physicalKey("profile/2026/10/a.png")).isEqualTo(physicalKey);
+        assertThat(result.key()).isEqualTo(physicalKey);
+        assertThat(result.url()).endsWith("/" + physicalKey);
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3AsyncClient).putObject(captor.capture(), any(AsyncRequestBody.class));
+        assertThat(captor.getValue().key()).isEqualTo(physicalKey);
+    }
+
+    @DisplayName("스트림 길이가 단일 PUT 최대 크기를 넘으면 읽기 전에 InvalidImageException을 던진다")
+    @Test
+    void uploadStream_exceedsSinglePutMaximum_throwsException() {
+        // given
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[]{1});
+
+        // when & then
+        assertThatThrownBy(() -> imageService.upload("images/test.png", inputStream, "image/png",
+                S3UploadProperties.MAX_PUT_SIZE + 1))
+                .isInstanceOf(InvalidImageException.class);
+        assertThat(inputStream.available()).isEqualTo(1);
+        verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @DisplayName("임시 파일로 보관한 스트림은 메모리에 올리지 않고 파일에서 읽어 업로드한다")
+    @Test
+    void uploadStream_spooledToFile_uploadsFromFile() throws Exception {
+        // given
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setSpoolMemoryThreshold(0);
+        S3AsyncImageService fileSpoolService = new S3AsyncImageService(s3AsyncClient, "test-bucket",
+                new FastMimeTypeDetectionStrategy(), properties);
+        byte[] bytes = Files.readAllBytes(new File("src/test/resources/test.png").toPath());
+        PutObjectResponse response = (PutObjectResponse) PutObjectResponse.builder()
+                .eTag("etag")
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                .build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        S3UploadResult result = fileSpoolService.upload("images/test.png", new ByteArrayInputStream(bytes),
+                "image/png", bytes.length).join();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<AsyncRequestBody> bodyCaptor = ArgumentCaptor.forClass(AsyncRequestBody.class);
+        verify(s3AsyncClient).putObject(requestCaptor.capture(), bodyCaptor.capture());
+        assertThat(requestCaptor.getValue().contentLength()).isEqualTo(bytes.length);
+        assertThat(bodyCaptor.getValue().getClass().getSimpleName()).contains("File");
+    }
+}
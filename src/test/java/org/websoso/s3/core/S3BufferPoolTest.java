@@ -0,0 +1,102 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.config.S3UploadProperties.BufferPoolExhaustion;
+import org.websoso.s3.exception.BufferPoolExhaustedException;
+import org.websoso.s3.modle.S3BufferPoolStats;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class S3BufferPoolTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    @DisplayName("반환된 버퍼는 같은 크기 단위의 다음 요청에 재사용된다")
+    @Test
+    void acquire_reusesReleasedBuffer() {
+        // given
+        S3BufferPool pool = new S3BufferPool(16L * MIB, BufferPoolExhaustion.FAIL_FAST, Duration.ZERO);
+        ByteBuffer first = pool.acquire(5 * MIB);
+        pool.release(first);
+
+        // when
+        ByteBuffer second = pool.acquire(6 * MIB);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.isDirect()).isTrue();
+        assertThat(second.capacity()).isEqualTo(8 * MIB);
+        assertThat(second.limit()).isEqualTo(6 * MIB);
+
+        S3BufferPoolStats stats = pool.stats();
+        assertThat(stats.allocationCount()).isEqualTo(1);
+        assertThat(stats.acquireCount()).isEqualTo(2);
+        assertThat(stats.inUseBytes()).isEqualTo(8L * MIB);
+    }
+
+    @DisplayName("FAIL_FAST 정책에서 용량을 넘으면 즉시 예외가 발생하고, tryAcquire는 null을 반환한다")
+    @Test
+    void acquire_failsFastWhenExhausted() {
+        // given
+        S3BufferPool pool = new S3BufferPool(16L * MIB, BufferPoolExhaustion.FAIL_FAST, Duration.ZERO);
+        pool.acquire(8 * MIB);
+        pool.acquire(8 * MIB);
+
+        // when & then
+        assertThat(pool.tryAcquire(8 * MIB)).isNull();
+        assertThatThrownBy(() -> pool.acquire(8 * MIB))
+                .isInstanceOf(BufferPoolExhaustedException.class);
+        assertThat(pool.stats().exhaustedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("BLOCK 정책에서는 다른 스레드가 버퍼를 반환할 때까지 기다린다")
+    @Test
+    void acquire_blocksUntilReleased() throws Exception {
+        // given
+        S3BufferPool pool = new S3BufferPool(8L * MIB, BufferPoolExhaustion.BLOCK, Duration.ofSeconds(5));
+        ByteBuffer held = pool.acquire(8 * MIB);
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pool.release(held);
+        });
+        releaser.start();
+
+        // when
+        ByteBuffer acquired = pool.acquire(8 * MIB);
+        releaser.join();
+
+        // then
+        assertThat(acquired).isSameAs(held);
+        assertThat(pool.stats().waitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 S3Client를 사용하는 업로더는 하나의 버퍼 풀을 공유한다")
+    @Test
+    void shared_returnsSamePoolForSameClient() {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        S3UploadProperties properties = new S3UploadProperties();
+
+        // when
+        S3BufferPool first = S3BufferPool.shared(s3Client, properties);
+        S3BufferPool second = S3BufferPool.shared(s3Client, properties);
+        S3BufferPool other = S3BufferPool.shared(mock(S3Client.class), properties);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first).isNotSameAs(other);
+    }
+}
@@ -0,0 +1,135 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.websoso.s3.config.S3UploadProperties.ConcurrencyLimitExceeded;
+import org.websoso.s3.exception.ConcurrencyLimitExceededException;
+import org.websoso.s3.modle.S3ConcurrencyLimiterStats;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3ConcurrencyLimiterTest {
+
+    @DisplayName("지연 시간 상한 안에 성공하면 제한을 늘리되, 제한의 절반도 쓰지 않는 동안에는 늘리지 않는다")
+    @Test
+    void call_success_increasesLimitWhileUtilized() {
+        // given
+        S3ConcurrencyLimiter limiter = limiter(2, 8, ConcurrencyLimitExceeded.REJECT);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.call(() -> "ok");
+        }
+
+        // then
+        S3ConcurrencyLimiterStats stats = limiter.stats();
+        assertThat(stats.limit()).isEqualTo(3);
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.acquireCount()).isEqualTo(20);
+    }
+
+    @DisplayName("503 SlowDown으로 실패하면 제한을 절반으로 줄이고, 줄이기 전에 시작된 요청의 실패로는 다시 줄이지 않는다")
+    @Test
+    void call_slowDown_halvesLimitOncePerBurst() throws Exception {
+        // given
+        S3ConcurrencyLimiter limiter = limiter(8, 8, ConcurrencyLimitExceeded.REJECT);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> earlier = CompletableFuture.supplyAsync(() -> limiter.call(() -> {
+            await(release);
+            throw slowDown();
+        }));
+        awaitUntil(() -> limiter.stats().inFlight() == 1);
+
+        // when
+        assertThatThrownBy(() -> limiter.call(() -> {
+            throw slowDown();
+        })).isInstanceOf(S3Exception.class);
+        release.countDown();
+        assertThatThrownBy(() -> earlier.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(S3Exception.class);
+
+        // then
+        S3ConcurrencyLimiterStats stats = limiter.stats();
+        assertThat(stats.limit()).isEqualTo(4);
+        assertThat(stats.decreaseCount()).isEqualTo(1);
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @DisplayName("REJECT 정책에서 제한을 넘은 요청은 기다리지 않고 즉시 실패한다")
+    @Test
+    void call_overLimit_rejects() throws Exception {
+        // given
+        S3ConcurrencyLimiter limiter = limiter(1, 1, ConcurrencyLimitExceeded.REJECT);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> limiter.call(() -> {
+            await(release);
+            return "ok";
+        }));
+        awaitUntil(() -> limiter.stats().inFlight() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.call(() -> "rejected"))
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(limiter.stats().rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @DisplayName("QUEUE 정책에서 제한을 넘은 요청은 대기열에서 기다렸다가 앞선 요청이 끝나면 실행된다")
+    @Test
+    void call_overLimit_queuesUntilReleased() throws Exception {
+        // given
+        S3ConcurrencyLimiter limiter = limiter(1, 1, ConcurrencyLimitExceeded.QUEUE);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> limiter.call(() -> {
+            await(release);
+            return "first";
+        }));
+        awaitUntil(() -> limiter.stats().inFlight() == 1);
+
+        // when
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> limiter.call(() -> "second"));
+        awaitUntil(() -> limiter.stats().queueDepth() == 1);
+        release.countDown();
+
+        // then
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        S3ConcurrencyLimiterStats stats = limiter.stats();
+        assertThat(stats.queuedCount()).isEqualTo(1);
+        assertThat(stats.queueDepth()).isZero();
+        assertThat(stats.rejectedCount()).isZero();
+    }
+
+    private static S3ConcurrencyLimiter limiter(int initialLimit, int maxLimit, ConcurrencyLimitExceeded policy) {
+        return new S3ConcurrencyLimiter(initialLimit, 1, maxLimit, policy, Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    private static S3Exception slowDown() {
+        return (S3Exception) S3Exception.builder().statusCode(503).message("Slow Down").build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.get()).isTrue();
+    }
+}
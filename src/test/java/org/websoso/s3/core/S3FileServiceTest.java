@@ -0,0 +1,165 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.config.S3UploadProperties.KeyLayout;
+import org.websoso.s3.metrics.S3Metrics;
+import org.websoso.s3.modle.S3DeleteResult;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import org.websoso.s3.modle.S3UploadResponse;
+import org.websoso.s3.modle.S3UploadResult;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3FileServiceTest {
+
+    @TempDir
+    Path root;
+
+    @DisplayName("해시 접두사 배치를 사용하면 업로드, URL, 삭제가 모두 같은 물리 키를 사용하고, 결과에 물리 키를 담는다")
+    @Test
+    void upload_withHashPrefixLayout_usesPhysicalKey() {
+        // given
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setKeyLayout(KeyLayout.HASH_PREFIX);
+        S3FileService fileService = new S3FileService(
+                new LocalObjectStore(root, "http://localhost:8080/static"), properties, S3Metrics.noop());
+        File file = new File("src/test/resources/test.png");
+
+        // when
+        S3UploadResult result = fileService.upload("profile/2026/10/a.png", file);
+
+        // then
+        String physicalKey = result.key();
+        assertThat(physicalKey).matches("[0-9a-f]{2}/profile/2026/10/a\\.png");
+        assertThat(physicalKey).isEqualTo(fileService.physicalKey("profile/2026/10/a.png"));
+        assertThat(result.url()).isEqualTo("http://localhost:8080/static/" + physicalKey);
+        assertThat(root.resolve(physicalKey)).hasSameBinaryContentAs(file.toPath());
+
+        List<S3DeleteResult> deleted = fileService.deleteAll(List.of("profile/2026/10/a.png"));
+        assertThat(deleted).extracting(S3DeleteResult::key).containsExactly("profile/2026/10/a.png");
+        assertThat(deleted).allMatch(S3DeleteResult::isSuccess);
+        assertThat(root.resolve(physicalKey)).doesNotExist();
+    }
+
+    @DisplayName("저장소가 실패 응답을 반환하면 실패 결과를 반환한다")
+    @Test
+    void upload_failedResponse_returnsFailResult() {
+        // given
+        ObjectStore store = mock(ObjectStore.class);
+        when(store.put(anyString(), any(File.class), any()))
+                .thenReturn(new S3UploadResponse(false, null, 500, "Internal Server Error"));
+        S3FileService fileService = new S3FileService(store);
+
+        // when
+        S3UploadResult result = fileService.upload("files/a.png", new File("src/test/resources/test.png"));
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.message()).contains("500");
+    }
+
+    @DisplayName("존재 확인 결과는 캐시되며, 같은 서비스로 업로드하거나 삭제하면 바로 갱신된다")
+    @Test
+    void exists_cachedAndInvalidatedByUploadAndDelete() {
+        // given
+        S3FileService fileService = new S3FileService(new LocalObjectStore(root, "http://localhost:8080/static"));
+        File file = new File("src/test/resources/test.png");
+
+        // when & then
+        assertThat(fileService.exists("files/a.png")).isFalse();
+
+        fileService.upload("files/a.png", file);
+        assertThat(fileService.exists("files/a.png")).isTrue();
+        S3ObjectMetadata metadata = fileService.metadata("files/a.png");
+        assertThat(metadata.key()).isEqualTo("files/a.png");
+        assertThat(metadata.contentLength()).isEqualTo(file.length());
+
+        fileService.delete("files/a.png");
+        assertThat(fileService.exists("files/a.png")).isFalse();
+        assertThat(fileService.metadata("files/a.png")).isNull();
+    }
+
+    @DisplayName("같은 키의 메타데이터를 반복해서 조회하면 저장소에는 한 번만 HEAD 요청을 보낸다")
+    @Test
+    void metadata_repeatedLookup_headsOnce() {
+        // given
+        ObjectStore store = mock(ObjectStore.class);
+        S3ObjectMetadata metadata = new S3ObjectMetadata("files/a.png", 10, "image/png", "etag", null, null);
+        when(store.head("files/a.png")).thenReturn(metadata);
+        when(store.head("files/missing.png")).thenReturn(null);
+        S3FileService fileService = new S3FileService(store);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(fileService.metadata("files/a.png")).isEqualTo(metadata);
+            assertThat(fileService.exists("files/missing.png")).isFalse();
+        }
+
+        // then
+        verify(store, times(1)).head("files/a.png");
+        verify(store, times(1)).head("files/missing.png");
+    }
+
+    @DisplayName("삭제가 진행되는 동안 끝난 HEAD 결과는 캐시에 남지 않아, 삭제 후에는 객체가 없다고 판단한다")
+    @Test
+    void delete_whileHeadInFlight_doesNotCacheStaleResult() {
+        // given
+        ObjectStore store = mock(ObjectStore.class);
+        S3ObjectMetadata metadata = new S3ObjectMetadata("files/a.png", 10, "image/png", "etag", null, null);
+        when(store.head("files/a.png")).thenReturn(metadata).thenReturn(null);
+        AtomicReference<S3FileService> service = new AtomicReference<>();
+        AtomicReference<Boolean> existsDuringDelete = new AtomicReference<>();
+        when(store.delete("files/a.png")).thenAnswer(invocation -> {
+            // 삭제 요청이 반영되기 전에 시작해서 끝난 HEAD
+            existsDuringDelete.set(service.get().exists("files/a.png"));
+            return true;
+        });
+        service.set(new S3FileService(store));
+
+        // when
+        boolean deleted = service.get().delete("files/a.png");
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(existsDuringDelete.get()).isTrue();
+        assertThat(service.get().exists("files/a.png")).isFalse();
+        verify(store, times(2)).head("files/a.png");
+    }
+
+    @DisplayName("HEAD가 진행되는 동안 다른 키를 삭제해도 조회 결과는 캐시된다")
+    @Test
+    void metadata_otherKeyDeletedDuringHead_stillCached() {
+        // given
+        ObjectStore store = mock(ObjectStore.class);
+        S3ObjectMetadata metadata = new S3ObjectMetadata("files/a.png", 10, "image/png", "etag", null, null);
+        AtomicReference<S3FileService> service = new AtomicReference<>();
+        when(store.head("files/a.png")).thenAnswer(invocation -> {
+            service.get().delete("files/b.png");
+            return metadata;
+        });
+        when(store.delete("files/b.png")).thenReturn(true);
+        service.set(new S3FileService(store));
+
+        // when
+        service.get().metadata("files/a.png");
+        S3ObjectMetadata cached = service.get().metadata("files/a.png");
+
+        // then
+        assertThat(cached).isEqualTo(metadata);
+        verify(store, times(1)).head("files/a.png");
+    }
+}
@@ -3,24 +3,68 @@ package org.websoso.s3.core;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.websoso.s3.config.S3UploadProperties;
 import org.websoso.s3.core.strategy.PreciseMimeTypeDetectionStrategy;
 import org.websoso.s3.core.strategy.FastMimeTypeDetectionStrategy;
 import org.websoso.s3.exception.InvalidImageException;
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.metrics.InMemoryS3Metrics;
+import org.websoso.s3.metrics.S3MetricTags;
+import org.websoso.s3.metrics.S3Operation;
+import org.websoso.s3.metrics.S3OperationStats;
+import org.websoso.s3.modle.S3PresignedUpload;
+import org.websoso.s3.modle.S3UploadResult;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 class S3ImageServiceTest {
 
+    private S3Client s3Client;
     private S3ImageService imageService;
 
     @BeforeEach
     void setUp() {
-        S3Client s3Client = mock(S3Client.class);
+        s3Client = mock(S3Client.class);
         String bucket = "test-bucket";
 
         imageService = new S3ImageService(s3Client, bucket, new FastMimeTypeDetectionStrategy());
@@ -69,4 +113,294 @@ class S3ImageServiceTest {
                 imageService.upload("key", null, "image/jpeg", 1000))
                 .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @DisplayName("일괄 업로드 시 잘못된 이미지는 해당 항목만 실패하고, 결과는 입력 순서를 따른다")
+    @Test
+    void uploadAll_invalidItem_failsOnlyThatItem() {
+        // given
+        stubSuccessfulPut();
+
+        Map<String, File> files = new LinkedHashMap<>();
+        files.put("images/first.png", new File("src/test/resources/test.png"));
+        files.put("images/fake.jpg", new File("src/test/resources/fake-image.jpg"));
+        files.put("images/last.png", new File("src/test/resources/test.png"));
+
+        // when
+        List<S3UploadResult> results = imageService.uploadAll(files);
+
+        // then
+        assertThat(results).extracting(S3UploadResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(0).url()).endsWith("/images/first.png");
+        assertThat(results.get(2).url()).endsWith("/images/last.png");
+    }
+
+    @DisplayName("정밀 감지 전략에서도 InputStream을 한 번만 읽어 감지와 업로드에 함께 사용한다")
+    @Test
+    void upload_inputStreamWithPreciseDetection_uploadsSpooledContent() throws IOException {
+        // given
+        File file = new File("src/test/resources/test.png");
+        byte[] expected = Files.readAllBytes(file.toPath());
+        stubSuccessfulPut();
+
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setSpoolMemoryThreshold(0);
+        S3ImageService preciseService = new S3ImageService(s3Client, "test-bucket",
+                new PreciseMimeTypeDetectionStrategy(), properties);
+
+        // when
+        S3UploadResult result;
+        try (InputStream input = new FileInputStream(file)) {
+            result = preciseService.upload("images/test.png", input, "image/png", expected.length);
+        }
+
+        // then
+        ArgumentCaptor<RequestBody> captor = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(any(PutObjectRequest.class), captor.capture());
+
+        assertThat(result.isSuccess()).isTrue();
+        try (InputStream uploaded = captor.getValue().contentStreamProvider().newStream()) {
+            assertThat(uploaded.readAllBytes()).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("길이를 모르는 InputStream이 보관 최대 크기를 넘으면 업로드하지 않고 예외를 던진다")
+    @Test
+    void upload_unknownLengthInputStreamOverSpoolMaxSize_throwsException() throws IOException {
+        // given
+        File file = new File("src/test/resources/test.png");
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setSpoolMaxSize(file.length() - 1);
+        S3ImageService boundedService = new S3ImageService(s3Client, "test-bucket",
+                new FastMimeTypeDetectionStrategy(), properties);
+
+        // when & then
+        try (InputStream input = new FileInputStream(file)) {
+            assertThatThrownBy(() -> boundedService.upload("images/test.png", input, "image/png"))
+                    .isInstanceOf(InvalidImageException.class);
+        }
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @DisplayName("InputStream이 컨텐츠 길이보다 짧으면 예외를 던진다")
+    @Test
+    void upload_inputStreamShorterThanContentLength_throwsException() throws IOException {
+        // given
+        File file = new File("src/test/resources/test.png");
+
+        // when & then
+        try (InputStream input = new FileInputStream(file)) {
+            assertThatThrownBy(() -> imageService.upload("images/test.png", input, "image/png", file.length() + 1))
+                    .isInstanceOf(InvalidImageException.class);
+        }
+    }
+
+    @DisplayName("presigned PUT URL은 컨텐츠 타입과 길이를 서명에 포함하고, 최대 크기를 넘으면 발급하지 않는다")
+    @Test
+    void createPresignedUpload_signsContentTypeAndLength() {
+        // given
+        S3UploadProperties uploadProperties = new S3UploadProperties();
+        uploadProperties.setPresignedUploadMaxSize(1024 * 1024);
+        S3ImageService presignedService = createPresignedService(uploadProperties);
+
+        // when
+        S3PresignedUpload upload = presignedService.createPresignedUpload("images/test.png", "image/png", 14936);
+
+        // then
+        assertThat(upload.url()).contains("X-Amz-Signature=");
+        assertThat(upload.signedHeaders()).containsKeys("content-type", "content-length");
+        assertThat(upload.signedHeaders().get("content-length")).containsExactly("14936");
+        assertThatThrownBy(() -> presignedService.createPresignedUpload("images/big.png", "image/png", 1024 * 1024 + 1))
+                .isInstanceOf(InvalidImageException.class);
+        assertThatThrownBy(() -> presignedService.createPresignedUpload("images/test.txt", "text/plain", 4))
+                .isInstanceOf(InvalidImageException.class);
+    }
+
+    @DisplayName("직접 업로드된 이미지는 앞부분만 읽어 검증하고, 통과하면 URL을 반환한다")
+    @Test
+    void confirmPresignedUpload_validImage() throws IOException {
+        // given
+        S3UploadProperties uploadProperties = new S3UploadProperties();
+        uploadProperties.setPresignedConfirmBytes(4096);
+        S3ImageService presignedService = createPresignedService(uploadProperties);
+        byte[] image = Files.readAllBytes(new File("src/test/resources/test.png").toPath());
+        stubHeader(Arrays.copyOf(image, 4096));
+        when(s3Client.utilities()).thenReturn(S3Utilities.builder().region(Region.AP_NORTHEAST_2).build());
+
+        // when
+        S3UploadResult result = presignedService.confirmPresignedUpload("images/test.png");
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.eTag()).isEqualTo("etag");
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(captor.capture(), any(ResponseTransformer.class));
+        assertThat(captor.getValue().range()).isEqualTo("bytes=0-4095");
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @DisplayName("직접 업로드된 객체가 허용되지 않은 형식이면 삭제하고 예외를 던진다")
+    @Test
+    void confirmPresignedUpload_invalidImage_deletesObject() throws IOException {
+        // given
+        S3ImageService presignedService = createPresignedService(new S3UploadProperties());
+        stubHeader(Files.readAllBytes(new File("src/test/resources/fake-image.jpg").toPath()));
+
+        // when & then
+        assertThatThrownBy(() -> presignedService.confirmPresignedUpload("images/fake.jpg"))
+                .isInstanceOf(InvalidImageException.class);
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    private S3ImageService createPresignedService(S3UploadProperties uploadProperties) {
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .build();
+        return new S3ImageService(s3Client, "test-bucket", new PreciseMimeTypeDetectionStrategy(),
+                uploadProperties, new S3ReadProperties(), presigner);
+    }
+
+    @DisplayName("지표를 지정하면 검증, 감지, 업로드, URL 생성 시간과 업로드 바이트 수를 서비스 종류와 감지 방식별로 기록한다")
+    @Test
+    void upload_withMetrics_recordsOperationMetrics() {
+        // given
+        File file = new File("src/test/resources/test.png");
+        stubSuccessfulPut();
+        InMemoryS3Metrics metrics = new InMemoryS3Metrics();
+        S3ImageService service = new S3ImageService(s3Client, "test-bucket", new FastMimeTypeDetectionStrategy(),
+                new S3UploadProperties(), new S3ReadProperties(), null, metrics);
+
+        // when
+        service.upload("images/test.png", file);
+
+        // then
+        S3MetricTags tags = new S3MetricTags("image", "FAST");
+        assertThat(metrics.snapshot(S3Operation.VALIDATION, tags).count()).isEqualTo(1);
+        assertThat(metrics.snapshot(S3Operation.DETECTION, tags).count()).isEqualTo(1);
+        assertThat(metrics.snapshot(S3Operation.URL_GENERATION, tags).count()).isEqualTo(1);
+
+        S3OperationStats put = metrics.snapshot(S3Operation.PUT, tags);
+        assertThat(put.count()).isEqualTo(1);
+        assertThat(put.totalBytes()).isEqualTo(file.length());
+        assertThat(put.errorCount()).isZero();
+        assertThat(put.inFlight()).isZero();
+    }
+
+    @DisplayName("업로드가 실패하면 예외 타입별 오류 수를 기록한다")
+    @Test
+    void upload_withMetrics_recordsErrorsByType() {
+        // given
+        File file = new File("src/test/resources/test.png");
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(503).message("Slow Down").build());
+        InMemoryS3Metrics metrics = new InMemoryS3Metrics();
+        S3ImageService service = new S3ImageService(s3Client, "test-bucket", new FastMimeTypeDetectionStrategy(),
+                new S3UploadProperties(), new S3ReadProperties(), null, metrics);
+
+        // when & then
+        assertThatThrownBy(() -> service.upload("images/test.png", file))
+                .isInstanceOf(S3UploaderException.class);
+
+        S3OperationStats put = metrics.snapshot(S3Operation.PUT, new S3MetricTags("image", "FAST"));
+        assertThat(put.count()).isEqualTo(1);
+        assertThat(put.errorsByType()).containsEntry(S3Exception.class.getName(), 1L);
+        assertThat(put.totalBytes()).isZero();
+        assertThat(put.inFlight()).isZero();
+    }
+
+    @DisplayName("내용 기준 중복 제거 업로드는 해시로 키를 정하고, 이미 있는 내용이면 PUT 없이 같은 URL을 반환한다")
+    @Test
+    void uploadDeduplicated_sameContent_skipsPut() throws IOException {
+        // given
+        File file = new File("src/test/resources/test.png");
+        byte[] content = Files.readAllBytes(file.toPath());
+        stubSuccessfulPut();
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+        // when
+        S3UploadResult first = imageService.uploadDeduplicated("avatars", file);
+        S3UploadResult second;
+        try (InputStream input = new ByteArrayInputStream(content)) {
+            second = imageService.uploadDeduplicated("avatars/", input, "image/png");
+        }
+
+        // then
+        String hash = ContentDigest.hex(ContentDigest.sha256().digest(content));
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.key()).isEqualTo("avatars/" + hash + ".png");
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(second.eTag()).isEqualTo(first.eTag());
+        assertThat(second.url()).isEqualTo(first.url()).endsWith("/avatars/" + hash + ".png");
+        assertThat(imageService.exists(first.key())).isTrue();
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client, times(1)).putObject(captor.capture(), any(RequestBody.class));
+        assertThat(captor.getValue().contentType()).isEqualTo("image/png");
+        verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @DisplayName("스트림 중복 제거 업로드는 선언된 타입이 아니라 감지한 타입으로 키의 확장자와 컨텐츠 타입을 정한다")
+    @Test
+    void uploadDeduplicated_streamDeclaredWithOtherType_usesDetectedType() throws IOException {
+        // given
+        File file = new File("src/test/resources/test.png");
+        byte[] content = Files.readAllBytes(file.toPath());
+        stubSuccessfulPut();
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+        // when
+        S3UploadResult result;
+        try (InputStream input = new ByteArrayInputStream(content)) {
+            result = imageService.uploadDeduplicated("avatars", input, "image/jpeg");
+        }
+
+        // then
+        String hash = ContentDigest.hex(ContentDigest.sha256().digest(content));
+        assertThat(result.key()).isEqualTo("avatars/" + hash + ".png");
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertThat(captor.getValue().contentType()).isEqualTo("image/png");
+    }
+
+    @DisplayName("HEAD 요청으로 객체가 이미 있음을 확인하면 업로드하지 않고, 삭제하면 다음 업로드에서 다시 확인한다")
+    @Test
+    void uploadDeduplicated_existingObject_skipsPutUntilDeleted() {
+        // given
+        File file = new File("src/test/resources/test.png");
+        stubSuccessfulPut();
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().eTag("existing-etag").contentLength(file.length()).build())
+                .thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+        // when
+        S3UploadResult existing = imageService.uploadDeduplicated("covers", file);
+        imageService.delete(existing.key());
+        S3UploadResult reuploaded = imageService.uploadDeduplicated("covers", file);
+
+        // then
+        assertThat(existing.eTag()).isEqualTo("existing-etag");
+        assertThat(reuploaded.eTag()).isEqualTo("etag");
+        verify(s3Client, times(2)).headObject(any(HeadObjectRequest.class));
+        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubHeader(byte[] bytes) {
+        GetObjectResponse response = (GetObjectResponse) GetObjectResponse.builder()
+                .eTag("etag")
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(206).build())
+                .build();
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+                .thenReturn(ResponseBytes.fromByteArray(response, bytes));
+    }
+
+    private void stubSuccessfulPut() {
+        when(s3Client.utilities()).thenReturn(S3Utilities.builder().region(Region.AP_NORTHEAST_2).build());
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn((PutObjectResponse) PutObjectResponse.builder()
+                        .eTag("etag")
+                        .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                        .build());
+    }
+}
@@ -0,0 +1,112 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3ParallelDownloaderTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private S3Client s3Client;
+    private S3ParallelDownloader downloader;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        S3ReadProperties readProperties = new S3ReadProperties();
+        readProperties.setRangedDownloadPartSize(MIB);
+        readProperties.setRangedDownloadConcurrency(3);
+        downloader = new S3ParallelDownloader(s3Client, "test-bucket", readProperties);
+
+        content = new byte[5 * MIB / 2];
+        new Random(42).nextBytes(content);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentLength((long) content.length)
+                .eTag("etag")
+                .build());
+    }
+
+    @DisplayName("객체를 범위로 나누어 동시에 받고, 파일의 각 위치에 그대로 쓴다")
+    @Test
+    void download_writesRangesAtOffsets() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(invocation -> rangeStream(invocation.getArgument(0)));
+        Path target = tempDir.resolve("large.bin");
+
+        // when
+        S3ObjectMetadata metadata = downloader.download("videos/large.bin", target);
+
+        // then
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(metadata.contentLength()).isEqualTo(content.length);
+
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, atLeastOnce()).getObject(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(GetObjectRequest::range)
+                .containsExactlyInAnyOrder("bytes=0-1048575", "bytes=1048576-2097151", "bytes=2097152-2621439");
+        assertThat(captor.getAllValues()).allMatch(request -> "etag".equals(request.ifMatch()));
+    }
+
+    @DisplayName("범위 하나라도 실패하면 예외를 던지고 쓰다 만 파일을 삭제한다")
+    @Test
+    void download_rangeFailure_deletesTarget() {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            if (request.range().startsWith("bytes=1048576")) {
+                throw S3Exception.builder().statusCode(412).message("Precondition Failed").build();
+            }
+            return rangeStream(request);
+        });
+        Path target = tempDir.resolve("large.bin");
+
+        // when & then
+        assertThatThrownBy(() -> downloader.download("videos/large.bin", target))
+                .isInstanceOf(S3ReaderException.class);
+        assertThat(target).doesNotExist();
+    }
+
+    private ResponseInputStream<GetObjectResponse> rangeStream(GetObjectRequest request) {
+        String[] bounds = request.range().substring("bytes=".length()).split("-");
+        int start = Integer.parseInt(bounds[0]);
+        int end = Integer.parseInt(bounds[1]);
+        byte[] slice = Arrays.copyOfRange(content, start, end + 1);
+        return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) slice.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(slice)));
+    }
+}
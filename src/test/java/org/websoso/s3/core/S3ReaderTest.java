@@ -0,0 +1,260 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.io.TempDir;
+import org.websoso.s3.config.S3ReadProperties;
+import org.websoso.s3.exception.S3ReaderException;
+import org.websoso.s3.modle.S3ByteRange;
+import org.websoso.s3.modle.S3ObjectMetadata;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class S3ReaderTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final S3Utilities utilities = S3Utilities.builder().region(Region.AP_NORTHEAST_2).build();
+
+    @DisplayName("미리 계산한 템플릿으로 만든 URL은 SDK가 만든 URL과 같다")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "images/profile.png",
+            "images/프로필 사진.png",
+            "a+b=c&d/e f~g_h-i.j",
+            "emoji/😀.gif",
+            "percent/100%.jpg"
+    })
+    void getUrl_matchesSdkUrl(String key) {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.utilities()).thenReturn(utilities);
+        S3Reader reader = new S3Reader(s3Client, BUCKET);
+
+        // when
+        String url = reader.getUrl(key);
+
+        // then
+        String expected = utilities.getUrl(GetUrlRequest.builder().bucket(BUCKET).key(key).build()).toString();
+        assertThat(url).isEqualTo(expected);
+    }
+
+    @DisplayName("URL 템플릿은 처음 한 번만 계산한다")
+    @Test
+    void getUrl_computesTemplateOnce() {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.utilities()).thenReturn(utilities);
+        S3Reader reader = new S3Reader(s3Client, BUCKET);
+
+        // when
+        reader.getUrl("images/1.png");
+        reader.getUrl("images/2.png");
+
+        // then
+        verify(s3Client, times(1)).utilities();
+    }
+
+    @DisplayName("CDN 기본 URL을 지정하면 S3 엔드포인트 대신 CDN URL을 반환한다")
+    @Test
+    void getUrl_usesCdnBaseUrl() {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        S3ReadProperties readProperties = new S3ReadProperties();
+        readProperties.setCdnBaseUrl("https://cdn.example.com/assets");
+        S3Reader reader = new S3Reader(s3Client, BUCKET, readProperties);
+
+        // when
+        String url = reader.getUrl("images/프로필.png");
+
+        // then
+        assertThat(url).isEqualTo("https://cdn.example.com/assets/images/%ED%94%84%EB%A1%9C%ED%95%84.png");
+        verifyNoInteractions(s3Client);
+    }
+
+    @DisplayName("presigned URL은 만료 전 갱신 시점까지 캐시하고, 이후에는 다시 서명한다")
+    @Test
+    void getPresignedUrl_cachesUntilRefreshMargin() {
+        // given
+        S3Presigner presigner = spy(S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .build());
+        S3ReadProperties readProperties = new S3ReadProperties();
+        readProperties.setPresignTtl(Duration.ofMinutes(10));
+        readProperties.setPresignRefreshMargin(Duration.ofMinutes(1));
+        MutableClock clock = new MutableClock(Instant.now());
+        S3Reader reader = new S3Reader(mock(S3Client.class), BUCKET, readProperties, presigner, clock);
+
+        // when
+        String first = reader.getPresignedUrl("images/1.png");
+        String second = reader.getPresignedUrl("images/1.png");
+        clock.advance(Duration.ofMinutes(9).plusSeconds(1));
+        String refreshed = reader.getPresignedUrl("images/1.png");
+
+        // then
+        assertThat(first).contains("X-Amz-Signature=").contains("X-Amz-Expires=600");
+        assertThat(second).isSameAs(first);
+        assertThat(refreshed).isNotSameAs(first);
+        verify(presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @DisplayName("S3Presigner 없이 presigned URL을 요청하면 예외가 발생한다")
+    @Test
+    void getPresignedUrl_withoutPresigner() {
+        // given
+        S3Reader reader = new S3Reader(mock(S3Client.class), BUCKET);
+
+        // when & then
+        assertThatThrownBy(() -> reader.getPresignedUrl("images/1.png"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("객체를 파일로 내려받고, 범위를 지정하면 Range 헤더로 요청한다")
+    @Test
+    void download_toPathWithRange(@TempDir Path tempDir) throws IOException {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        byte[] content = "partial-content".getBytes(StandardCharsets.UTF_8);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(objectStream(content));
+        S3Reader reader = new S3Reader(s3Client, BUCKET);
+        Path target = tempDir.resolve("object.bin");
+
+        // when
+        S3ObjectMetadata metadata = reader.download("images/1.png", target, S3ByteRange.of(10, 24));
+
+        // then
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(metadata.eTag()).isEqualTo("etag");
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(captor.capture());
+        assertThat(captor.getValue().range()).isEqualTo("bytes=10-24");
+    }
+
+    @DisplayName("객체를 출력 스트림으로 내려받는다")
+    @Test
+    void download_toOutputStream() {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(objectStream(content));
+        S3Reader reader = new S3Reader(s3Client, BUCKET);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        reader.download("images/1.png", output);
+
+        // then
+        assertThat(output.toByteArray()).isEqualTo(content);
+    }
+
+    @DisplayName("내려받는 중 오류가 발생하면 쓰다 만 파일을 삭제한다")
+    @Test
+    void download_failure_deletesPartialFile(@TempDir Path tempDir) throws IOException {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        InputStream failing = mock(InputStream.class);
+        doThrow(new IOException("connection reset")).when(failing).read(any(byte[].class), anyInt(), anyInt());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(failing)));
+        S3Reader reader = new S3Reader(s3Client, BUCKET);
+        Path target = tempDir.resolve("object.bin");
+
+        // when & then
+        assertThatThrownBy(() -> reader.download("images/1.png", target))
+                .isInstanceOf(S3ReaderException.class);
+        assertThat(target).doesNotExist();
+    }
+
+    @DisplayName("응답을 받기 전에 실패하면 기존 파일을 삭제하지 않는다")
+    @Test
+    void download_failureBeforeResponse_keepsExistingFile(@TempDir Path tempDir) throws IOException {
+        // given
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+        S3Reader reader = new S3Reader(s3Client, BUCKET);
+        Path target = tempDir.resolve("object.bin");
+        Files.writeString(target, "existing");
+
+        // when & then
+        assertThatThrownBy(() -> reader.download("images/1.png", target))
+                .isInstanceOf(S3ReaderException.class);
+        assertThat(target).hasContent("existing");
+    }
+
+    private static ResponseInputStream<GetObjectResponse> objectStream(byte[] content) {
+        GetObjectResponse response = GetObjectResponse.builder()
+                .eTag("etag")
+                .contentLength((long) content.length)
+                .build();
+        return new ResponseInputStream<>(response, AbortableInputStream.create(new ByteArrayInputStream(content)));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
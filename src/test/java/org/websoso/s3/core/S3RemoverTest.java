@@ -0,0 +1,108 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.websoso.s3.config.S3UploadProperties.ConcurrencyLimitExceeded;
+import org.websoso.s3.modle.S3DeleteResult;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3RemoverTest {
+
+    private static final String FAILING_KEY = "images/1500.png";
+
+    private S3Client s3Client;
+    private S3Remover remover;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        remover = new S3Remover(s3Client, "test-bucket");
+
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            List<String> keys = request.delete().objects().stream()
+                    .map(ObjectIdentifier::key)
+                    .collect(Collectors.toList());
+
+            return DeleteObjectsResponse.builder()
+                    .deleted(keys.stream()
+                            .filter(key -> !key.equals(FAILING_KEY))
+                            .map(key -> DeletedObject.builder().key(key).build())
+                            .collect(Collectors.toList()))
+                    .errors(keys.stream()
+                            .filter(key -> key.equals(FAILING_KEY))
+                            .map(key -> S3Error.builder().key(key).code("AccessDenied").message("denied").build())
+                            .collect(Collectors.toList()))
+                    .build();
+        });
+    }
+
+    @DisplayName("키를 1000개 단위로 나누어 삭제하고, 입력 순서대로 키별 결과를 반환한다")
+    @Test
+    void deleteAll_splitsIntoChunksAndReportsPerKey() {
+        // given
+        List<String> keys = IntStream.range(0, 2500)
+                .mapToObj(i -> "images/" + i + ".png")
+                .collect(Collectors.toList());
+
+        // when
+        List<S3DeleteResult> results = remover.deleteAll(keys);
+
+        // then
+        verify(s3Client, times(3)).deleteObjects(any(DeleteObjectsRequest.class));
+        assertThat(results).extracting(S3DeleteResult::key).containsExactlyElementsOf(keys);
+        assertThat(results).filteredOn(result -> !result.isSuccess())
+                .extracting(S3DeleteResult::key)
+                .containsExactly(FAILING_KEY);
+    }
+
+    @DisplayName("요청 자체가 실패하면 해당 묶음의 모든 키를 실패로 반환한다")
+    @Test
+    void deleteAll_requestFails_marksChunkAsFailed() {
+        // given
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(new RuntimeException("network"));
+
+        // when
+        List<S3DeleteResult> results = remover.deleteAll(List.of("a.png", "b.png"));
+
+        // then
+        assertThat(results).hasSize(2).noneMatch(S3DeleteResult::isSuccess);
+    }
+
+    @DisplayName("동시성 제한을 지정하면 삭제 요청을 제한 안에서 보낸다")
+    @Test
+    void deleteAll_withConcurrencyLimiter_acquiresPermitPerRequest() {
+        // given
+        S3ConcurrencyLimiter limiter = new S3ConcurrencyLimiter(4, 1, 4, ConcurrencyLimitExceeded.QUEUE,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        S3Remover limitedRemover = new S3Remover(s3Client, "test-bucket", limiter, MetricsRecorder.NOOP);
+        List<String> keys = IntStream.range(0, 1500)
+                .mapToObj(i -> "images/" + i + ".png")
+                .collect(Collectors.toList());
+
+        // when
+        limitedRemover.deleteAll(keys);
+
+        // then
+        assertThat(limiter.stats().acquireCount()).isEqualTo(2);
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+}
@@ -0,0 +1,265 @@
+package org.websoso.s3.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.websoso.s3.config.S3UploadProperties;
+import org.websoso.s3.exception.S3UploaderException;
+import org.websoso.s3.modle.S3UploadResponse;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3UploaderTest {
+
+    private static final long PART_SIZE = S3UploadProperties.MIN_PART_SIZE;
+
+    @TempDir
+    Path tempDir;
+
+    private S3Client s3Client;
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setMultipartThreshold(PART_SIZE);
+        properties.setPartSize(PART_SIZE);
+        properties.setMultipartParallelism(2);
+        properties.setPartMaxAttempts(2);
+
+        uploader = new S3Uploader(s3Client, "test-bucket", properties);
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn((CompleteMultipartUploadResponse) CompleteMultipartUploadResponse.builder()
+                        .eTag("etag")
+                        .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                        .build());
+    }
+
+    @DisplayName("임계값 이상의 파일은 멀티파트로 업로드하고, 실패한 파트만 다시 전송한다")
+    @Test
+    void upload_largeFile_usesMultipartAndRetriesFailedPart() throws IOException {
+        // given
+        File file = createFile(PART_SIZE * 2 + 1);
+        AtomicBoolean failedOnce = new AtomicBoolean(false);
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.partNumber() == 2 && failedOnce.compareAndSet(false, true)) {
+                throw new RuntimeException("temporary failure");
+            }
+            return UploadPartResponse.builder().eTag("part-" + request.partNumber()).build();
+        });
+
+        // when
+        S3UploadResponse response = uploader.upload("large/file.bin", file);
+
+        // then
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        verify(s3Client, times(4)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(captor.getValue().multipartUpload().parts())
+                .extracting(part -> part.partNumber())
+                .containsExactly(1, 2, 3);
+    }
+
+    @DisplayName("파트가 재시도 횟수를 모두 소진하면 멀티파트 업로드를 중단한다")
+    @Test
+    void upload_partKeepsFailing_abortsMultipartUpload() throws IOException {
+        // given
+        File file = createFile(PART_SIZE * 2);
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(new RuntimeException("permanent failure"));
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload("large/file.bin", file))
+                .isInstanceOf(S3UploaderException.class);
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @DisplayName("길이를 모르는 스트림이 첫 파트보다 작으면 단일 PUT으로 업로드한다")
+    @Test
+    void uploadStream_smallerThanPart_usesSinglePut() {
+        // given
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn((PutObjectResponse) PutObjectResponse.builder()
+                        .eTag("etag")
+                        .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                        .build());
+
+        // when
+        S3UploadResponse response = uploader.upload("small.bin", new ByteArrayInputStream(new byte[1024]), "application/octet-stream");
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture(), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(captor.getValue().contentLength()).isEqualTo(1024L);
+    }
+
+    @DisplayName("길이를 모르는 스트림이 파트보다 크면 파트 단위로 멀티파트 업로드한다")
+    @Test
+    void uploadStream_largerThanPart_streamsAsMultipart() {
+        // given
+        byte[] content = new byte[(int) (PART_SIZE * 2 + 10)];
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            return UploadPartResponse.builder().eTag("part-" + request.partNumber()).build();
+        });
+
+        // when
+        S3UploadResponse response = uploader.upload("large.bin", new ByteArrayInputStream(content), "application/octet-stream");
+
+        // then
+        ArgumentCaptor<UploadPartRequest> captor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(captor.capture(), any(RequestBody.class));
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(captor.getAllValues())
+                .extracting(UploadPartRequest::contentLength)
+                .containsExactlyInAnyOrder(PART_SIZE, PART_SIZE, 10L);
+    }
+
+    @DisplayName("503 SlowDown 응답은 재시도 횟수까지 다시 보내고, 4xx 응답은 재시도하지 않는다")
+    @Test
+    void uploadBuffer_retriesSlowDownButNotClientErrors() {
+        // given
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setPutMaxAttempts(3);
+        properties.setRetryBaseDelay(Duration.ofMillis(1));
+        S3Uploader retryingUploader = new S3Uploader(s3Client, "test-bucket", properties);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(503).message("Slow Down").build())
+                .thenThrow(S3Exception.builder().statusCode(503).message("Slow Down").build())
+                .thenReturn(putResponse("etag"))
+                .thenThrow(S3Exception.builder().statusCode(403).message("Access Denied").build());
+
+        // when
+        S3UploadResponse response = retryingUploader.upload("images/a.png", ByteBuffer.wrap(new byte[16]), "image/png");
+
+        // then
+        assertThat(response.isSuccess()).isTrue();
+        verify(s3Client, times(3)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+
+        assertThatThrownBy(() -> retryingUploader.upload("images/b.png", ByteBuffer.wrap(new byte[16]), "image/png"))
+                .isInstanceOf(S3UploaderException.class);
+        verify(s3Client, times(4)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @DisplayName("헤징을 사용하면 최근 지연 시간의 백분위수를 넘긴 PUT에 같은 요청을 한 번 더 보내고, 먼저 끝난 응답을 사용한다")
+    @Test
+    void uploadBuffer_slowPut_isHedged() throws InterruptedException {
+        // given
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setHedgingEnabled(true);
+        properties.setHedgeMinDelay(Duration.ofMillis(10));
+        S3Uploader hedgingUploader = new S3Uploader(s3Client, "test-bucket", properties);
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch slowPut = new CountDownLatch(1);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            int call = calls.incrementAndGet();
+            if (call == 21) {
+                slowPut.await(5, TimeUnit.SECONDS);
+                return putResponse("etag-slow");
+            }
+            return putResponse(call == 22 ? "etag-hedge" : "etag");
+        });
+        for (int i = 0; i < 20; i++) {
+            hedgingUploader.upload("images/" + i + ".png", ByteBuffer.wrap(new byte[16]), "image/png");
+        }
+
+        // when
+        long start = System.nanoTime();
+        S3UploadResponse response = hedgingUploader.upload("images/slow.png", ByteBuffer.wrap(new byte[16]), "image/png");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        slowPut.countDown();
+
+        // then
+        assertThat(response.eTag()).isEqualTo("etag-hedge");
+        assertThat(calls.get()).isEqualTo(22);
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    @DisplayName("동시성 제한을 사용하면 같은 클라이언트와 버킷을 쓰는 업로더들이 하나의 제한을 공유한다")
+    @Test
+    void concurrencyLimiter_isSharedPerClientAndBucket() {
+        // given
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setConcurrencyLimitEnabled(true);
+        S3Uploader first = new S3Uploader(s3Client, "shared-bucket", properties);
+        S3Uploader second = new S3Uploader(s3Client, "shared-bucket", properties);
+        S3Uploader otherBucket = new S3Uploader(s3Client, "other-bucket", properties);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenReturn(putResponse("etag"));
+
+        // when
+        first.upload("images/a.png", ByteBuffer.wrap(new byte[16]), "image/png");
+        second.upload("images/b.png", ByteBuffer.wrap(new byte[16]), "image/png");
+
+        // then
+        assertThat(first.getConcurrencyLimiterStats().acquireCount()).isEqualTo(2);
+        assertThat(second.getConcurrencyLimiterStats()).isEqualTo(first.getConcurrencyLimiterStats());
+        assertThat(otherBucket.getConcurrencyLimiterStats().acquireCount()).isZero();
+        assertThat(uploader.getConcurrencyLimiterStats()).isNull();
+    }
+
+    private static PutObjectResponse putResponse(String eTag) {
+        return (PutObjectResponse) PutObjectResponse.builder()
+                .eTag(eTag)
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                .build();
+    }
+
+    private File createFile(long size) throws IOException {
+        File file = tempDir.resolve("large.bin").toFile();
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(size);
+        }
+        return file;
+    }
+}
@@ -2,11 +2,13 @@ package org.websoso.s3.core.strategy;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.websoso.s3.exception.MimeDetectionTimeoutException;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -46,4 +48,55 @@ class PreciseMimeTypeDetectionStrategyTest {
         assertThatThrownBy(() -> strategy.detect(broken))
                 .isInstanceOf(IOException.class);
     }
+
+    @DisplayName("바이트 예산을 넘는 입력도 예산까지 읽은 구조로 MIME 타입을 감지한다")
+    @Test
+    void detectFile_byteBudgetReached_returnsDetectedType() throws IOException {
+        PreciseMimeTypeDetectionStrategy bounded = new PreciseMimeTypeDetectionStrategy(64, Duration.ofSeconds(2));
+        File file = new File("src/test/resources/test.png");
+
+        String mimeType = bounded.detect(file);
+
+        assertThat(mimeType).isEqualTo("image/png");
+    }
+
+    @DisplayName("시간 예산을 넘기면 MimeDetectionTimeoutException을 던진다")
+    @Test
+    void detectInputStream_timeBudgetExceeded_throwsTimeoutException() {
+        PreciseMimeTypeDetectionStrategy bounded = new PreciseMimeTypeDetectionStrategy(1024, Duration.ofMillis(50));
+        InputStream slow = new InputStream() {
+            @Override public int read() {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 0;
+            }
+        };
+
+        assertThatThrownBy(() -> bounded.detect(slow))
+                .isInstanceOf(MimeDetectionTimeoutException.class);
+    }
+
+    @DisplayName("입력이 오래 응답하지 않아도 시간 예산이 지나면 기다리지 않고 MimeDetectionTimeoutException을 던진다")
+    @Test
+    void detectInputStream_blockedRead_throwsTimeoutWithinBudget() {
+        PreciseMimeTypeDetectionStrategy bounded = new PreciseMimeTypeDetectionStrategy(1024, Duration.ofMillis(50));
+        InputStream blocked = new InputStream() {
+            @Override public int read() {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 0;
+            }
+        };
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> bounded.detect(blocked))
+                .isInstanceOf(MimeDetectionTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
 }
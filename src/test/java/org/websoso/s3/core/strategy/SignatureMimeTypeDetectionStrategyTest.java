@@ -0,0 +1,79 @@
+package org.websoso.s3.core.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SignatureMimeTypeDetectionStrategyTest {
+
+    private final SignatureMimeTypeDetectionStrategy strategy = new SignatureMimeTypeDetectionStrategy();
+
+    @DisplayName("파일의 시그니처로 MIME 타입을 감지한다")
+    @Test
+    void detectFile_success() throws IOException {
+        File file = new File("src/test/resources/test.png");
+
+        String mimeType = strategy.detect(file);
+
+        assertThat(mimeType).isEqualTo("image/png");
+    }
+
+    @DisplayName("InputStream에서 MIME 타입을 감지한 뒤 스트림 위치를 되돌린다")
+    @Test
+    void detectInputStream_resetsStream() throws IOException {
+        File file = new File("src/test/resources/test.png");
+
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            String mimeType = strategy.detect(input);
+
+            assertThat(mimeType).isEqualTo("image/png");
+            assertThat(input.read()).isEqualTo(0x89);
+        }
+    }
+
+    @DisplayName("오프셋이 있는 시그니처(WEBP, EMF)를 감지한다")
+    @Test
+    void detectInputStream_offsetSignatures() throws IOException {
+        byte[] webp = new byte[16];
+        System.arraycopy("RIFF".getBytes(StandardCharsets.US_ASCII), 0, webp, 0, 4);
+        System.arraycopy("WEBP".getBytes(StandardCharsets.US_ASCII), 0, webp, 8, 4);
+
+        byte[] emf = new byte[64];
+        emf[0] = 0x01;
+        System.arraycopy(" EMF".getBytes(StandardCharsets.US_ASCII), 0, emf, 40, 4);
+
+        assertThat(strategy.detect(new ByteArrayInputStream(webp))).isEqualTo("image/webp");
+        assertThat(strategy.detect(new ByteArrayInputStream(emf))).isEqualTo("image/emf");
+    }
+
+    @DisplayName("시그니처와 일치하지 않는 입력은 Tika로 감지한다")
+    @Test
+    void detectFile_unknownSignature_fallsBackToTika() throws IOException {
+        File file = new File("src/test/resources/fake-image.jpg");
+
+        String mimeType = strategy.detect(file);
+
+        assertThat(mimeType).doesNotStartWith("image/");
+    }
+
+    @DisplayName("mark/reset 불가능한 InputStream은 예외를 던진다")
+    @Test
+    void detectInputStream_markNotSupported_throws() {
+        InputStream nonMarkable = new ByteArrayInputStream(new byte[0]) {
+            @Override public boolean markSupported() { return false; }
+        };
+
+        assertThatThrownBy(() -> strategy.detect(nonMarkable))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mark/reset");
+    }
+}
@@ -4,14 +4,20 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.websoso.s3.config.S3AccessConfig;
+import org.websoso.s3.config.S3TransportProfile;
+import org.websoso.s3.config.S3TransportProfile.HttpClientType;
+import org.websoso.s3.modle.S3ClientFactoryStats;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -35,6 +41,11 @@ class S3ClientFactoryTest {
         when(s3AccessConfig.getCredentialsProvider()).thenReturn(mockCredentials);
     }
 
+    @AfterEach
+    void tearDown() {
+        S3ClientFactory.setIdleTimeout(Duration.ofMinutes(1));
+    }
+
     @DisplayName("같은 S3Config로 여러 번 getS3Client() 호출 시 동일한 S3Client를 반환한다.")
     @Test
     void shouldReturnSameS3ClientInstanceForSameConfig() {
@@ -119,4 +130,180 @@ class S3ClientFactoryTest {
         assertThat(client1).isNotSameAs(client2);
     }
 
-}
+    @DisplayName("전송 프로필이 다르면 서로 다른 S3Client를 생성하고, 값이 같은 프로필은 같은 S3Client를 공유한다.")
+    @Test
+    void shouldSeparateS3ClientsByTransportProfile() {
+        // given
+        S3AccessConfig lowLatency = mock(S3AccessConfig.class);
+        when(lowLatency.getRegion()).thenReturn(Region.AP_NORTHEAST_2);
+        when(lowLatency.getCredentialsProvider()).thenReturn(mockCredentials);
+        when(lowLatency.getTransportProfile()).thenReturn(S3TransportProfile.lowLatency());
+
+        S3AccessConfig sameValues = mock(S3AccessConfig.class);
+        when(sameValues.getRegion()).thenReturn(Region.AP_NORTHEAST_2);
+        when(sameValues.getCredentialsProvider()).thenReturn(mockCredentials);
+        when(sameValues.getTransportProfile()).thenReturn(S3TransportProfile.lowLatency().toBuilder().build());
+
+        // when
+        S3Client defaultClient = S3ClientFactory.getS3Client(s3AccessConfig);
+        S3Client lowLatencyClient = S3ClientFactory.getS3Client(lowLatency);
+        S3Client sameValuesClient = S3ClientFactory.getS3Client(sameValues);
+
+        // then
+        assertThat(lowLatencyClient).isNotSameAs(defaultClient);
+        assertThat(sameValuesClient).isSameAs(lowLatencyClient);
+    }
+
+    @DisplayName("URL_CONNECTION 프로필은 동기 클라이언트를 만들고, 비동기 클라이언트는 Netty로 만든다.")
+    @Test
+    void shouldCreateClientsWithUrlConnectionProfile() {
+        // given
+        S3AccessConfig config = mock(S3AccessConfig.class);
+        when(config.getRegion()).thenReturn(Region.AP_NORTHEAST_2);
+        when(config.getCredentialsProvider()).thenReturn(mockCredentials);
+        when(config.getTransportProfile()).thenReturn(S3TransportProfile.builder()
+                .withHttpClientType(HttpClientType.URL_CONNECTION)
+                .build());
+
+        // when
+        S3Client client = S3ClientFactory.getS3Client(config);
+        S3AsyncClient asyncClient = S3ClientFactory.getS3AsyncClient(config);
+
+        // then
+        assertThat(client).isNotNull();
+        assertThat(asyncClient).isNotNull();
+    }
+
+    @DisplayName("CRT 프로필에 필요한 의존성이 없으면 필요한 아티팩트를 알려주는 예외가 발생한다.")
+    @Test
+    void shouldFailWithClearMessageWhenCrtIsMissing() {
+        // given
+        S3AccessConfig config = mock(S3AccessConfig.class);
+        when(config.getRegion()).thenReturn(Region.AP_NORTHEAST_2);
+        when(config.getCredentialsProvider()).thenReturn(mockCredentials);
+        when(config.getTransportProfile()).thenReturn(S3TransportProfile.builder()
+                .withHttpClientType(HttpClientType.CRT)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> S3ClientFactory.getS3Client(config))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("aws-crt-client");
+        assertThatThrownBy(() -> S3ClientFactory.getS3AsyncClient(config))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("aws-crt");
+    }
+
+    @DisplayName("전송 프로필에 최대 시도 횟수를 지정하면 클라이언트의 SDK 재시도 전략에 적용한다.")
+    @Test
+    void shouldApplyMaxAttemptsFromTransportProfile() {
+        // given
+        S3AccessConfig config = mock(S3AccessConfig.class);
+        when(config.getRegion()).thenReturn(Region.AP_NORTHEAST_2);
+        when(config.getCredentialsProvider()).thenReturn(mockCredentials);
+        when(config.getTransportProfile()).thenReturn(S3TransportProfile.builder()
+                .withMaxAttempts(1)
+                .build());
+
+        // when
+        S3Client client = S3ClientFactory.getS3Client(config);
+
+        // then
+        assertThat(client.serviceClientConfiguration().overrideConfiguration().retryStrategy())
+                .hasValueSatisfying(strategy -> assertThat(strategy.maxAttempts()).isEqualTo(1));
+        assertThat(client).isNotSameAs(S3ClientFactory.getS3Client(s3AccessConfig));
+        assertThatThrownBy(() -> S3TransportProfile.builder().withMaxAttempts(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("프리셋을 바꿔 만든 전송 프로필은 원본 프리셋에 영향을 주지 않는다.")
+    @Test
+    void shouldNotModifyPresetWhenCustomizing() {
+        // when
+        S3TransportProfile custom = S3TransportProfile.highThroughput().toBuilder()
+                .withMaxConnections(1000)
+                .build();
+
+        // then
+        assertThat(custom.getMaxConnections()).isEqualTo(1000);
+        assertThat(S3TransportProfile.highThroughput().getMaxConnections()).isEqualTo(500);
+        assertThat(custom).isNotEqualTo(S3TransportProfile.highThroughput());
+        assertThatThrownBy(() -> S3TransportProfile.builder().withSocketTimeout(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("같은 액세스 키로 따로 만든 S3AccessConfig는 동일한 S3Client를 공유한다.")
+    @Test
+    void shouldShareS3ClientForEqualStaticCredentials() {
+        // given
+        S3AccessConfig config1 = S3AccessConfig.builder().withCredentials("share-access", "share-secret").build();
+        S3AccessConfig config2 = S3AccessConfig.builder().withCredentials("share-access", "share-secret").build();
+
+        // when
+        S3Client client1 = S3ClientFactory.getS3Client(config1);
+        S3Client client2 = S3ClientFactory.getS3Client(config2);
+
+        // then
+        assertThat(config1.getCredentialsProvider()).isNotSameAs(config2.getCredentialsProvider());
+        assertThat(client1).isSameAs(client2);
+    }
+
+    @DisplayName("모든 참조가 반납되면 클라이언트를 닫고 캐시에서 제거한다.")
+    @Test
+    void shouldCloseS3ClientWhenAllReferencesReleased() {
+        // given
+        S3ClientFactory.setIdleTimeout(Duration.ZERO);
+        S3AccessConfig config = S3AccessConfig.builder().withCredentials("release-access", "release-secret").build();
+        S3Client client = S3ClientFactory.getS3Client(config);
+        S3ClientFactory.getS3Client(config);
+        int before = S3ClientFactory.getStats().syncClients();
+
+        // when
+        S3ClientFactory.release(client);
+        int afterFirstRelease = S3ClientFactory.getStats().syncClients();
+        S3ClientFactory.release(client);
+        S3ClientFactoryStats afterLastRelease = S3ClientFactory.getStats();
+
+        // then
+        assertThat(afterFirstRelease).isEqualTo(before);
+        assertThat(afterLastRelease.syncClients()).isEqualTo(before - 1);
+        assertThat(S3ClientFactory.getS3Client(config)).isNotSameAs(client);
+        assertThatThrownBy(() -> S3ClientFactory.release(client))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("유휴 시간 안에 다시 얻으면 같은 클라이언트를 재사용하고, 유휴 시간이 지나면 닫는다.")
+    @Test
+    void shouldReuseIdleS3ClientUntilIdleTimeout() throws InterruptedException {
+        // given
+        S3ClientFactory.setIdleTimeout(Duration.ofMillis(200));
+        S3AccessConfig config = S3AccessConfig.builder().withCredentials("idle-access", "idle-secret").build();
+        S3Client client = S3ClientFactory.getS3Client(config);
+        S3ClientFactory.release(client);
+
+        // when
+        S3Client reacquired = S3ClientFactory.getS3Client(config);
+        S3ClientFactory.release(reacquired);
+
+        // then
+        assertThat(reacquired).isSameAs(client);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (isLive(client) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(isLive(client)).isFalse();
+    }
+
+    private static boolean isLive(S3Client client) {
+        try {
+            S3ClientFactory.release(client);
+            throw new AssertionError("Released client should have no remaining references");
+        } catch (IllegalStateException e) {
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package org.websoso.s3.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryS3MetricsTest {
+
+    private static final S3MetricTags TAGS = new S3MetricTags("file", S3MetricTags.NO_DETECTION);
+
+    @DisplayName("소요 시간 백분위는 12.5% 오차 안에서 계산되고, 처리량은 전송 바이트를 작업 시간으로 나눈 값이다")
+    @Test
+    void snapshot_computesPercentilesAndThroughput() {
+        // given
+        InMemoryS3Metrics metrics = new InMemoryS3Metrics();
+        for (int millis = 1; millis <= 100; millis++) {
+            metrics.recordLatency(S3Operation.PUT, TAGS, millis * 1_000_000L);
+        }
+        metrics.recordBytes(S3Operation.PUT, TAGS, 5050L * 1000);
+
+        // when
+        S3OperationStats stats = metrics.snapshot(S3Operation.PUT, TAGS);
+
+        // then
+        assertThat(stats.count()).isEqualTo(100);
+        assertThat(stats.maxNanos()).isEqualTo(100_000_000L);
+        assertThat((double) stats.p50Nanos()).isCloseTo(50_000_000, within(50_000_000 * 0.125));
+        assertThat((double) stats.p99Nanos()).isCloseTo(99_000_000, within(99_000_000 * 0.125));
+        // 5,050,000 바이트 / 5.05초
+        assertThat(stats.bytesPerSecond()).isCloseTo(1_000_000, within(1.0));
+    }
+
+    @DisplayName("오류는 예외 타입별로, 진행 중인 작업 수는 시작과 종료의 차이로 집계하며, 기록이 없으면 0을 반환한다")
+    @Test
+    void snapshot_countsErrorsByTypeAndInFlight() {
+        // given
+        InMemoryS3Metrics metrics = new InMemoryS3Metrics();
+        metrics.recordError(S3Operation.DELETE, TAGS, new IllegalStateException());
+        metrics.recordError(S3Operation.DELETE, TAGS, new IllegalStateException());
+        metrics.recordError(S3Operation.DELETE, TAGS, new UncheckedIOException(new IOException()));
+        metrics.recordInFlight(S3Operation.DELETE, TAGS, 1);
+        metrics.recordInFlight(S3Operation.DELETE, TAGS, 1);
+        metrics.recordInFlight(S3Operation.DELETE, TAGS, -1);
+
+        // when
+        S3OperationStats stats = metrics.snapshot(S3Operation.DELETE, TAGS);
+        S3OperationStats empty = metrics.snapshot(S3Operation.PUT, TAGS);
+
+        // then
+        assertThat(stats.errorCount()).isEqualTo(3);
+        assertThat(stats.errorsByType())
+                .containsEntry(IllegalStateException.class.getName(), 2L)
+                .containsEntry(UncheckedIOException.class.getName(), 1L);
+        assertThat(stats.inFlight()).isEqualTo(1);
+        assertThat(empty.count()).isZero();
+        assertThat(metrics.snapshotAll()).containsOnlyKeys(S3Operation.DELETE);
+    }
+}